@@ -0,0 +1,117 @@
+package com.acadschedule.scheduler.cache;
+
+import com.acadschedule.scheduler.dto.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Read-through snapshot of one reference catalog. The whole list is loaded in
+ * one read-only transaction and shared as an unmodifiable list until the next
+ * invalidation. Catalogs larger than {@code maxEntries} are not kept, so the
+ * cache never holds more than that many rows per catalog.
+ */
+public class CatalogCache<T> {
+
+    // Versions restart at 1 on every boot; the start time keeps tags from repeating across restarts
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private static final class Snapshot<T> {
+        final long version;
+        final List<T> rows;
+
+        Snapshot(long version, List<T> rows) {
+            this.version = version;
+            this.rows = rows;
+        }
+    }
+
+    private final String name;
+    private final int maxEntries;
+    private final TransactionTemplate readOnlyTx;
+
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    CatalogCache(String name, int maxEntries, TransactionTemplate readOnlyTx) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.readOnlyTx = readOnlyTx;
+    }
+
+    // Cached rows, or rows from the loader (run in a read-only transaction) on a miss
+    public List<T> get(Supplier<List<T>> loader) {
+        Snapshot<T> current = snapshot.get();
+        if (current != null && current.version == version.get()) {
+            hits.incrementAndGet();
+            return current.rows;
+        }
+        misses.incrementAndGet();
+
+        // A concurrent invalidate bumps the version, so a stale load is never published
+        long loadedAt = version.get();
+        List<T> rows = List.copyOf(readOnlyTx.execute(status -> loader.get()));
+        if (rows.size() <= maxEntries && version.get() == loadedAt) {
+            snapshot.set(new Snapshot<>(loadedAt, rows));
+        }
+        return rows;
+    }
+
+    /**
+     * Drops the snapshot now and again after the surrounding transaction
+     * commits, so a reader that reloads between the write and the commit
+     * cannot keep the old rows.
+     */
+    public void invalidate() {
+        bump();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        }
+    }
+
+    // Changes on every invalidation; usable as a cheap validator for the catalog's content
+    public long version() {
+        return version.get();
+    }
+
+    // "<name>-<epoch>-<version>": equal tags mean equal rows
+    public String tag() {
+        return name + "-" + EPOCH + "-" + version.get();
+    }
+
+    // Strong ETag for responses built only from this catalog
+    public String etag() {
+        return "\"" + tag() + "\"";
+    }
+
+    public CacheStats stats() {
+        Snapshot<T> current = snapshot.get();
+        CacheStats stats = new CacheStats();
+        stats.setCatalog(name);
+        stats.setVersion(version.get());
+        stats.setCachedRows(current != null && current.version == version.get() ? current.rows.size() : 0);
+        stats.setMaxEntries(maxEntries);
+        stats.setHits(hits.get());
+        stats.setMisses(misses.get());
+        stats.setEvictions(evictions.get());
+        return stats;
+    }
+
+    private void bump() {
+        version.incrementAndGet();
+        if (snapshot.getAndSet(null) != null) evictions.incrementAndGet();
+    }
+}
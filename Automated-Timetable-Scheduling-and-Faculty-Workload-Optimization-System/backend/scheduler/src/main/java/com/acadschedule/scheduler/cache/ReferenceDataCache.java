@@ -0,0 +1,42 @@
+package com.acadschedule.scheduler.cache;
+
+import com.acadschedule.scheduler.dto.CacheStats;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Snapshots of the catalogs both frontends and the solver read all the time
+@Component
+public class ReferenceDataCache {
+
+    private final CatalogCache<Room> rooms;
+    private final CatalogCache<Faculty> faculty;
+    private final CatalogCache<Subject> subjects;
+    private final CatalogCache<Section> sections;
+
+    public ReferenceDataCache(PlatformTransactionManager transactionManager,
+                              @Value("${scheduler.cache.max-entries-per-catalog:20000}") int maxEntries) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        this.rooms = new CatalogCache<>("rooms", maxEntries, readOnly);
+        this.faculty = new CatalogCache<>("faculty", maxEntries, readOnly);
+        this.subjects = new CatalogCache<>("subjects", maxEntries, readOnly);
+        this.sections = new CatalogCache<>("sections", maxEntries, readOnly);
+    }
+
+    public CatalogCache<Room> rooms() { return rooms; }
+    public CatalogCache<Faculty> faculty() { return faculty; }
+    public CatalogCache<Subject> subjects() { return subjects; }
+    public CatalogCache<Section> sections() { return sections; }
+
+    public List<CacheStats> stats() {
+        return List.of(rooms.stats(), faculty.stats(), subjects.stats(), sections.stats());
+    }
+}
@@ -0,0 +1,51 @@
+package com.acadschedule.scheduler.config;
+
+import com.acadschedule.scheduler.cache.CatalogCache;
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
+import com.acadschedule.scheduler.service.AuditLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Meters over counters the caches and the audit writer already keep; read on each scrape
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder catalogCacheMetrics(ReferenceDataCache cache) {
+        return registry -> {
+            for (CatalogCache<?> catalog : List.of(cache.rooms(), cache.faculty(), cache.subjects(), cache.sections())) {
+                String name = catalog.stats().getCatalog();
+                FunctionCounter.builder("scheduler.cache.requests", catalog, c -> c.stats().getHits())
+                        .tag("catalog", name).tag("result", "hit").register(registry);
+                FunctionCounter.builder("scheduler.cache.requests", catalog, c -> c.stats().getMisses())
+                        .tag("catalog", name).tag("result", "miss").register(registry);
+                FunctionCounter.builder("scheduler.cache.evictions", catalog, c -> c.stats().getEvictions())
+                        .tag("catalog", name).register(registry);
+                Gauge.builder("scheduler.cache.rows", catalog, c -> c.stats().getCachedRows())
+                        .tag("catalog", name).register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder auditWriterMetrics(AuditLogWriter writer) {
+        return registry -> {
+            Gauge.builder("scheduler.audit.queue.depth", writer, w -> w.getStats().getQueueDepth())
+                    .register(registry);
+            Gauge.builder("scheduler.audit.queue.capacity", writer, w -> w.getStats().getQueueCapacity())
+                    .register(registry);
+            FunctionCounter.builder("scheduler.audit.rows", writer, w -> w.getStats().getWritten())
+                    .tag("result", "written").register(registry);
+            FunctionCounter.builder("scheduler.audit.rows", writer, w -> w.getStats().getFailed())
+                    .tag("result", "failed").register(registry);
+            // Rows the caller had to insert itself because the queue was full
+            FunctionCounter.builder("scheduler.audit.rows", writer, w -> w.getStats().getCallerWrites())
+                    .tag("result", "caller_write").register(registry);
+        };
+    }
+}
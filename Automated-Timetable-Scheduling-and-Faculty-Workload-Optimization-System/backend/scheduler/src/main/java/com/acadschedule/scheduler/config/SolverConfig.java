@@ -0,0 +1,37 @@
+package com.acadschedule.scheduler.config;
+
+import com.acadschedule.scheduler.engine.ParallelTimetableGenerator;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.engine.WorkloadOptimizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class SolverConfig {
+
+    @Bean
+    public TimetableSolver timetableSolver(@Value("${scheduler.solver.max-backtracks-per-session:50}") int maxBacktracks) {
+        return new TimetableSolver(maxBacktracks);
+    }
+
+    // Dedicated pool so solves never compete with the common pool used by parallel streams
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool solverPool(@Value("${scheduler.solver.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public ParallelTimetableGenerator parallelTimetableGenerator(ForkJoinPool solverPool, TimetableSolver timetableSolver) {
+        return new ParallelTimetableGenerator(solverPool, timetableSolver);
+    }
+
+    // Default search time after each generation; 0 keeps the solver's first timetable
+    @Bean
+    public WorkloadOptimizer workloadOptimizer(@Value("${scheduler.optimizer.budget-ms:2000}") long budgetMillis,
+                                               @Value("${scheduler.optimizer.seed:42}") long seed) {
+        return new WorkloadOptimizer(budgetMillis, seed);
+    }
+}
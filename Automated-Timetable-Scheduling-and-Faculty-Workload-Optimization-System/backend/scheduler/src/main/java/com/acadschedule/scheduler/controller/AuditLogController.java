@@ -0,0 +1,46 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.AuditLogPage;
+import com.acadschedule.scheduler.dto.AuditWriterStats;
+import com.acadschedule.scheduler.entity.AuditLog;
+import com.acadschedule.scheduler.service.AuditLogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    public AuditLogController(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    // Newest logs only, capped like a page; use /page to go further back
+    @GetMapping
+    public List<AuditLog> getLatestLogs(@RequestParam(defaultValue = "50") int limit) {
+        return auditLogService.getLatestLogs(limit);
+    }
+
+    // Keyset-paginated, filtered logs; pass nextCursor back as "before" for the next page
+    @GetMapping("/page")
+    public AuditLogPage getLogPage(@RequestParam(required = false) Long before,
+                                   @RequestParam(required = false) String entityType,
+                                   @RequestParam(required = false) String actionType,
+                                   @RequestParam(required = false) String userEmail,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                   @RequestParam(defaultValue = "50") int limit) {
+        return auditLogService.getLogPage(before, entityType, actionType, userEmail, from, to, limit);
+    }
+
+    // Queue depth, batch and backpressure counters of the async writer
+    @GetMapping("/writer-stats")
+    public AuditWriterStats getWriterStats() {
+        return auditLogService.getWriterStats();
+    }
+}
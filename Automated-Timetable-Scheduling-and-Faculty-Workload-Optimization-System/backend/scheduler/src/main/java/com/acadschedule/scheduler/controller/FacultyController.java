@@ -0,0 +1,79 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.FacultyWeek;
+import com.acadschedule.scheduler.dto.ImportReport;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.service.CatalogImportService;
+import com.acadschedule.scheduler.service.FacultyCalendarService;
+import com.acadschedule.scheduler.service.FacultyService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/faculty")
+public class FacultyController {
+
+    private final FacultyService facultyService;
+    private final CatalogImportService importService;
+    private final FacultyCalendarService calendarService;
+
+    public FacultyController(FacultyService facultyService, CatalogImportService importService,
+                             FacultyCalendarService calendarService) {
+        this.facultyService = facultyService;
+        this.importService = importService;
+        this.calendarService = calendarService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Faculty>> getAllFaculty(WebRequest request) {
+        String etag = facultyService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(facultyService.getAllFaculty());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Faculty> getFaculty(@PathVariable Long id, WebRequest request) {
+        String etag = facultyService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(facultyService.getFacultyDetails(id));
+    }
+
+    // Free, blocked, avoided and teaching slots plus leave days for the week containing the given date
+    @GetMapping("/{id}/availability")
+    public FacultyWeek getAvailability(@PathVariable Long id,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week) {
+        return calendarService.getFacultyWeek(id, week);
+    }
+
+    @PostMapping
+    public Faculty createFaculty(@RequestBody Faculty faculty) {
+        return facultyService.createFaculty(faculty);
+    }
+
+    @PutMapping("/{id}")
+    public Faculty updateFaculty(@PathVariable Long id, @RequestBody Faculty facultyDetails) {
+        return facultyService.updateFaculty(id, facultyDetails);
+    }
+
+    @DeleteMapping("/{id}")
+    public void deleteFaculty(@PathVariable Long id) {
+        facultyService.deleteFaculty(id);
+    }
+
+    // BULK upsert by employeeId from a JSON array or CSV (header of field names, ';' between list values)
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, "text/csv" })
+    public ResponseEntity<ImportReport> bulkImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                   InputStream body) {
+        ImportReport report = importService.importFaculty(body, contentType.startsWith("text/csv"));
+        return report.isCommitted() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
@@ -0,0 +1,70 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.GenerationJobStatus;
+import com.acadschedule.scheduler.service.GenerationJobService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/timetable/jobs")
+public class GenerationJobController {
+
+    private final GenerationJobService jobService;
+
+    public GenerationJobController(GenerationJobService jobService) {
+        this.jobService = jobService;
+    }
+
+    // SUBMIT regeneration of every section; 503 when the job queue is full
+    @PostMapping("/generate-all")
+    public ResponseEntity<GenerationJobStatus> generateAll(@RequestParam(required = false) Long optimizeMillis,
+                                                           @RequestParam(defaultValue = "true") boolean publish) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.submitAll(optimizeMillis, publish));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // SUBMIT regeneration of one section
+    @PostMapping("/generate/{sectionId}")
+    public ResponseEntity<GenerationJobStatus> generate(@PathVariable Long sectionId,
+                                                        @RequestParam(required = false) Long optimizeMillis,
+                                                        @RequestParam(defaultValue = "true") boolean publish) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.submitSection(sectionId, optimizeMillis, publish));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // GET recent jobs, oldest first
+    @GetMapping
+    public List<GenerationJobStatus> getJobs() {
+        return jobService.getJobs();
+    }
+
+    // GET one job's status
+    @GetMapping("/{id}")
+    public GenerationJobStatus getJob(@PathVariable String id) {
+        return jobService.getJob(id);
+    }
+
+    // STREAM progress as server-sent events
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String id) {
+        return jobService.subscribe(id);
+    }
+
+    // CANCEL a queued or running job
+    @DeleteMapping("/{id}")
+    public GenerationJobStatus cancel(@PathVariable String id) {
+        return jobService.cancel(id);
+    }
+}
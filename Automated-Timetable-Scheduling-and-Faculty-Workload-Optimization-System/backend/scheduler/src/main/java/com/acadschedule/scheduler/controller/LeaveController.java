@@ -1,10 +1,18 @@
 package com.acadschedule.scheduler.controller;
 
+import com.acadschedule.scheduler.dto.RepairReport;
+import com.acadschedule.scheduler.engine.LeaveIndex;
+import com.acadschedule.scheduler.entity.Faculty;
 import com.acadschedule.scheduler.entity.LeaveRequest;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.service.LeaveAvailabilityService;
 import com.acadschedule.scheduler.service.LeaveService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -12,9 +20,11 @@ import java.util.List;
 public class LeaveController {
 
     private final LeaveService leaveService;
+    private final LeaveAvailabilityService availabilityService;
 
-    public LeaveController(LeaveService leaveService) {
+    public LeaveController(LeaveService leaveService, LeaveAvailabilityService availabilityService) {
         this.leaveService = leaveService;
+        this.availabilityService = availabilityService;
     }
 
     // GET all leave requests (for Admin)
@@ -29,6 +39,28 @@ public class LeaveController {
         return leaveService.getRequestsByFaculty(facultyId);
     }
 
+    // GET approved leaves overlapping [from, to]; to defaults to from
+    @GetMapping("/on-leave")
+    public List<LeaveIndex.Leave> getOnLeave(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityService.getOnLeave(from, to != null ? to : from);
+    }
+
+    // GET active faculty with no approved leave in [from, to]
+    @GetMapping("/available-faculty")
+    public List<Faculty> getAvailableFaculty(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityService.getAvailableFaculty(from, to != null ? to : from);
+    }
+
+    // GET whether one faculty member is free for the whole of [from, to]
+    @GetMapping("/faculty/{facultyId}/available")
+    public boolean isAvailable(@PathVariable Long facultyId,
+                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityService.isAvailable(facultyId, from, to != null ? to : from);
+    }
+
     // CREATE new leave request
     @PostMapping
     public LeaveRequest createRequest(@RequestBody LeaveRequest request) {
@@ -41,6 +73,22 @@ public class LeaveController {
         return ResponseEntity.ok(leaveService.updateStatus(id, status));
     }
 
+    // Re-run the timetable repair for an approved leave; 409 for any other status
+    @PostMapping("/{id}/repair")
+    public ResponseEntity<RepairReport> repairTimetable(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(leaveService.repairTimetable(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // GET the published timetable rows this leave's repairs changed
+    @GetMapping("/{id}/adjustments")
+    public List<TimetableEntry> getAdjustedEntries(@PathVariable Long id) {
+        return leaveService.getAdjustedEntries(id);
+    }
+
     // DELETE request
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRequest(@PathVariable Long id) {
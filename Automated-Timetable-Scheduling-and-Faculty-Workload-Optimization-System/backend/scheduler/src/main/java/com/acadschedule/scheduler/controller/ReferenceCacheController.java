@@ -0,0 +1,24 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
+import com.acadschedule.scheduler.dto.CacheStats;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reference-cache")
+public class ReferenceCacheController {
+
+    private final ReferenceDataCache cache;
+
+    public ReferenceCacheController(ReferenceDataCache cache) {
+        this.cache = cache;
+    }
+
+    // Hit/miss counters and current version of each cached catalog
+    @GetMapping("/stats")
+    public List<CacheStats> getStats() {
+        return cache.stats();
+    }
+}
@@ -1,8 +1,16 @@
 package com.acadschedule.scheduler.controller;
 
+import com.acadschedule.scheduler.dto.ImportReport;
 import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.service.CatalogImportService;
 import com.acadschedule.scheduler.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -10,14 +18,18 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final CatalogImportService importService;
 
-    public RoomController(RoomService roomService) {
+    public RoomController(RoomService roomService, CatalogImportService importService) {
         this.roomService = roomService;
+        this.importService = importService;
     }
 
     @GetMapping
-    public List<Room> getAllRooms() {
-        return roomService.findAll();
+    public ResponseEntity<List<Room>> getAllRooms(WebRequest request) {
+        String etag = roomService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(roomService.findAll());
     }
 
     @PostMapping
@@ -45,4 +57,12 @@ public class RoomController {
     public void deleteRoom(@PathVariable Long id) {
         roomService.deleteById(id);
     }
-}
\ No newline at end of file
+
+    // BULK upsert by code from a JSON array or CSV (header of field names, ';' between list values)
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, "text/csv" })
+    public ResponseEntity<ImportReport> bulkImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                   InputStream body) {
+        ImportReport report = importService.importRooms(body, contentType.startsWith("text/csv"));
+        return report.isCommitted() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
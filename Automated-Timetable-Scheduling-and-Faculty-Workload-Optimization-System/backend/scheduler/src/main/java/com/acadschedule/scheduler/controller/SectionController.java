@@ -0,0 +1,67 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.ImportReport;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.service.CatalogImportService;
+import com.acadschedule.scheduler.service.SectionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sections")
+public class SectionController {
+
+    private final SectionService sectionService;
+    private final CatalogImportService importService;
+
+    public SectionController(SectionService sectionService, CatalogImportService importService) {
+        this.sectionService = sectionService;
+        this.importService = importService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Section>> getAllSections(WebRequest request) {
+        String etag = sectionService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(sectionService.getAllSections());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Section> getSection(@PathVariable Long id, WebRequest request) {
+        String etag = sectionService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return sectionService.getSectionById(id)
+                .map(section -> ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(section))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public Section createSection(@RequestBody Section section) {
+        return sectionService.createSection(section);
+    }
+
+    @PutMapping("/{id}")
+    public Section updateSection(@PathVariable Long id, @RequestBody Section details) {
+        return sectionService.updateSection(id, details);
+    }
+
+    @DeleteMapping("/{id}")
+    public void deleteSection(@PathVariable Long id) {
+        sectionService.deleteSection(id);
+    }
+
+    // BULK upsert by name from a JSON array or CSV (header of field names, ';' between list values)
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, "text/csv" })
+    public ResponseEntity<ImportReport> bulkImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                   InputStream body) {
+        ImportReport report = importService.importSections(body, contentType.startsWith("text/csv"));
+        return report.isCommitted() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
@@ -0,0 +1,58 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.ImportReport;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.service.CatalogImportService;
+import com.acadschedule.scheduler.service.SubjectService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/subjects")
+public class SubjectController {
+
+    private final SubjectService subjectService;
+    private final CatalogImportService importService;
+
+    public SubjectController(SubjectService subjectService, CatalogImportService importService) {
+        this.subjectService = subjectService;
+        this.importService = importService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Subject>> getAllSubjects(WebRequest request) {
+        String etag = subjectService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(subjectService.getAllSubjects());
+    }
+
+    @PostMapping
+    public Subject createSubject(@RequestBody Subject subject) {
+        return subjectService.createSubject(subject);
+    }
+
+    @PutMapping("/{id}")
+    public Subject updateSubject(@PathVariable Long id, @RequestBody Subject subjectDetails) {
+        return subjectService.updateSubject(id, subjectDetails);
+    }
+
+    @DeleteMapping("/{id}")
+    public void deleteSubject(@PathVariable Long id) {
+        subjectService.deleteSubject(id);
+    }
+
+    // BULK upsert by code from a JSON array or CSV (header of field names, ';' between list values)
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, "text/csv" })
+    public ResponseEntity<ImportReport> bulkImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                   InputStream body) {
+        ImportReport report = importService.importSubjects(body, contentType.startsWith("text/csv"));
+        return report.isCommitted() ? ResponseEntity.ok(report) : ResponseEntity.badRequest().body(report);
+    }
+}
@@ -0,0 +1,138 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.dto.ConflictDelta;
+import com.acadschedule.scheduler.dto.ConflictSnapshot;
+import com.acadschedule.scheduler.dto.FacultySchedule;
+import com.acadschedule.scheduler.dto.RoomSchedule;
+import com.acadschedule.scheduler.dto.SimulationReport;
+import com.acadschedule.scheduler.dto.SimulationRequest;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.service.PublishedTimetable;
+import com.acadschedule.scheduler.service.ScheduleViewService;
+import com.acadschedule.scheduler.service.SimulationService;
+import com.acadschedule.scheduler.service.TimetableConflictService;
+import com.acadschedule.scheduler.service.TimetableExportService;
+import com.acadschedule.scheduler.service.TimetableVersionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/timetable")
+public class TimetableController {
+
+    private final TimetableConflictService conflictService;
+    private final TimetableExportService exportService;
+    private final TimetableVersionService versionService;
+    private final ScheduleViewService viewService;
+    private final SimulationService simulationService;
+
+    public TimetableController(TimetableConflictService conflictService,
+                               TimetableExportService exportService,
+                               TimetableVersionService versionService,
+                               ScheduleViewService viewService,
+                               SimulationService simulationService) {
+        this.conflictService = conflictService;
+        this.exportService = exportService;
+        this.versionService = versionService;
+        this.viewService = viewService;
+        this.simulationService = simulationService;
+    }
+
+    // GET all published entries (admin overview); 304 while the published version is unchanged
+    @GetMapping
+    public ResponseEntity<List<TimetableEntry>> getAllEntries(WebRequest request) {
+        PublishedTimetable published = versionService.getPublished();
+        if (request.checkNotModified(published.getETag())) return null;
+        return revalidated(published).body(published.getEntries());
+    }
+
+    // GET the published version in the compact binary snapshot format
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> getSnapshot(WebRequest request) {
+        PublishedTimetable published = versionService.getPublished();
+        if (request.checkNotModified(published.getETag())) return null;
+        ByteBuffer bytes = published.getSnapshot().bytes();
+        return revalidated(published)
+                .contentLength(bytes.remaining())
+                .body(out -> {
+                    WritableByteChannel channel = Channels.newChannel(out);
+                    while (bytes.hasRemaining()) channel.write(bytes);
+                });
+    }
+
+    // EXPORT a version (default: published) as NDJSON (default) or CSV, streamed row by row
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) String sectionId,
+                                                        @RequestParam(required = false) Long versionId) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        Long version = versionId != null ? versionId : versionService.getPublished().getVersionId();
+        StreamingResponseBody body = csv
+                ? out -> exportService.exportCsv(version, sectionId, out)
+                : out -> exportService.exportNdjson(version, sectionId, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"timetable." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    // GET all open conflicts with the sequence they are current as of
+    @GetMapping("/conflicts")
+    public ConflictSnapshot getConflicts() {
+        return conflictService.getSnapshot();
+    }
+
+    // GET conflict changes after a sequence; resync=true means reload the snapshot
+    @GetMapping("/conflicts/changes")
+    public ConflictDelta getConflictChanges(@RequestParam(defaultValue = "0") long since) {
+        return conflictService.getChangesSince(since);
+    }
+
+    // GET one faculty member's published week with hour totals
+    @GetMapping("/faculty/{facultyId}")
+    public ResponseEntity<FacultySchedule> getFacultySchedule(@PathVariable Long facultyId, WebRequest request) {
+        String etag = viewService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                .body(viewService.getFacultySchedule(facultyId));
+    }
+
+    // GET one room's published week with occupancy totals
+    @GetMapping("/room/{roomId}")
+    public ResponseEntity<RoomSchedule> getRoomSchedule(@PathVariable Long roomId, WebRequest request) {
+        String etag = viewService.getETag();
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                .body(viewService.getRoomSchedule(roomId));
+    }
+
+    // GET one section's published timetable
+    @GetMapping("/{sectionId}")
+    public ResponseEntity<List<TimetableEntry>> getSectionTimetable(@PathVariable String sectionId, WebRequest request) {
+        PublishedTimetable published = versionService.getPublished();
+        if (request.checkNotModified(published.getETag())) return null;
+        return revalidated(published).body(published.getSection(sectionId));
+    }
+
+    // DRY RUN hypothetical faculty, room, constraint and leave edits against the published version; nothing is saved
+    @PostMapping("/simulate")
+    public ResponseEntity<SimulationReport> simulate(@RequestBody SimulationRequest request) {
+        return ResponseEntity.ok(simulationService.simulate(request));
+    }
+
+    // Browsers keep the body but must revalidate it, which costs a 304 until the next publish
+    private static ResponseEntity.BodyBuilder revalidated(PublishedTimetable published) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(published.getETag());
+    }
+}
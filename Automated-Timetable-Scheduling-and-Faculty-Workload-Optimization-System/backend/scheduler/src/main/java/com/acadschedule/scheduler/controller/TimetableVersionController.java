@@ -0,0 +1,53 @@
+package com.acadschedule.scheduler.controller;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.entity.TimetableVersion;
+import com.acadschedule.scheduler.service.TimetableVersionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/timetable/versions")
+public class TimetableVersionController {
+
+    private final TimetableVersionService versionService;
+
+    public TimetableVersionController(TimetableVersionService versionService) {
+        this.versionService = versionService;
+    }
+
+    // GET all versions, newest first
+    @GetMapping
+    public List<TimetableVersion> getVersions() {
+        return versionService.getVersions();
+    }
+
+    // GET one version
+    @GetMapping("/{id}")
+    public TimetableVersion getVersion(@PathVariable Long id) {
+        return versionService.getVersion(id);
+    }
+
+    // GET a version's entries, e.g. to preview a draft before publishing; optionally one section, faculty or room
+    @GetMapping("/{id}/entries")
+    public List<TimetableEntry> getEntries(@PathVariable Long id,
+                                           @RequestParam(required = false) String sectionId,
+                                           @RequestParam(required = false) Long facultyId,
+                                           @RequestParam(required = false) Long roomId) {
+        return versionService.getEntries(id, sectionId, facultyId, roomId);
+    }
+
+    // PUBLISH a draft (or re-publish an archived version); readers switch once it commits.
+    // 409 when the draft was built on a version that is no longer the published one
+    @PostMapping("/{id}/publish")
+    public ResponseEntity<TimetableVersion> publish(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(versionService.publish(id));
+        } catch (TimetableVersionService.StaleVersionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.acadschedule.scheduler.dto;
+
+import com.acadschedule.scheduler.entity.AuditLog;
+
+import java.util.List;
+
+public class AuditLogPage {
+
+    private List<AuditLog> items;
+    private Long nextCursor; // pass as "before" to get the next page; null on the last page
+    private boolean hasMore;
+
+    // getters and setters
+
+    public List<AuditLog> getItems() {
+        return items;
+    }
+
+    public void setItems(List<AuditLog> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
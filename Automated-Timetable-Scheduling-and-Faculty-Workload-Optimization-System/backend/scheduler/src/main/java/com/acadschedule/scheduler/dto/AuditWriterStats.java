@@ -0,0 +1,79 @@
+package com.acadschedule.scheduler.dto;
+
+public class AuditWriterStats {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private int peakQueueDepth;
+    private long enqueued;
+    private long written;
+    private long batches;
+    private long callerWrites; // rows written on the caller's thread because the queue was full
+    private long failed; // rows that failed to insert even on their own; each is logged
+
+    // getters and setters
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public void setPeakQueueDepth(int peakQueueDepth) {
+        this.peakQueueDepth = peakQueueDepth;
+    }
+
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    public void setEnqueued(long enqueued) {
+        this.enqueued = enqueued;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public void setWritten(long written) {
+        this.written = written;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public void setBatches(long batches) {
+        this.batches = batches;
+    }
+
+    public long getCallerWrites() {
+        return callerWrites;
+    }
+
+    public void setCallerWrites(long callerWrites) {
+        this.callerWrites = callerWrites;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,153 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.List;
+
+public class BulkGenerationReport {
+
+    private int sections;
+    private int placedSessions;
+    private int unplacedSessions;
+    private int entriesCreated;
+    private Long versionId;
+    private Integer versionNumber;
+    private boolean published;
+    private int roomReassignments;
+    private int reconciledSessions;
+    private double parallelMillis;
+    private double mergeMillis;
+    private double wallClockMillis;
+    private long initialScore;
+    private long optimizedScore;
+    private long optimizerIterations;
+    private List<PartitionReport> partitions;
+
+    // getters and setters
+
+    public int getSections() {
+        return sections;
+    }
+
+    public void setSections(int sections) {
+        this.sections = sections;
+    }
+
+    public int getPlacedSessions() {
+        return placedSessions;
+    }
+
+    public void setPlacedSessions(int placedSessions) {
+        this.placedSessions = placedSessions;
+    }
+
+    public int getUnplacedSessions() {
+        return unplacedSessions;
+    }
+
+    public void setUnplacedSessions(int unplacedSessions) {
+        this.unplacedSessions = unplacedSessions;
+    }
+
+    public int getEntriesCreated() {
+        return entriesCreated;
+    }
+
+    public void setEntriesCreated(int entriesCreated) {
+        this.entriesCreated = entriesCreated;
+    }
+
+    public int getRoomReassignments() {
+        return roomReassignments;
+    }
+
+    public void setRoomReassignments(int roomReassignments) {
+        this.roomReassignments = roomReassignments;
+    }
+
+    public int getReconciledSessions() {
+        return reconciledSessions;
+    }
+
+    public void setReconciledSessions(int reconciledSessions) {
+        this.reconciledSessions = reconciledSessions;
+    }
+
+    public double getParallelMillis() {
+        return parallelMillis;
+    }
+
+    public void setParallelMillis(double parallelMillis) {
+        this.parallelMillis = parallelMillis;
+    }
+
+    public double getMergeMillis() {
+        return mergeMillis;
+    }
+
+    public void setMergeMillis(double mergeMillis) {
+        this.mergeMillis = mergeMillis;
+    }
+
+    public double getWallClockMillis() {
+        return wallClockMillis;
+    }
+
+    public void setWallClockMillis(double wallClockMillis) {
+        this.wallClockMillis = wallClockMillis;
+    }
+
+    public List<PartitionReport> getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(List<PartitionReport> partitions) {
+        this.partitions = partitions;
+    }
+
+    public long getInitialScore() {
+        return initialScore;
+    }
+
+    public void setInitialScore(long initialScore) {
+        this.initialScore = initialScore;
+    }
+
+    public long getOptimizedScore() {
+        return optimizedScore;
+    }
+
+    public void setOptimizedScore(long optimizedScore) {
+        this.optimizedScore = optimizedScore;
+    }
+
+    public long getOptimizerIterations() {
+        return optimizerIterations;
+    }
+
+    public void setOptimizerIterations(long optimizerIterations) {
+        this.optimizerIterations = optimizerIterations;
+    }
+
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+}
@@ -0,0 +1,70 @@
+package com.acadschedule.scheduler.dto;
+
+public class CacheStats {
+
+    private String catalog;
+    private long version;
+    private int cachedRows;
+    private int maxEntries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // getters and setters
+
+    public String getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(String catalog) {
+        this.catalog = catalog;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getCachedRows() {
+        return cachedRows;
+    }
+
+    public void setCachedRows(int cachedRows) {
+        this.cachedRows = cachedRows;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+}
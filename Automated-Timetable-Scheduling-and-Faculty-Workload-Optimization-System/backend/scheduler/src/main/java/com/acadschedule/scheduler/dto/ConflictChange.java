@@ -0,0 +1,34 @@
+package com.acadschedule.scheduler.dto;
+
+public class ConflictChange {
+
+    private long sequence;
+    private String change; // OPENED, UPDATED, RESOLVED
+    private ConflictReport conflict;
+
+    // getters and setters
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getChange() {
+        return change;
+    }
+
+    public void setChange(String change) {
+        this.change = change;
+    }
+
+    public ConflictReport getConflict() {
+        return conflict;
+    }
+
+    public void setConflict(ConflictReport conflict) {
+        this.conflict = conflict;
+    }
+}
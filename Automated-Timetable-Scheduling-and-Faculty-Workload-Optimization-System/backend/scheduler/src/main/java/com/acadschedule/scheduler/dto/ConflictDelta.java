@@ -0,0 +1,45 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.List;
+
+public class ConflictDelta {
+
+    private long since;
+    private long sequence;
+    private boolean resync; // true = the requested range is gone, reload the snapshot
+    private List<ConflictChange> changes;
+
+    // getters and setters
+
+    public long getSince() {
+        return since;
+    }
+
+    public void setSince(long since) {
+        this.since = since;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+
+    public void setResync(boolean resync) {
+        this.resync = resync;
+    }
+
+    public List<ConflictChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ConflictChange> changes) {
+        this.changes = changes;
+    }
+}
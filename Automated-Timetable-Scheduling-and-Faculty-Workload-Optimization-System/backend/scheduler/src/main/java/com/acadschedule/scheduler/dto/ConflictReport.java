@@ -0,0 +1,73 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.List;
+
+// Mirrors ConflictReport in frontend-admin/src/types/timetable.ts
+public class ConflictReport {
+
+    private String id;
+    private String sessionId;
+    private String type; // faculty_overlap, room_overlap, section_overlap, constraint_violation
+    private String severity; // error, warning
+    private String description;
+    private List<String> affectedEntities;
+    private String suggestedResolution;
+
+    // getters and setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getSeverity() {
+        return severity;
+    }
+
+    public void setSeverity(String severity) {
+        this.severity = severity;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<String> getAffectedEntities() {
+        return affectedEntities;
+    }
+
+    public void setAffectedEntities(List<String> affectedEntities) {
+        this.affectedEntities = affectedEntities;
+    }
+
+    public String getSuggestedResolution() {
+        return suggestedResolution;
+    }
+
+    public void setSuggestedResolution(String suggestedResolution) {
+        this.suggestedResolution = suggestedResolution;
+    }
+}
@@ -0,0 +1,27 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.List;
+
+public class ConflictSnapshot {
+
+    private long sequence;
+    private List<ConflictReport> conflicts;
+
+    // getters and setters
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<ConflictReport> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<ConflictReport> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
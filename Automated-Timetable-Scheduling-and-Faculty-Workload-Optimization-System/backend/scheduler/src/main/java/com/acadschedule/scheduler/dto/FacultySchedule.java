@@ -0,0 +1,84 @@
+package com.acadschedule.scheduler.dto;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.List;
+import java.util.Map;
+
+public class FacultySchedule {
+
+    private Long facultyId;
+    private String facultyName;
+    private Long versionId;
+    private Integer versionNumber;
+    private int weeklyHours;
+    private int maxHoursPerWeek;
+    private Map<String, Integer> hoursByDay;
+    private List<TimetableEntry> entries;
+
+    // getters and setters
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public String getFacultyName() {
+        return facultyName;
+    }
+
+    public void setFacultyName(String facultyName) {
+        this.facultyName = facultyName;
+    }
+
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public int getWeeklyHours() {
+        return weeklyHours;
+    }
+
+    public void setWeeklyHours(int weeklyHours) {
+        this.weeklyHours = weeklyHours;
+    }
+
+    public int getMaxHoursPerWeek() {
+        return maxHoursPerWeek;
+    }
+
+    public void setMaxHoursPerWeek(int maxHoursPerWeek) {
+        this.maxHoursPerWeek = maxHoursPerWeek;
+    }
+
+    public Map<String, Integer> getHoursByDay() {
+        return hoursByDay;
+    }
+
+    public void setHoursByDay(Map<String, Integer> hoursByDay) {
+        this.hoursByDay = hoursByDay;
+    }
+
+    public List<TimetableEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TimetableEntry> entries) {
+        this.entries = entries;
+    }
+}
@@ -0,0 +1,84 @@
+package com.acadschedule.scheduler.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public class FacultyWeek {
+
+    private Long facultyId;
+    private String facultyName;
+    private LocalDate weekStart;
+    // Day name -> slot labels
+    private Map<String, List<String>> free;
+    private Map<String, List<String>> blocked;
+    private Map<String, List<String>> avoided;
+    private Map<String, List<String>> teaching;
+    private List<String> leaveDays;
+
+    // getters and setters
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public String getFacultyName() {
+        return facultyName;
+    }
+
+    public void setFacultyName(String facultyName) {
+        this.facultyName = facultyName;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Map<String, List<String>> getFree() {
+        return free;
+    }
+
+    public void setFree(Map<String, List<String>> free) {
+        this.free = free;
+    }
+
+    public Map<String, List<String>> getBlocked() {
+        return blocked;
+    }
+
+    public void setBlocked(Map<String, List<String>> blocked) {
+        this.blocked = blocked;
+    }
+
+    public Map<String, List<String>> getAvoided() {
+        return avoided;
+    }
+
+    public void setAvoided(Map<String, List<String>> avoided) {
+        this.avoided = avoided;
+    }
+
+    public Map<String, List<String>> getTeaching() {
+        return teaching;
+    }
+
+    public void setTeaching(Map<String, List<String>> teaching) {
+        this.teaching = teaching;
+    }
+
+    public List<String> getLeaveDays() {
+        return leaveDays;
+    }
+
+    public void setLeaveDays(List<String> leaveDays) {
+        this.leaveDays = leaveDays;
+    }
+}
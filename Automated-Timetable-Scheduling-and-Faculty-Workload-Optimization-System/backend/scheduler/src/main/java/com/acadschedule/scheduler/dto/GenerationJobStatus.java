@@ -0,0 +1,135 @@
+package com.acadschedule.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public class GenerationJobStatus {
+
+    private String id;
+    private String type;
+    private Long sectionId;
+    private String state;
+    private int sectionsTotal;
+    private int sectionsPlaced;
+    private long currentScore;
+    private long bestScore;
+    private long iterations;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private Object result;
+
+    // getters and setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(Long sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public int getSectionsTotal() {
+        return sectionsTotal;
+    }
+
+    public void setSectionsTotal(int sectionsTotal) {
+        this.sectionsTotal = sectionsTotal;
+    }
+
+    public int getSectionsPlaced() {
+        return sectionsPlaced;
+    }
+
+    public void setSectionsPlaced(int sectionsPlaced) {
+        this.sectionsPlaced = sectionsPlaced;
+    }
+
+    public long getCurrentScore() {
+        return currentScore;
+    }
+
+    public void setCurrentScore(long currentScore) {
+        this.currentScore = currentScore;
+    }
+
+    public long getBestScore() {
+        return bestScore;
+    }
+
+    public void setBestScore(long bestScore) {
+        this.bestScore = bestScore;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(long iterations) {
+        this.iterations = iterations;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+    }
+}
@@ -0,0 +1,124 @@
+package com.acadschedule.scheduler.dto;
+
+public class GenerationReport {
+
+    private Long sectionId;
+    private int placedSessions;
+    private int unplacedSessions;
+    private int entriesCreated;
+    private Long versionId;
+    private Integer versionNumber;
+    private boolean published;
+    private long backtracks;
+    private double solveMillis;
+    private int softPenalty;
+    private long initialScore;
+    private long optimizedScore;
+    private long optimizerIterations;
+
+    // getters and setters
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(Long sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public int getPlacedSessions() {
+        return placedSessions;
+    }
+
+    public void setPlacedSessions(int placedSessions) {
+        this.placedSessions = placedSessions;
+    }
+
+    public int getUnplacedSessions() {
+        return unplacedSessions;
+    }
+
+    public void setUnplacedSessions(int unplacedSessions) {
+        this.unplacedSessions = unplacedSessions;
+    }
+
+    public int getEntriesCreated() {
+        return entriesCreated;
+    }
+
+    public void setEntriesCreated(int entriesCreated) {
+        this.entriesCreated = entriesCreated;
+    }
+
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    public void setBacktracks(long backtracks) {
+        this.backtracks = backtracks;
+    }
+
+    public double getSolveMillis() {
+        return solveMillis;
+    }
+
+    public void setSolveMillis(double solveMillis) {
+        this.solveMillis = solveMillis;
+    }
+
+    public int getSoftPenalty() {
+        return softPenalty;
+    }
+
+    public void setSoftPenalty(int softPenalty) {
+        this.softPenalty = softPenalty;
+    }
+
+    public long getInitialScore() {
+        return initialScore;
+    }
+
+    public void setInitialScore(long initialScore) {
+        this.initialScore = initialScore;
+    }
+
+    public long getOptimizedScore() {
+        return optimizedScore;
+    }
+
+    public void setOptimizedScore(long optimizedScore) {
+        this.optimizedScore = optimizedScore;
+    }
+
+    public long getOptimizerIterations() {
+        return optimizerIterations;
+    }
+
+    public void setOptimizerIterations(long optimizerIterations) {
+        this.optimizerIterations = optimizerIterations;
+    }
+
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+}
@@ -0,0 +1,54 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.List;
+
+public class PartitionReport {
+
+    private List<Long> sectionIds;
+    private int sessions;
+    private int placedSessions;
+    private long backtracks;
+    private double solveMillis;
+
+    // getters and setters
+
+    public List<Long> getSectionIds() {
+        return sectionIds;
+    }
+
+    public void setSectionIds(List<Long> sectionIds) {
+        this.sectionIds = sectionIds;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(int sessions) {
+        this.sessions = sessions;
+    }
+
+    public int getPlacedSessions() {
+        return placedSessions;
+    }
+
+    public void setPlacedSessions(int placedSessions) {
+        this.placedSessions = placedSessions;
+    }
+
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    public void setBacktracks(long backtracks) {
+        this.backtracks = backtracks;
+    }
+
+    public double getSolveMillis() {
+        return solveMillis;
+    }
+
+    public void setSolveMillis(double solveMillis) {
+        this.solveMillis = solveMillis;
+    }
+}
@@ -0,0 +1,115 @@
+package com.acadschedule.scheduler.dto;
+
+public class RepairChange {
+
+    private Long entryId;
+    private String sectionId;
+    private String subjectCode;
+    private String action; // SUBSTITUTED, RELOCATED, UNRESOLVED; undo RESTORED, TRANSFERRED, KEPT; simulations also RESCHEDULED, UNPLACED
+    private String fromDay;
+    private String fromTimeSlot;
+    private String toDay;
+    private String toTimeSlot;
+    private String fromFaculty;
+    private String toFaculty;
+    private String fromRoom;
+    private String toRoom;
+
+    // getters and setters
+
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public String getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(String sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public String getSubjectCode() {
+        return subjectCode;
+    }
+
+    public void setSubjectCode(String subjectCode) {
+        this.subjectCode = subjectCode;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getFromDay() {
+        return fromDay;
+    }
+
+    public void setFromDay(String fromDay) {
+        this.fromDay = fromDay;
+    }
+
+    public String getFromTimeSlot() {
+        return fromTimeSlot;
+    }
+
+    public void setFromTimeSlot(String fromTimeSlot) {
+        this.fromTimeSlot = fromTimeSlot;
+    }
+
+    public String getToDay() {
+        return toDay;
+    }
+
+    public void setToDay(String toDay) {
+        this.toDay = toDay;
+    }
+
+    public String getToTimeSlot() {
+        return toTimeSlot;
+    }
+
+    public void setToTimeSlot(String toTimeSlot) {
+        this.toTimeSlot = toTimeSlot;
+    }
+
+    public String getFromFaculty() {
+        return fromFaculty;
+    }
+
+    public void setFromFaculty(String fromFaculty) {
+        this.fromFaculty = fromFaculty;
+    }
+
+    public String getToFaculty() {
+        return toFaculty;
+    }
+
+    public void setToFaculty(String toFaculty) {
+        this.toFaculty = toFaculty;
+    }
+
+    public String getFromRoom() {
+        return fromRoom;
+    }
+
+    public void setFromRoom(String fromRoom) {
+        this.fromRoom = fromRoom;
+    }
+
+    public String getToRoom() {
+        return toRoom;
+    }
+
+    public void setToRoom(String toRoom) {
+        this.toRoom = toRoom;
+    }
+}
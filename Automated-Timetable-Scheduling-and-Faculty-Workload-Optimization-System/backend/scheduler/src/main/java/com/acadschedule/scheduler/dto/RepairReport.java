@@ -0,0 +1,109 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RepairReport {
+
+    private Long leaveId;
+    private String facultyName;
+    private int affectedEntries;
+    private int substituted;
+    private int relocated;
+    private int unresolved;
+    private int restored; // undo only: rows moved back to where they were before the leave
+    private int transferred; // undo only: rows left as they are because their faculty is on another leave
+    private double elapsedMillis;
+    private Long versionId;
+    private List<RepairChange> changes = new ArrayList<>();
+
+    // getters and setters
+
+    public Long getLeaveId() {
+        return leaveId;
+    }
+
+    public void setLeaveId(Long leaveId) {
+        this.leaveId = leaveId;
+    }
+
+    public String getFacultyName() {
+        return facultyName;
+    }
+
+    public void setFacultyName(String facultyName) {
+        this.facultyName = facultyName;
+    }
+
+    public int getAffectedEntries() {
+        return affectedEntries;
+    }
+
+    public void setAffectedEntries(int affectedEntries) {
+        this.affectedEntries = affectedEntries;
+    }
+
+    public int getSubstituted() {
+        return substituted;
+    }
+
+    public void setSubstituted(int substituted) {
+        this.substituted = substituted;
+    }
+
+    public int getRelocated() {
+        return relocated;
+    }
+
+    public void setRelocated(int relocated) {
+        this.relocated = relocated;
+    }
+
+    public int getRestored() {
+        return restored;
+    }
+
+    public void setRestored(int restored) {
+        this.restored = restored;
+    }
+
+    public int getTransferred() {
+        return transferred;
+    }
+
+    public void setTransferred(int transferred) {
+        this.transferred = transferred;
+    }
+
+    public int getUnresolved() {
+        return unresolved;
+    }
+
+    public void setUnresolved(int unresolved) {
+        this.unresolved = unresolved;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(double elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<RepairChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<RepairChange> changes) {
+        this.changes = changes;
+    }
+
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+}
@@ -0,0 +1,84 @@
+package com.acadschedule.scheduler.dto;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.List;
+import java.util.Map;
+
+public class RoomSchedule {
+
+    private Long roomId;
+    private String roomName;
+    private Long versionId;
+    private Integer versionNumber;
+    private int weeklyHours;
+    private double utilization;
+    private Map<String, Integer> hoursByDay;
+    private List<TimetableEntry> entries;
+
+    // getters and setters
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public void setRoomName(String roomName) {
+        this.roomName = roomName;
+    }
+
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public int getWeeklyHours() {
+        return weeklyHours;
+    }
+
+    public void setWeeklyHours(int weeklyHours) {
+        this.weeklyHours = weeklyHours;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+
+    public Map<String, Integer> getHoursByDay() {
+        return hoursByDay;
+    }
+
+    public void setHoursByDay(Map<String, Integer> hoursByDay) {
+        this.hoursByDay = hoursByDay;
+    }
+
+    public List<TimetableEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TimetableEntry> entries) {
+        this.entries = entries;
+    }
+}
@@ -0,0 +1,127 @@
+package com.acadschedule.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationReport {
+
+    private Long baseVersionId;
+    private List<String> rescheduledSections = new ArrayList<>();
+    private int sessionsMoved;
+    private int unplacedSessions;
+    private int substituted;
+    private int relocated;
+    private int unresolved;
+    private int conflictsBefore;
+    private int conflictsAfter;
+    private List<ConflictReport> newConflicts = new ArrayList<>();
+    private List<String> ignoredConstraints = new ArrayList<>();
+    private List<RepairChange> changes = new ArrayList<>();
+    private double elapsedMillis;
+
+    // getters and setters
+
+    public Long getBaseVersionId() {
+        return baseVersionId;
+    }
+
+    public void setBaseVersionId(Long baseVersionId) {
+        this.baseVersionId = baseVersionId;
+    }
+
+    public List<String> getRescheduledSections() {
+        return rescheduledSections;
+    }
+
+    public void setRescheduledSections(List<String> rescheduledSections) {
+        this.rescheduledSections = rescheduledSections;
+    }
+
+    public int getSessionsMoved() {
+        return sessionsMoved;
+    }
+
+    public void setSessionsMoved(int sessionsMoved) {
+        this.sessionsMoved = sessionsMoved;
+    }
+
+    public int getUnplacedSessions() {
+        return unplacedSessions;
+    }
+
+    public void setUnplacedSessions(int unplacedSessions) {
+        this.unplacedSessions = unplacedSessions;
+    }
+
+    public int getSubstituted() {
+        return substituted;
+    }
+
+    public void setSubstituted(int substituted) {
+        this.substituted = substituted;
+    }
+
+    public int getRelocated() {
+        return relocated;
+    }
+
+    public void setRelocated(int relocated) {
+        this.relocated = relocated;
+    }
+
+    public int getUnresolved() {
+        return unresolved;
+    }
+
+    public void setUnresolved(int unresolved) {
+        this.unresolved = unresolved;
+    }
+
+    public int getConflictsBefore() {
+        return conflictsBefore;
+    }
+
+    public void setConflictsBefore(int conflictsBefore) {
+        this.conflictsBefore = conflictsBefore;
+    }
+
+    public int getConflictsAfter() {
+        return conflictsAfter;
+    }
+
+    public void setConflictsAfter(int conflictsAfter) {
+        this.conflictsAfter = conflictsAfter;
+    }
+
+    public List<ConflictReport> getNewConflicts() {
+        return newConflicts;
+    }
+
+    public void setNewConflicts(List<ConflictReport> newConflicts) {
+        this.newConflicts = newConflicts;
+    }
+
+    public List<String> getIgnoredConstraints() {
+        return ignoredConstraints;
+    }
+
+    public void setIgnoredConstraints(List<String> ignoredConstraints) {
+        this.ignoredConstraints = ignoredConstraints;
+    }
+
+    public List<RepairChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<RepairChange> changes) {
+        this.changes = changes;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(double elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,65 @@
+package com.acadschedule.scheduler.dto;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.LeaveRequest;
+import com.acadschedule.scheduler.entity.Room;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hypothetical edits for a dry run. Faculty, rooms and constraints with the
+ * id of an existing row replace it, without an id they are added; leaves
+ * are treated as approved.
+ */
+public class SimulationRequest {
+
+    private List<Faculty> faculty = new ArrayList<>();
+    private List<Room> rooms = new ArrayList<>();
+    private List<Constraint> constraints = new ArrayList<>();
+    private List<String> toggleConstraints = new ArrayList<>();
+    private List<LeaveRequest> leaves = new ArrayList<>();
+
+    // getters and setters
+
+    public List<Faculty> getFaculty() {
+        return faculty;
+    }
+
+    public void setFaculty(List<Faculty> faculty) {
+        this.faculty = faculty;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<Room> rooms) {
+        this.rooms = rooms;
+    }
+
+    public List<Constraint> getConstraints() {
+        return constraints;
+    }
+
+    public void setConstraints(List<Constraint> constraints) {
+        this.constraints = constraints;
+    }
+
+    public List<String> getToggleConstraints() {
+        return toggleConstraints;
+    }
+
+    public void setToggleConstraints(List<String> toggleConstraints) {
+        this.toggleConstraints = toggleConstraints;
+    }
+
+    public List<LeaveRequest> getLeaves() {
+        return leaves;
+    }
+
+    public void setLeaves(List<LeaveRequest> leaves) {
+        this.leaves = leaves;
+    }
+}
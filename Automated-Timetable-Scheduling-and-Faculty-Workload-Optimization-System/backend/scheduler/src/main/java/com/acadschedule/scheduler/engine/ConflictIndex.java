@@ -0,0 +1,295 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Incrementally maintained clash index over timetable entries. Entries are
+ * bucketed by (day, timeSlot) and then by faculty, room and section; any
+ * bucket holding two or more entries is an open conflict. Each add/remove
+ * only re-evaluates the buckets it touches and appends the resulting
+ * opened/updated/resolved events to a bounded change log.
+ */
+public class ConflictIndex {
+
+    public enum Kind {
+        FACULTY_OVERLAP("faculty_overlap"),
+        ROOM_OVERLAP("room_overlap"),
+        SECTION_OVERLAP("section_overlap"),
+        CONSTRAINT_VIOLATION("constraint_violation");
+
+        private final String label;
+
+        Kind(String label) { this.label = label; }
+
+        public String label() { return label; }
+    }
+
+    public enum ChangeType { OPENED, UPDATED, RESOLVED }
+
+    public static final class Conflict {
+        private final String id;
+        private final Kind kind;
+        private final String day;
+        private final String timeSlot;
+        private final String resource;
+        private final List<Long> entryIds;
+
+        Conflict(String id, Kind kind, String day, String timeSlot, String resource, List<Long> entryIds) {
+            this.id = id;
+            this.kind = kind;
+            this.day = day;
+            this.timeSlot = timeSlot;
+            this.resource = resource;
+            this.entryIds = entryIds;
+        }
+
+        public String getId() { return id; }
+        public Kind getKind() { return kind; }
+        public String getDay() { return day; }
+        public String getTimeSlot() { return timeSlot; }
+        public String getResource() { return resource; }
+        public List<Long> getEntryIds() { return entryIds; }
+    }
+
+    public static final class Change {
+        private final long sequence;
+        private final ChangeType type;
+        private final Conflict conflict;
+
+        Change(long sequence, ChangeType type, Conflict conflict) {
+            this.sequence = sequence;
+            this.type = type;
+            this.conflict = conflict;
+        }
+
+        public long getSequence() { return sequence; }
+        public ChangeType getType() { return type; }
+        public Conflict getConflict() { return conflict; }
+    }
+
+    // Indexed copy of the fields we need, so later entity edits cannot corrupt the index
+    private static final class Indexed {
+        final long id;
+        final String slot;
+        final String day;
+        final String faculty;
+        final String room;
+        final String section;
+
+        Indexed(TimetableEntry e) {
+            this.id = e.getId();
+            this.day = e.getDay();
+            this.slot = e.getDay() + "|" + e.getTimeSlot();
+            this.faculty = e.getFacultyName();
+            this.room = e.getRoomNumber();
+            this.section = e.getSectionId();
+        }
+    }
+
+    private final int changeLogCapacity;
+
+    private final Map<Long, Indexed> entries = new HashMap<>();
+    private final Map<String, Set<Long>> bySection = new HashMap<>();
+    // slot -> resource -> entry ids, one map per overlap kind
+    private final Map<String, Map<String, Set<Long>>> facultyBuckets = new HashMap<>();
+    private final Map<String, Map<String, Set<Long>>> roomBuckets = new HashMap<>();
+    private final Map<String, Map<String, Set<Long>>> sectionBuckets = new HashMap<>();
+    // faculty|day -> entry ids, checked against the daily cap
+    private final Map<String, Set<Long>> facultyDays = new HashMap<>();
+    private Map<String, Integer> dailyCaps = Map.of();
+
+    private final Map<String, Conflict> open = new LinkedHashMap<>();
+    private final Deque<Change> changeLog = new ArrayDeque<>();
+    private long sequence;
+
+    public ConflictIndex(int changeLogCapacity) {
+        this.changeLogCapacity = changeLogCapacity;
+    }
+
+    // Rebuilds from scratch; faculty names map to their maxHoursPerDay
+    public synchronized void reset(Collection<TimetableEntry> all, Map<String, Integer> dailyCaps) {
+        Set<String> before = new HashSet<>(open.keySet());
+        entries.clear();
+        bySection.clear();
+        facultyBuckets.clear();
+        roomBuckets.clear();
+        sectionBuckets.clear();
+        facultyDays.clear();
+        this.dailyCaps = Map.copyOf(dailyCaps);
+
+        Set<String> touched = new HashSet<>(before);
+        for (TimetableEntry e : all) {
+            touched.addAll(insert(e));
+        }
+        reevaluate(touched);
+    }
+
+    public synchronized void upsert(Collection<TimetableEntry> changed) {
+        Set<String> touched = new HashSet<>();
+        for (TimetableEntry e : changed) {
+            if (e.getId() == null) continue;
+            touched.addAll(delete(e.getId()));
+            touched.addAll(insert(e));
+        }
+        reevaluate(touched);
+    }
+
+    public synchronized void removeSection(String sectionId) {
+        Set<Long> ids = bySection.get(sectionId);
+        if (ids == null) return;
+        Set<String> touched = new HashSet<>();
+        for (Long id : new ArrayList<>(ids)) {
+            touched.addAll(delete(id));
+        }
+        reevaluate(touched);
+    }
+
+    public synchronized long currentSequence() {
+        return sequence;
+    }
+
+    public synchronized List<Conflict> openConflicts() {
+        return new ArrayList<>(open.values());
+    }
+
+    // Changes after the given sequence, or null when they have already been dropped from the log
+    public synchronized List<Change> changesSince(long since) {
+        // The log always holds the contiguous range (sequence - size, sequence]
+        if (since < sequence - changeLog.size()) return null;
+        List<Change> result = new ArrayList<>();
+        for (Change c : changeLog) {
+            if (c.getSequence() > since) result.add(c);
+        }
+        return result;
+    }
+
+    // ===== Internals; every method returns the conflict keys it may have affected =====
+
+    private List<String> insert(TimetableEntry e) {
+        if (e.getId() == null) return List.of();
+        Indexed x = new Indexed(e);
+        entries.put(x.id, x);
+        bySection.computeIfAbsent(x.section, k -> new HashSet<>()).add(x.id);
+
+        List<String> touched = new ArrayList<>(4);
+        if (x.faculty != null) {
+            add(facultyBuckets, x.slot, x.faculty, x.id);
+            touched.add(key(Kind.FACULTY_OVERLAP, x.slot, x.faculty));
+            facultyDays.computeIfAbsent(x.faculty + "|" + x.day, k -> new HashSet<>()).add(x.id);
+            touched.add(key(Kind.CONSTRAINT_VIOLATION, x.day, x.faculty));
+        }
+        if (x.room != null) {
+            add(roomBuckets, x.slot, x.room, x.id);
+            touched.add(key(Kind.ROOM_OVERLAP, x.slot, x.room));
+        }
+        add(sectionBuckets, x.slot, x.section, x.id);
+        touched.add(key(Kind.SECTION_OVERLAP, x.slot, x.section));
+        return touched;
+    }
+
+    private List<String> delete(long id) {
+        Indexed x = entries.remove(id);
+        if (x == null) return List.of();
+        Set<Long> sectionIds = bySection.get(x.section);
+        if (sectionIds != null) {
+            sectionIds.remove(id);
+            if (sectionIds.isEmpty()) bySection.remove(x.section);
+        }
+
+        List<String> touched = new ArrayList<>(4);
+        if (x.faculty != null) {
+            remove(facultyBuckets, x.slot, x.faculty, id);
+            touched.add(key(Kind.FACULTY_OVERLAP, x.slot, x.faculty));
+            Set<Long> day = facultyDays.get(x.faculty + "|" + x.day);
+            if (day != null) {
+                day.remove(id);
+                if (day.isEmpty()) facultyDays.remove(x.faculty + "|" + x.day);
+            }
+            touched.add(key(Kind.CONSTRAINT_VIOLATION, x.day, x.faculty));
+        }
+        if (x.room != null) {
+            remove(roomBuckets, x.slot, x.room, id);
+            touched.add(key(Kind.ROOM_OVERLAP, x.slot, x.room));
+        }
+        remove(sectionBuckets, x.slot, x.section, id);
+        touched.add(key(Kind.SECTION_OVERLAP, x.slot, x.section));
+        return touched;
+    }
+
+    private void reevaluate(Set<String> keys) {
+        for (String key : keys) {
+            Conflict now = evaluate(key);
+            Conflict before = now == null ? open.remove(key) : open.put(key, now);
+            if (now != null && before == null) {
+                record(ChangeType.OPENED, now);
+            } else if (now != null && !now.entryIds.equals(before.entryIds)) {
+                record(ChangeType.UPDATED, now);
+            } else if (now == null && before != null) {
+                record(ChangeType.RESOLVED, before);
+            }
+        }
+    }
+
+    private Conflict evaluate(String key) {
+        int split = key.indexOf('|');
+        Kind kind = Kind.valueOf(key.substring(0, split));
+        String[] parts = key.substring(split + 1).split("\\|", kind == Kind.CONSTRAINT_VIOLATION ? 2 : 3);
+
+        if (kind == Kind.CONSTRAINT_VIOLATION) {
+            String day = parts[0];
+            String faculty = parts[1];
+            Set<Long> ids = facultyDays.get(faculty + "|" + day);
+            Integer cap = dailyCaps.get(faculty);
+            if (ids == null || cap == null || cap <= 0 || ids.size() <= cap) return null;
+            return new Conflict(key, kind, day, null, faculty, new ArrayList<>(new TreeSet<>(ids)));
+        }
+
+        String day = parts[0];
+        String timeSlot = parts[1];
+        String resource = parts[2];
+        Map<String, Map<String, Set<Long>>> buckets = switch (kind) {
+            case FACULTY_OVERLAP -> facultyBuckets;
+            case ROOM_OVERLAP -> roomBuckets;
+            default -> sectionBuckets;
+        };
+        Map<String, Set<Long>> slot = buckets.get(day + "|" + timeSlot);
+        Set<Long> ids = slot == null ? null : slot.get(resource);
+        if (ids == null || ids.size() < 2) return null;
+        return new Conflict(key, kind, day, timeSlot, resource, new ArrayList<>(new TreeSet<>(ids)));
+    }
+
+    private void record(ChangeType type, Conflict conflict) {
+        changeLog.addLast(new Change(++sequence, type, conflict));
+        while (changeLog.size() > changeLogCapacity) changeLog.removeFirst();
+    }
+
+    private static String key(Kind kind, String slotOrDay, String resource) {
+        return kind.name() + "|" + slotOrDay + "|" + resource;
+    }
+
+    private static void add(Map<String, Map<String, Set<Long>>> buckets, String slot, String resource, long id) {
+        buckets.computeIfAbsent(slot, k -> new HashMap<>()).computeIfAbsent(resource, k -> new HashSet<>()).add(id);
+    }
+
+    private static void remove(Map<String, Map<String, Set<Long>>> buckets, String slot, String resource, long id) {
+        Map<String, Set<Long>> bySlot = buckets.get(slot);
+        if (bySlot == null) return;
+        Set<Long> ids = bySlot.get(resource);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) bySlot.remove(resource);
+        if (bySlot.isEmpty()) buckets.remove(slot);
+    }
+}
@@ -0,0 +1,168 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Parses {@link Constraint#getParameters()} once into a {@link RuleSet}.
+ *
+ * Understood parameters:
+ * <ul>
+ *   <li>{@code startTime}/{@code endTime} ("HH:mm", 24h): a time window. It is
+ *       the allowed range unless {@code mode} is "block" or the constraint is
+ *       named as a break/lunch; optional {@code days} limits it to some weekdays.</li>
+ *   <li>{@code maxHours} / {@code maxHoursPerDay}: daily teaching cap (hard only).</li>
+ *   <li>{@code equipment} (array or comma-separated) / {@code wheelchairAccessible}:
+ *       rooms a section is taught in must have them (hard only).</li>
+ *   <li>{@code faculty}, {@code room}, {@code section}: narrow the rule to one
+ *       resource; without them it applies everywhere.</li>
+ * </ul>
+ * Priority "mandatory" makes a rule hard; "preferred" and "optional" make it
+ * soft (case-insensitive). A missing or any other priority is reported
+ * through {@link RuleSet#getIgnored()}.
+ */
+public class ConstraintCompiler {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RuleSet.Scope global = new RuleSet.Scope();
+    private final Map<String, RuleSet.Scope> faculty = new HashMap<>();
+    private final Map<String, RuleSet.Scope> rooms = new HashMap<>();
+    private final Map<String, RuleSet.Scope> sections = new HashMap<>();
+    private final List<String> ignored = new ArrayList<>();
+    private int compiled;
+
+    public static RuleSet compile(Collection<Constraint> constraints) {
+        ConstraintCompiler compiler = new ConstraintCompiler();
+        for (Constraint c : constraints) {
+            if (!c.isActive()) continue;
+            if (compiler.add(c)) {
+                compiler.compiled++;
+            } else {
+                compiler.ignored.add(c.getName() != null ? c.getName() : c.getId());
+            }
+        }
+        return new RuleSet(compiler.global, compiler.faculty, compiler.rooms, compiler.sections,
+                compiler.compiled, compiler.ignored);
+    }
+
+    private boolean add(Constraint c) {
+        JsonNode params;
+        try {
+            params = MAPPER.readTree(c.getParameters() == null || c.getParameters().isBlank() ? "{}" : c.getParameters());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+        if (params == null || !params.isObject()) return false;
+
+        String priority = key(c.getPriority());
+        if (!priority.equals("mandatory") && !priority.equals("preferred") && !priority.equals("optional")) return false;
+        boolean hard = priority.equals("mandatory");
+        RuleSet.Scope scope = scope(params);
+        boolean used = false;
+
+        if (params.hasNonNull("startTime") && params.hasNonNull("endTime")) {
+            int from = minutes(params.get("startTime").asText());
+            int to = minutes(params.get("endTime").asText());
+            if (from < 0 || to <= from) return false;
+
+            long window = SlotGrid.slotsBetween(from, to);
+            long slots = blocks(c, params) ? window : SlotGrid.FULL_DAY & ~window;
+            int days = days(params);
+            if (days == 0) return false;
+
+            for (int d = 0; d < SlotGrid.DAYS; d++) {
+                if ((days & (1 << d)) == 0) continue;
+                if (hard) {
+                    scope.blocked[d] |= slots;
+                } else if (priority.equals("preferred")) {
+                    scope.preferred[d] |= slots;
+                } else {
+                    scope.optional[d] |= slots;
+                }
+            }
+            used = true;
+        }
+
+        JsonNode cap = params.hasNonNull("maxHoursPerDay") ? params.get("maxHoursPerDay") : params.get("maxHours");
+        if (cap != null && cap.canConvertToInt() && cap.asInt() > 0 && hard) {
+            scope.dailyCap = scope.dailyCap > 0 ? Math.min(scope.dailyCap, cap.asInt()) : cap.asInt();
+            used = true;
+        }
+
+        JsonNode equipment = params.get("equipment");
+        if (equipment != null && hard) {
+            if (equipment.isArray()) {
+                for (JsonNode item : equipment) addEquipment(scope, item.asText());
+            } else {
+                for (String item : equipment.asText().split(",")) addEquipment(scope, item);
+            }
+            used = true;
+        }
+        if (params.path("wheelchairAccessible").asBoolean(false) && hard) {
+            scope.accessible = true;
+            used = true;
+        }
+        return used;
+    }
+
+    private static void addEquipment(RuleSet.Scope scope, String item) {
+        String k = key(item);
+        if (!k.isEmpty()) scope.equipment.add(k);
+    }
+
+    private RuleSet.Scope scope(JsonNode params) {
+        if (params.hasNonNull("faculty")) {
+            return faculty.computeIfAbsent(key(params.get("faculty").asText()), k -> new RuleSet.Scope());
+        }
+        if (params.hasNonNull("room")) {
+            return rooms.computeIfAbsent(key(params.get("room").asText()), k -> new RuleSet.Scope());
+        }
+        if (params.hasNonNull("section")) {
+            return sections.computeIfAbsent(key(params.get("section").asText()), k -> new RuleSet.Scope());
+        }
+        return global;
+    }
+
+    // A window is blocked time when asked for explicitly or when the constraint describes a break
+    private static boolean blocks(Constraint c, JsonNode params) {
+        if (params.hasNonNull("mode")) return key(params.get("mode").asText()).equals("block");
+        String name = key(c.getName());
+        return name.contains("break") || name.contains("lunch");
+    }
+
+    // Weekday bits from "days"; all weekdays when absent, 0 when none is recognised
+    private static int days(JsonNode params) {
+        JsonNode days = params.get("days");
+        if (days == null || !days.isArray()) return (1 << SlotGrid.DAYS) - 1;
+        int mask = 0;
+        for (JsonNode day : days) {
+            int d = SlotGrid.dayIndex(day.asText());
+            if (d >= 0) mask |= 1 << d;
+        }
+        return mask;
+    }
+
+    // "HH:mm" -> minutes after midnight, -1 if malformed
+    private static int minutes(String time) {
+        String[] parts = time.trim().split(":");
+        if (parts.length != 2) return -1;
+        try {
+            int h = Integer.parseInt(parts[0]);
+            int m = Integer.parseInt(parts[1]);
+            return h >= 0 && h < 24 && m >= 0 && m < 60 ? h * 60 + m : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.acadschedule.scheduler.engine;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Weekly availability of every faculty member as per-day slot bitmaps, in
+ * four layers keyed by {@link ScheduleModelBuilder#key} of the name: slots
+ * blocked by hard faculty constraints, slots soft constraints ask to avoid,
+ * whole days of approved leave in one calendar week, and slots already
+ * taught in the published timetable. Immutable; each {@code with...} call
+ * rebuilds only its own layer and shares the others.
+ */
+public final class FacultyAvailability {
+
+    private static final int DAYS = SlotGrid.DAYS;
+
+    public static final FacultyAvailability EMPTY = new FacultyAvailability(Map.of(), Map.of(), Map.of(), Map.of(), null);
+
+    private final Map<String, long[]> blocked;
+    private final Map<String, long[]> avoided;
+    private final Map<String, long[]> leave;
+    private final Map<String, long[]> assigned;
+    private final LocalDate weekStart;
+
+    private FacultyAvailability(Map<String, long[]> blocked, Map<String, long[]> avoided,
+                                Map<String, long[]> leave, Map<String, long[]> assigned, LocalDate weekStart) {
+        this.blocked = blocked;
+        this.avoided = avoided;
+        this.leave = leave;
+        this.assigned = assigned;
+        this.weekStart = weekStart;
+    }
+
+    // Monday of the week the date falls in
+    public static LocalDate weekOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    public FacultyAvailability withRules(RuleSet rules) {
+        Map<String, long[]> hard = new HashMap<>();
+        Map<String, long[]> soft = new HashMap<>();
+        rules.facultyScopes().forEach((name, scope) -> {
+            long[] h = new long[DAYS];
+            long[] s = new long[DAYS];
+            for (int d = 0; d < DAYS; d++) {
+                h[d] = scope.blocked[d];
+                s[d] = scope.preferred[d] | scope.optional[d];
+            }
+            hard.put(name, h);
+            soft.put(name, s);
+        });
+        return new FacultyAvailability(hard, soft, leave, assigned, weekStart);
+    }
+
+    // Leaves are given by the index; only their days inside the week starting at weekStart count
+    public FacultyAvailability withLeaves(Collection<LeaveIndex.Leave> leaves, LocalDate weekStart) {
+        Map<String, long[]> days = new HashMap<>();
+        for (LeaveIndex.Leave l : leaves) {
+            if (l.facultyName() == null) continue;
+            for (int d = 0; d < DAYS; d++) {
+                LocalDate date = weekStart.plusDays(d);
+                if (date.isBefore(l.startDate()) || date.isAfter(l.endDate())) continue;
+                days.computeIfAbsent(key(l.facultyName()), k -> new long[DAYS])[d] = SlotGrid.FULL_DAY;
+            }
+        }
+        return new FacultyAvailability(blocked, avoided, days, assigned, weekStart);
+    }
+
+    public FacultyAvailability withAssignments(TimetableSnapshot snapshot) {
+        Map<String, long[]> busy = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            int day = SlotGrid.dayIndex(snapshot.day(i));
+            int slot = SlotGrid.slotIndex(snapshot.timeSlot(i));
+            if (day < 0 || slot < 0 || snapshot.facultyName(i) == null) continue;
+            busy.computeIfAbsent(key(snapshot.facultyName(i)), k -> new long[DAYS])[day] |= 1L << slot;
+        }
+        return new FacultyAvailability(blocked, avoided, leave, busy, weekStart);
+    }
+
+    // Week the leave layer describes; null until leaves have been applied
+    public LocalDate weekStart() { return weekStart; }
+
+    public long blocked(String faculty, int day) { return mask(blocked, faculty, day); }
+    public long avoided(String faculty, int day) { return mask(avoided, faculty, day); }
+    public long onLeave(String faculty, int day) { return mask(leave, faculty, day); }
+    public long assigned(String faculty, int day) { return mask(assigned, faculty, day); }
+
+    // Slots the faculty member cannot take on: blocked, on leave or already teaching
+    public long unavailable(String faculty, int day) {
+        String k = key(faculty);
+        return get(blocked, k, day) | get(leave, k, day) | get(assigned, k, day);
+    }
+
+    public long free(String faculty, int day) {
+        return SlotGrid.FULL_DAY & ~unavailable(faculty, day);
+    }
+
+    private static long mask(Map<String, long[]> layer, String faculty, int day) {
+        return get(layer, key(faculty), day);
+    }
+
+    private static long get(Map<String, long[]> layer, String k, int day) {
+        long[] days = layer.get(k);
+        return days != null ? days[day] : 0L;
+    }
+}
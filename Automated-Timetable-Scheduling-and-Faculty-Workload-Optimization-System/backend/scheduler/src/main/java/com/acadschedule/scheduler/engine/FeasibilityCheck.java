@@ -0,0 +1,88 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.RoomStatus;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Checks existing entries against a catalog and rule set the way the solver
+ * would place them: the faculty must be active, not blocked and within the
+ * daily cap, the room usable and not blocked, and the section not blocked.
+ * Used to find which sections a hypothetical change would force to move.
+ */
+public final class FeasibilityCheck {
+
+    private FeasibilityCheck() {}
+
+    // Ids of sections with at least one entry the solver would not accept as it stands
+    public static Set<String> invalidSections(Collection<TimetableEntry> entries, Collection<Faculty> faculty,
+                                              Collection<Room> rooms, RuleSet rules) {
+        Map<String, Faculty> facultyByName = new HashMap<>();
+        for (Faculty f : faculty) {
+            if (f.isActive() && f.getName() != null) facultyByName.put(key(f.getName()), f);
+        }
+        Map<String, Room> roomByName = new HashMap<>();
+        for (Room r : rooms) {
+            if (!r.isActive() || r.getStatus() == RoomStatus.DRAFT || r.getType() == null) continue;
+            if (r.getName() != null) roomByName.put(key(r.getName()), r);
+        }
+        for (Room r : rooms) {
+            if (!r.isActive() || r.getStatus() == RoomStatus.DRAFT || r.getType() == null) continue;
+            if (r.getCode() != null) roomByName.putIfAbsent(key(r.getCode()), r);
+        }
+
+        Set<String> invalid = new HashSet<>();
+        // faculty|day -> taught slots, and the sections involved, for the daily cap
+        Map<String, long[]> facultyDay = new HashMap<>();
+        Map<String, Set<String>> facultyDaySections = new HashMap<>();
+        for (TimetableEntry e : entries) {
+            int day = SlotGrid.dayIndex(e.getDay());
+            int slot = SlotGrid.slotIndex(e.getTimeSlot());
+            if (day < 0 || slot < 0) continue;
+            long bit = 1L << slot;
+
+            long sectionBlocked = rules.global().blocked[day] | rules.section(e.getSectionId()).blocked[day];
+            if ((sectionBlocked & bit) != 0) invalid.add(e.getSectionId());
+
+            if (e.getFacultyName() != null) {
+                String k = key(e.getFacultyName());
+                if (!facultyByName.containsKey(k) || (rules.faculty(e.getFacultyName()).blocked[day] & bit) != 0) {
+                    invalid.add(e.getSectionId());
+                }
+                facultyDay.computeIfAbsent(k + "|" + day, x -> new long[1])[0] |= bit;
+                facultyDaySections.computeIfAbsent(k + "|" + day, x -> new HashSet<>()).add(e.getSectionId());
+            }
+
+            if (e.getRoomNumber() != null) {
+                Room room = roomByName.get(key(e.getRoomNumber()));
+                if (room == null || (rules.room(room.getName(), room.getCode()).blocked[day] & bit) != 0) {
+                    invalid.add(e.getSectionId());
+                }
+            }
+        }
+
+        facultyDay.forEach((k, slots) -> {
+            Faculty f = facultyByName.get(k.substring(0, k.lastIndexOf('|')));
+            if (f != null && Long.bitCount(slots[0]) > dailyCap(f, rules)) invalid.addAll(facultyDaySections.get(k));
+        });
+        return invalid;
+    }
+
+    // Same cap the model builder applies
+    private static int dailyCap(Faculty f, RuleSet rules) {
+        int cap = f.getMaxHoursPerDay() > 0 ? f.getMaxHoursPerDay() : SlotGrid.SLOTS_PER_DAY;
+        if (rules.global().dailyCap > 0) cap = Math.min(cap, rules.global().dailyCap);
+        RuleSet.Scope own = rules.faculty(f.getName());
+        if (own.dailyCap > 0) cap = Math.min(cap, own.dailyCap);
+        return cap;
+    }
+}
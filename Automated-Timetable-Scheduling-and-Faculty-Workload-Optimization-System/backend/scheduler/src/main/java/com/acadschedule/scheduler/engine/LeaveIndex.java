@@ -0,0 +1,157 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.LeaveRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index over approved leaves. Globally the leaves sit in an
+ * interval tree laid out over an array sorted by start date, each node
+ * holding the latest end date below it, so "who is away in [from, to]" costs
+ * O(log n + matches). Per faculty the leave days are merged into disjoint
+ * ranges, so "is X available in [from, to]" is one binary search. Changes
+ * return a new index; readers never see a half-applied update.
+ */
+public final class LeaveIndex {
+
+    // What the index keeps of a leave; dates are inclusive
+    public record Leave(Long id, Long facultyId, String facultyName, LocalDate startDate, LocalDate endDate) {
+    }
+
+    public static final LeaveIndex EMPTY = new LeaveIndex(new LinkedHashMap<>());
+
+    private final Map<Long, Leave> byId;
+    // Sorted by start; maxEnd[mid] is the latest end in the implicit subtree rooted at mid
+    private final Leave[] sorted;
+    private final long[] start;
+    private final long[] end;
+    private final long[] maxEnd;
+    // facultyId -> merged disjoint [start, end] epoch-day pairs, ascending
+    private final Map<Long, long[]> busy;
+
+    private LeaveIndex(Map<Long, Leave> byId) {
+        this.byId = byId;
+        this.sorted = byId.values().toArray(new Leave[0]);
+        Arrays.sort(sorted, Comparator.comparing(Leave::startDate).thenComparing(Leave::id));
+        int n = sorted.length;
+        this.start = new long[n];
+        this.end = new long[n];
+        this.maxEnd = new long[n];
+        for (int i = 0; i < n; i++) {
+            start[i] = sorted[i].startDate().toEpochDay();
+            end[i] = sorted[i].endDate().toEpochDay();
+        }
+        augment(0, n);
+
+        Map<Long, List<long[]>> ranges = new HashMap<>();
+        for (Leave leave : sorted) {
+            if (leave.facultyId() == null) continue;
+            List<long[]> list = ranges.computeIfAbsent(leave.facultyId(), k -> new ArrayList<>());
+            long s = leave.startDate().toEpochDay();
+            long e = leave.endDate().toEpochDay();
+            long[] last = list.isEmpty() ? null : list.get(list.size() - 1);
+            // Sorted by start, so a leave either extends the last range or starts a new one
+            if (last != null && s <= last[1] + 1) {
+                last[1] = Math.max(last[1], e);
+            } else {
+                list.add(new long[] { s, e });
+            }
+        }
+        this.busy = new HashMap<>();
+        ranges.forEach((faculty, list) -> {
+            long[] flat = new long[list.size() * 2];
+            for (int i = 0; i < list.size(); i++) {
+                flat[2 * i] = list.get(i)[0];
+                flat[2 * i + 1] = list.get(i)[1];
+            }
+            busy.put(faculty, flat);
+        });
+    }
+
+    // Approved leaves with both dates; anything else is not indexed
+    public static LeaveIndex of(Collection<LeaveRequest> leaves) {
+        Map<Long, Leave> byId = new LinkedHashMap<>();
+        for (LeaveRequest request : leaves) {
+            Leave leave = indexable(request);
+            if (leave != null) byId.put(leave.id(), leave);
+        }
+        return new LeaveIndex(byId);
+    }
+
+    // The index with this request's current state: added, replaced or dropped if no longer approved
+    public LeaveIndex with(LeaveRequest request) {
+        Leave leave = indexable(request);
+        if (leave == null) return request.getId() != null ? without(request.getId()) : this;
+        if (leave.equals(byId.get(leave.id()))) return this;
+        Map<Long, Leave> next = new LinkedHashMap<>(byId);
+        next.put(leave.id(), leave);
+        return new LeaveIndex(next);
+    }
+
+    public LeaveIndex without(Long leaveId) {
+        if (!byId.containsKey(leaveId)) return this;
+        Map<Long, Leave> next = new LinkedHashMap<>(byId);
+        next.remove(leaveId);
+        return new LeaveIndex(next);
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    // True when the faculty member has no approved leave on any day of [from, to]
+    public boolean isAvailable(Long facultyId, LocalDate from, LocalDate to) {
+        long[] ranges = busy.get(facultyId);
+        if (ranges == null) return true;
+        long a = from.toEpochDay();
+        long b = to.toEpochDay();
+        // Last range starting on or before b; ranges are disjoint, so it is the only one that can reach a
+        int lo = 0;
+        int hi = ranges.length / 2;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ranges[2 * mid] <= b) lo = mid + 1; else hi = mid;
+        }
+        return lo == 0 || ranges[2 * (lo - 1) + 1] < a;
+    }
+
+    // Approved leaves overlapping [from, to], ordered by start date
+    public List<Leave> overlapping(LocalDate from, LocalDate to) {
+        List<Leave> result = new ArrayList<>();
+        collect(0, sorted.length, from.toEpochDay(), to.toEpochDay(), result);
+        return result;
+    }
+
+    private void collect(int lo, int hi, long a, long b, List<Leave> out) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] < a) return;
+        collect(lo, mid, a, b, out);
+        if (start[mid] > b) return;
+        if (end[mid] >= a) out.add(sorted[mid]);
+        collect(mid + 1, hi, a, b, out);
+    }
+
+    private long augment(int lo, int hi) {
+        if (lo >= hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        maxEnd[mid] = Math.max(end[mid], Math.max(augment(lo, mid), augment(mid + 1, hi)));
+        return maxEnd[mid];
+    }
+
+    private static Leave indexable(LeaveRequest request) {
+        if (request.getId() == null || !"Approved".equalsIgnoreCase(request.getStatus())) return null;
+        LocalDate from = request.getStartDate();
+        LocalDate to = request.getEndDate() != null ? request.getEndDate() : from;
+        if (from == null || to.isBefore(from)) return null;
+        return new Leave(request.getId(), request.getFacultyId(), request.getFacultyName(), from, to);
+    }
+}
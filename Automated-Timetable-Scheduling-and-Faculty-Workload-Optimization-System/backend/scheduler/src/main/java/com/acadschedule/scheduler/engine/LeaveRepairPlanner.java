@@ -0,0 +1,371 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Localized repair of a published timetable when a faculty member goes on leave.
+ * Only the absent faculty's sessions on the affected weekdays are touched:
+ * each block gets a free, eligible substitute with spare daily capacity, or,
+ * failing that, moves to a slot on a day the faculty is present. Everything
+ * else keeps its place; occupancy is tracked as per-day bitmasks. Rows are
+ * matched to faculty by id; the stored name only counts for rows without one.
+ */
+public class LeaveRepairPlanner {
+
+    public enum Action { SUBSTITUTED, RELOCATED, UNRESOLVED }
+
+    private static final int DAYS = SlotGrid.DAYS;
+
+    private final Faculty[] faculty;
+    private final Map<Long, Integer> facultyById = new HashMap<>();
+    private final Map<String, Integer> facultyByName = new HashMap<>();
+    private final Map<String, Subject> subjectByCode = new HashMap<>();
+    private final List<TimetableEntry> entries;
+    private final FacultyAvailability availability;
+
+    private final long[] facultyBusy;
+    private final int[] facultyWeekLoad;
+    private final Map<String, long[]> sectionBusy = new HashMap<>();
+    private final Map<String, long[]> roomBusy = new HashMap<>();
+
+    public LeaveRepairPlanner(Collection<Faculty> faculty, Collection<Subject> subjects, List<TimetableEntry> entries) {
+        this(faculty, subjects, entries, FacultyAvailability.EMPTY);
+    }
+
+    // Slots blocked in the availability calendar are never handed to a substitute or used for a relocation
+    public LeaveRepairPlanner(Collection<Faculty> faculty, Collection<Subject> subjects, List<TimetableEntry> entries,
+                              FacultyAvailability availability) {
+        this.availability = availability;
+        this.faculty = faculty.stream().filter(Faculty::isActive).toArray(Faculty[]::new);
+        for (int i = 0; i < this.faculty.length; i++) {
+            if (this.faculty[i].getId() != null) facultyById.put(this.faculty[i].getId(), i);
+            if (this.faculty[i].getName() != null) facultyByName.put(key(this.faculty[i].getName()), i);
+        }
+        for (Subject s : subjects) {
+            if (s.getCode() != null) subjectByCode.put(key(s.getCode()), s);
+        }
+        this.entries = entries;
+
+        this.facultyBusy = new long[this.faculty.length * DAYS];
+        this.facultyWeekLoad = new int[this.faculty.length];
+        for (TimetableEntry e : entries) {
+            int day = SlotGrid.dayIndex(e.getDay());
+            int slot = SlotGrid.slotIndex(e.getTimeSlot());
+            if (day < 0 || slot < 0) continue;
+            occupy(e, day, 1L << slot);
+        }
+    }
+
+    public static class Move {
+        private final Action action;
+        private final List<TimetableEntry> entries;
+        private final String faculty;
+        private final Long facultyId;
+        private final int day;
+        private final int start;
+
+        Move(Action action, List<TimetableEntry> entries, Faculty faculty, String name, int day, int start) {
+            this.action = action;
+            this.entries = entries;
+            this.faculty = name;
+            this.facultyId = faculty != null ? faculty.getId() : null;
+            this.day = day;
+            this.start = start;
+        }
+
+        public Action getAction() { return action; }
+        public List<TimetableEntry> getEntries() { return entries; }
+        public String getFaculty() { return faculty; }
+        // Catalog id of the faculty teaching the block after the move, when known
+        public Long getFacultyId() { return facultyId; }
+        public int getDay() { return day; }
+        public int getStart() { return start; }
+    }
+
+    /**
+     * @param absentId    faculty whose sessions need cover, or null to go by name
+     * @param absentName  used when there is no id, and as the display name
+     * @param leaveDays   bit d set = weekday d falls inside the leave
+     * @param unavailable ids of other faculty who are also away, see {@link #facultyId}
+     */
+    public List<Move> plan(Long absentId, String absentName, int leaveDays, Set<Long> unavailable) {
+        Integer absent = facultyOf(absentId, absentName);
+        if (absentId == null && absent != null) absentId = faculty[absent].getId();
+        List<Move> moves = new ArrayList<>();
+
+        for (List<TimetableEntry> block : affectedBlocks(absentId, absentName, leaveDays)) {
+            TimetableEntry first = block.get(0);
+            int day = SlotGrid.dayIndex(first.getDay());
+            int start = SlotGrid.slotIndex(first.getTimeSlot());
+            int length = block.size();
+            long mask = SlotGrid.mask(start, length);
+
+            // Free the absent faculty's slots before looking for cover
+            if (absent != null) release(absent, day, mask);
+
+            int substitute = findSubstitute(first, day, mask, length, absent, unavailable);
+            if (substitute >= 0) {
+                hold(substitute, day, mask);
+                moves.add(new Move(Action.SUBSTITUTED, block, faculty[substitute], faculty[substitute].getName(), day, start));
+                continue;
+            }
+
+            if (absent != null) {
+                long[] section = sectionBusy.get(first.getSectionId());
+                long[] room = roomBusy.get(key(first.getRoomNumber()));
+                section[day] &= ~mask;
+                if (room != null) room[day] &= ~mask;
+
+                int target = findRelocation(first.getSectionId(), first.getRoomNumber(), absent, leaveDays, length);
+                if (target >= 0) {
+                    int newDay = target / SlotGrid.SLOTS_PER_DAY;
+                    int newStart = target % SlotGrid.SLOTS_PER_DAY;
+                    long newMask = SlotGrid.mask(newStart, length);
+                    hold(absent, newDay, newMask);
+                    section[newDay] |= newMask;
+                    roomBusy.computeIfAbsent(key(first.getRoomNumber()), k -> new long[DAYS])[newDay] |= newMask;
+                    moves.add(new Move(Action.RELOCATED, block, faculty[absent], absentName, newDay, newStart));
+                    continue;
+                }
+
+                // Nothing worked: leave the block where it was
+                section[day] |= mask;
+                if (room != null) room[day] |= mask;
+                hold(absent, day, mask);
+            }
+            moves.add(new Move(Action.UNRESOLVED, block, absent != null ? faculty[absent] : null, absentName, day, start));
+        }
+        return moves;
+    }
+
+    /**
+     * Undoes a repair: moves rows back to their original day, slot and
+     * faculty (see {@link TimetableEntry#getOriginalDay()}). Rows go back
+     * together per block, and only when the original faculty is active, free,
+     * not blocked and under the daily cap and the section and room are free
+     * there. The given rows must be entries of this planner's timetable;
+     * returns the ones moved back, edited in place.
+     */
+    public List<TimetableEntry> restore(Collection<TimetableEntry> changed) {
+        Map<String, List<TimetableEntry>> blocks = new LinkedHashMap<>();
+        for (TimetableEntry e : changed) {
+            String block = e.getSectionId() + "|" + e.getSubjectCode() + "|" + e.getType() + "|" + e.getDay()
+                    + "|" + original(e.getOriginalDay(), e.getDay()) + "|" + originalFaculty(e);
+            blocks.computeIfAbsent(block, k -> new ArrayList<>()).add(e);
+        }
+
+        List<TimetableEntry> restored = new ArrayList<>();
+        for (List<TimetableEntry> block : blocks.values()) {
+            TimetableEntry first = block.get(0);
+            int day = SlotGrid.dayIndex(first.getDay());
+            int toDay = SlotGrid.dayIndex(original(first.getOriginalDay(), first.getDay()));
+            Integer from = facultyOf(first.getFacultyId(), first.getFacultyName());
+            Integer to = originalFaculty(first);
+            if (day < 0 || toDay < 0 || to == null) continue;
+
+            long mask = 0;
+            long toMask = 0;
+            boolean onGrid = true;
+            for (TimetableEntry e : block) {
+                int slot = SlotGrid.slotIndex(e.getTimeSlot());
+                int toSlot = SlotGrid.slotIndex(original(e.getOriginalTimeSlot(), e.getTimeSlot()));
+                onGrid &= slot >= 0 && toSlot >= 0;
+                if (onGrid) {
+                    mask |= 1L << slot;
+                    toMask |= 1L << toSlot;
+                }
+            }
+            if (!onGrid) continue;
+
+            // Take the block out, then see whether its original place is free
+            long[] section = sectionBusy.get(first.getSectionId());
+            long[] room = first.getRoomNumber() != null ? roomBusy.get(key(first.getRoomNumber())) : null;
+            if (from != null) release(from, day, mask);
+            section[day] &= ~mask;
+            if (room != null) room[day] &= ~mask;
+
+            long teacherBusy = facultyBusy[to * DAYS + toDay];
+            boolean free = ((teacherBusy | availability.blocked(faculty[to].getName(), toDay)
+                    | section[toDay] | (room != null ? room[toDay] : 0L)) & toMask) == 0
+                    && Long.bitCount(teacherBusy) + Long.bitCount(toMask) <= maxPerDay(to);
+            if (!free) {
+                if (from != null) hold(from, day, mask);
+                section[day] |= mask;
+                if (room != null) room[day] |= mask;
+                continue;
+            }
+
+            hold(to, toDay, toMask);
+            section[toDay] |= toMask;
+            if (room != null) room[toDay] |= toMask;
+            for (TimetableEntry e : block) {
+                e.setDay(SlotGrid.dayName(toDay));
+                e.setTimeSlot(original(e.getOriginalTimeSlot(), e.getTimeSlot()));
+                e.setFacultyName(faculty[to].getName());
+                e.setFacultyId(faculty[to].getId());
+                restored.add(e);
+            }
+        }
+        return restored;
+    }
+
+    private static String original(String original, String current) {
+        return original != null ? original : current;
+    }
+
+    // The given id, or for a record that only has a name (an older leave) the active faculty member's of that name
+    public Long facultyId(Long id, String name) {
+        if (id != null) return id;
+        Integer f = facultyByName.get(key(name));
+        return f != null ? faculty[f].getId() : null;
+    }
+
+    private Integer facultyOf(Long id, String name) {
+        return id != null ? facultyById.get(id) : facultyByName.get(key(name));
+    }
+
+    // Who taught the row before a repair changed it; rows a repair did not reassign keep their faculty
+    private Integer originalFaculty(TimetableEntry e) {
+        if (e.getOriginalFacultyId() == null && e.getOriginalFacultyName() == null) {
+            return facultyOf(e.getFacultyId(), e.getFacultyName());
+        }
+        return facultyOf(e.getOriginalFacultyId(), e.getOriginalFacultyName());
+    }
+
+    // The absent faculty's entries on leave days, grouped into contiguous blocks per section/subject/day
+    private Collection<List<TimetableEntry>> affectedBlocks(Long absentId, String absentName, int leaveDays) {
+        Map<String, List<TimetableEntry>> groups = new LinkedHashMap<>();
+        for (TimetableEntry e : entries) {
+            boolean absent = absentId != null && e.getFacultyId() != null
+                    ? absentId.equals(e.getFacultyId()) : key(absentName).equals(key(e.getFacultyName()));
+            if (!absent) continue;
+            int day = SlotGrid.dayIndex(e.getDay());
+            if (day < 0 || SlotGrid.slotIndex(e.getTimeSlot()) < 0 || (leaveDays & (1 << day)) == 0) continue;
+            String group = e.getSectionId() + "|" + day + "|" + e.getSubjectCode() + "|" + e.getType();
+            groups.computeIfAbsent(group, k -> new ArrayList<>()).add(e);
+        }
+
+        List<List<TimetableEntry>> blocks = new ArrayList<>();
+        for (List<TimetableEntry> group : groups.values()) {
+            group.sort(Comparator.comparingInt(e -> SlotGrid.slotIndex(e.getTimeSlot())));
+            List<TimetableEntry> run = new ArrayList<>();
+            int previous = -2;
+            for (TimetableEntry e : group) {
+                int slot = SlotGrid.slotIndex(e.getTimeSlot());
+                if (slot != previous + 1 && !run.isEmpty()) {
+                    blocks.add(run);
+                    run = new ArrayList<>();
+                }
+                run.add(e);
+                previous = slot;
+            }
+            if (!run.isEmpty()) blocks.add(run);
+        }
+        return blocks;
+    }
+
+    // Least-loaded eligible faculty who is free for the whole block and under both caps
+    private int findSubstitute(TimetableEntry entry, int day, long mask, int length, Integer absent, Set<Long> unavailable) {
+        Subject subject = subjectByCode.get(key(entry.getSubjectCode()));
+        if (subject == null) return -1;
+
+        int best = -1;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int f : ScheduleModelBuilder.eligibleFaculty(subject, faculty)) {
+            if (absent != null && f == absent) continue;
+            if (unavailable.contains(faculty[f].getId())) continue;
+
+            long busy = facultyBusy[f * DAYS + day];
+            if (((busy | availability.blocked(faculty[f].getName(), day)) & mask) != 0) continue;
+            int dayLoad = Long.bitCount(busy);
+            if (dayLoad + length > maxPerDay(f)) continue;
+            if (facultyWeekLoad[f] + length > maxPerWeek(f)) continue;
+
+            if (dayLoad < bestLoad) {
+                best = f;
+                bestLoad = dayLoad;
+            }
+        }
+        return best;
+    }
+
+    // A slot (day * SLOTS_PER_DAY + start) outside the leave where section, faculty and room are all free
+    private int findRelocation(String sectionId, String roomName, int teacher, int leaveDays, int length) {
+        long[] section = sectionBusy.get(sectionId);
+        long[] room = roomBusy.get(key(roomName));
+        long starts = SlotGrid.validStarts(length);
+
+        for (int day = 0; day < DAYS; day++) {
+            if ((leaveDays & (1 << day)) != 0) continue;
+            long busy = facultyBusy[teacher * DAYS + day];
+            if (Long.bitCount(busy) + length > maxPerDay(teacher)) continue;
+
+            long blocked = section[day] | busy | availability.blocked(faculty[teacher].getName(), day)
+                    | (room != null ? room[day] : 0L);
+            for (int start = 0; start < SlotGrid.SLOTS_PER_DAY; start++) {
+                if ((starts & (1L << start)) == 0) continue;
+                if ((blocked & SlotGrid.mask(start, length)) == 0) {
+                    return day * SlotGrid.SLOTS_PER_DAY + start;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void occupy(TimetableEntry e, int day, long bit) {
+        Integer f = facultyOf(e.getFacultyId(), e.getFacultyName());
+        if (f != null && (facultyBusy[f * DAYS + day] & bit) == 0) {
+            facultyBusy[f * DAYS + day] |= bit;
+            facultyWeekLoad[f]++;
+        }
+        sectionBusy.computeIfAbsent(e.getSectionId(), k -> new long[DAYS])[day] |= bit;
+        if (e.getRoomNumber() != null) {
+            roomBusy.computeIfAbsent(key(e.getRoomNumber()), k -> new long[DAYS])[day] |= bit;
+        }
+    }
+
+    private void hold(int f, int day, long mask) {
+        facultyBusy[f * DAYS + day] |= mask;
+        facultyWeekLoad[f] += Long.bitCount(mask);
+    }
+
+    private void release(int f, int day, long mask) {
+        facultyWeekLoad[f] -= Long.bitCount(facultyBusy[f * DAYS + day] & mask);
+        facultyBusy[f * DAYS + day] &= ~mask;
+    }
+
+    private int maxPerDay(int f) {
+        return faculty[f].getMaxHoursPerDay() > 0 ? faculty[f].getMaxHoursPerDay() : SlotGrid.SLOTS_PER_DAY;
+    }
+
+    private int maxPerWeek(int f) {
+        return faculty[f].getMaxHoursPerWeek() > 0 ? faculty[f].getMaxHoursPerWeek() : SlotGrid.SLOTS_PER_DAY * DAYS;
+    }
+
+    // Weekday bits covered by [start, end]; a week or more covers every day
+    public static int leaveDays(LocalDate start, LocalDate end) {
+        if (start == null) return 0;
+        if (end == null || end.isBefore(start)) end = start;
+        int mask = 0;
+        LocalDate d = start;
+        for (int i = 0; i < 7 && !d.isAfter(end); i++, d = d.plusDays(1)) {
+            int index = d.getDayOfWeek().getValue() - 1;
+            if (index < DAYS) mask |= 1 << index;
+        }
+        return mask;
+    }
+}
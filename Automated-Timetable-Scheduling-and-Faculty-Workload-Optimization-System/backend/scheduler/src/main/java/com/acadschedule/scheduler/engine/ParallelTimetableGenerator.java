@@ -0,0 +1,168 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Solves every partition from {@link SectionPartitioner} on a ForkJoinPool,
+ * then merges the partial states into one. Faculty and sections never overlap
+ * between partitions, so only rooms can collide: a clashing session first
+ * moves to another free room in the same slot and, failing that, is
+ * re-placed by a final sequential pass over the merged state.
+ */
+public class ParallelTimetableGenerator {
+
+    // Called from solver threads as each partition finishes, so implementations must be thread-safe
+    public interface ProgressListener {
+        void onPartitionSolved(int sections, int placedSessions);
+    }
+
+    private final ForkJoinPool pool;
+    private final TimetableSolver solver;
+
+    public ParallelTimetableGenerator(ForkJoinPool pool, TimetableSolver solver) {
+        this.pool = pool;
+        this.solver = solver;
+    }
+
+    public Result generate(ScheduleModel model) {
+        return generate(model, null);
+    }
+
+    public Result generate(ScheduleModel model, ProgressListener listener) {
+        long started = System.nanoTime();
+
+        int[][] partitions = SectionPartitioner.partitionSessions(model);
+        SolverResult[] partial = new SolverResult[partitions.length];
+        pool.invoke(new SolveTask(model, partitions, partial, listener, 0, partitions.length));
+        long solved = System.nanoTime();
+
+        // Merge in partition order so the outcome does not depend on thread timing
+        ScheduleState merged = new ScheduleState(model);
+        List<Integer> leftovers = new ArrayList<>();
+        int roomReassignments = 0;
+        long backtracks = 0;
+        for (int p = 0; p < partitions.length; p++) {
+            ScheduleState local = partial[p].getState();
+            backtracks += partial[p].getBacktracks();
+            for (int session : partitions[p]) {
+                if (!local.isPlaced(session)) {
+                    leftovers.add(session);
+                    continue;
+                }
+                int day = local.day(session);
+                int start = local.start(session);
+                long mask = SlotGrid.mask(start, model.sessionLength[session]);
+
+                int room = local.room(session);
+                if ((merged.roomBusy(room, day) & mask) != 0) {
+                    room = merged.findRoom(session, day, mask);
+                    if (room < 0) {
+                        leftovers.add(session);
+                        continue;
+                    }
+                    roomReassignments++;
+                }
+                merged.place(session, day, start, local.faculty(session), room);
+            }
+        }
+
+        int[] retry = leftovers.stream().mapToInt(Integer::intValue).toArray();
+        SolverResult reconcile = solver.solve(merged, retry);
+        backtracks += reconcile.getBacktracks();
+
+        long finished = System.nanoTime();
+        SolverResult total = new SolverResult(model, merged, finished - started, backtracks,
+                model.sessionCount(), model.sessionCount() - merged.placedCount());
+        return new Result(total, partitions, partial, roomReassignments,
+                reconcile.getPlacedSessions(), solved - started, finished - solved);
+    }
+
+    private final class SolveTask extends RecursiveAction {
+        private final ScheduleModel model;
+        private final int[][] partitions;
+        private final SolverResult[] results;
+        private final ProgressListener listener;
+        private final int from;
+        private final int to;
+
+        SolveTask(ScheduleModel model, int[][] partitions, SolverResult[] results, ProgressListener listener,
+                  int from, int to) {
+            this.model = model;
+            this.partitions = partitions;
+            this.results = results;
+            this.listener = listener;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to <= from) return;
+            if (to - from == 1) {
+                results[from] = solver.solve(new ScheduleState(model), partitions[from]);
+                if (listener != null) {
+                    listener.onPartitionSolved(sectionCount(model, partitions[from]), results[from].getPlacedSessions());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SolveTask(model, partitions, results, listener, from, mid),
+                    new SolveTask(model, partitions, results, listener, mid, to));
+        }
+    }
+
+    public static class Result {
+        private final SolverResult merged;
+        private final int[][] partitions;
+        private final SolverResult[] partitionResults;
+        private final int roomReassignments;
+        private final int reconciledSessions;
+        private final long parallelNanos;
+        private final long mergeNanos;
+
+        Result(SolverResult merged, int[][] partitions, SolverResult[] partitionResults,
+               int roomReassignments, int reconciledSessions, long parallelNanos, long mergeNanos) {
+            this.merged = merged;
+            this.partitions = partitions;
+            this.partitionResults = partitionResults;
+            this.roomReassignments = roomReassignments;
+            this.reconciledSessions = reconciledSessions;
+            this.parallelNanos = parallelNanos;
+            this.mergeNanos = mergeNanos;
+        }
+
+        public SolverResult getMerged() { return merged; }
+        public int getPartitionCount() { return partitions.length; }
+        public SolverResult getPartitionResult(int partition) { return partitionResults[partition]; }
+        public int getRoomReassignments() { return roomReassignments; }
+        public int getReconciledSessions() { return reconciledSessions; }
+        public long getParallelNanos() { return parallelNanos; }
+        public long getMergeNanos() { return mergeNanos; }
+
+        // Ids of the sections solved in one partition
+        public List<Long> getPartitionSectionIds(int partition) {
+            ScheduleModel model = merged.getModel();
+            Set<Long> ids = new LinkedHashSet<>();
+            for (int session : partitions[partition]) {
+                ids.add(model.section(model.sessionSection(session)).getId());
+            }
+            return new ArrayList<>(ids);
+        }
+
+        public int getPartitionSessionCount(int partition) {
+            return partitions[partition].length;
+        }
+    }
+
+    private static int sectionCount(ScheduleModel model, int[] sessions) {
+        Set<Integer> sections = new HashSet<>();
+        for (int session : sessions) sections.add(model.sessionSection(session));
+        return sections.size();
+    }
+}
@@ -0,0 +1,263 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Free-room lookup for one {@link ScheduleState}. Rooms are grouped into the
+ * model's per-kind candidate lists (active, published, sorted by capacity),
+ * and every list keeps one bitmap per (day, slot) of which of its rooms are
+ * free. Finding the smallest free room that seats a section is a binary
+ * search for the first big-enough position followed by a scan over 64-room
+ * words of the slot bitmaps ANDed together, instead of a busy check per room.
+ */
+public final class RoomAllocator {
+
+    private static final int DAYS = SlotGrid.DAYS;
+    private static final int SLOTS = SlotGrid.SLOTS_PER_DAY;
+
+    private final ScheduleModel model;
+    // Distinct candidate lists (lecture and tutorial share one) and the list each kind uses
+    private final int[] kindBucket;
+    private final int[][] bucketRooms;
+    private final int[][] bucketCapacity;
+    private final int[] words;
+    // free[b][(day * SLOTS + slot) * words[b] + w], bit i = bucketRooms[b][w * 64 + i] is free
+    private final long[][] free;
+    // position[b][room] = index in bucketRooms[b], or -1
+    private final int[][] position;
+
+    RoomAllocator(ScheduleModel model, long[] roomBusy) {
+        this.model = model;
+        this.kindBucket = new int[model.kindRooms.length];
+        List<int[]> distinct = new ArrayList<>();
+        for (int k = 0; k < model.kindRooms.length; k++) {
+            int b = 0;
+            while (b < distinct.size() && distinct.get(b) != model.kindRooms[k]) b++;
+            if (b == distinct.size()) distinct.add(model.kindRooms[k]);
+            kindBucket[k] = b;
+        }
+
+        int buckets = distinct.size();
+        this.bucketRooms = distinct.toArray(new int[0][]);
+        this.bucketCapacity = new int[buckets][];
+        this.words = new int[buckets];
+        this.free = new long[buckets][];
+        this.position = new int[buckets][];
+        for (int b = 0; b < buckets; b++) {
+            int[] rooms = bucketRooms[b];
+            bucketCapacity[b] = new int[rooms.length];
+            words[b] = (rooms.length + 63) >>> 6;
+            free[b] = new long[DAYS * SLOTS * words[b]];
+            position[b] = new int[model.roomCount()];
+            Arrays.fill(position[b], -1);
+            for (int p = 0; p < rooms.length; p++) {
+                bucketCapacity[b][p] = model.roomCapacity[rooms[p]];
+                position[b][rooms[p]] = p;
+                for (int d = 0; d < DAYS; d++) {
+                    long busy = roomBusy[rooms[p] * DAYS + d];
+                    for (int s = 0; s < SLOTS; s++) {
+                        if ((busy & (1L << s)) == 0) free[b][(d * SLOTS + s) * words[b] + (p >>> 6)] |= 1L << p;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Smallest free room of the kind's list that seats {@code need} and has
+     * every feature bit in {@code needs}; failing that, the largest free one
+     * with those features. -1 if none is free for the whole mask.
+     */
+    int find(int kind, int need, long needs, int day, long mask) {
+        int b = kindBucket[kind];
+        int[] rooms = bucketRooms[b];
+        int first = lowerBound(bucketCapacity[b], need);
+
+        for (int w = first >>> 6; w < words[b]; w++) {
+            long word = freeWord(b, day, mask, w);
+            if (w == first >>> 6) word &= -1L << (first & 63);
+            for (; word != 0; word &= word - 1) {
+                int room = rooms[(w << 6) + Long.numberOfTrailingZeros(word)];
+                if ((model.roomFeatures[room] & needs) == needs) return room;
+            }
+        }
+        // Nothing big enough: walk down from just below the first big-enough position
+        for (int w = (first - 1) >> 6; w >= 0; w--) {
+            long word = freeWord(b, day, mask, w);
+            if (w == (first - 1) >> 6) word &= -1L >>> (63 - ((first - 1) & 63));
+            while (word != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                int room = rooms[(w << 6) + bit];
+                if ((model.roomFeatures[room] & needs) == needs) return room;
+                word &= ~(1L << bit);
+            }
+        }
+        return -1;
+    }
+
+    void occupy(int room, int day, long mask) {
+        update(room, day, mask, false);
+    }
+
+    void release(int room, int day, long mask) {
+        update(room, day, mask, true);
+    }
+
+    private void update(int room, int day, long mask, boolean isFree) {
+        for (int b = 0; b < bucketRooms.length; b++) {
+            int p = position[b][room];
+            if (p < 0) continue;
+            long bit = 1L << p;
+            for (long m = mask; m != 0; m &= m - 1) {
+                int i = (day * SLOTS + Long.numberOfTrailingZeros(m)) * words[b] + (p >>> 6);
+                if (isFree) free[b][i] |= bit; else free[b][i] &= ~bit;
+            }
+        }
+    }
+
+    // Rooms of bucket b free in every slot of the mask, for the w-th group of 64
+    private long freeWord(int b, int day, long mask, int w) {
+        long word = -1L;
+        for (long m = mask; m != 0; m &= m - 1) {
+            word &= free[b][(day * SLOTS + Long.numberOfTrailingZeros(m)) * words[b] + w];
+        }
+        return word;
+    }
+
+    // First index whose capacity is >= need (capacities are ascending)
+    private static int lowerBound(int[] capacity, int need) {
+        int lo = 0;
+        int hi = capacity.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (capacity[mid] < need) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // ===== Matching pass =====
+
+    /**
+     * Re-matches rooms among the placed sessions that start in the same slot
+     * of the same day and use the same room list, as a maximum bipartite
+     * matching (sessions to free rooms). Larger sections pick first and try
+     * rooms that seat them smallest-first, so one small class no longer keeps
+     * the only big enough room. A slot's new matching is kept only when it
+     * seats more sessions, or as many with fewer empty seats. Times and
+     * faculty never change. Returns the number of sessions that changed room.
+     */
+    public static int rebalance(ScheduleState state) {
+        ScheduleModel model = state.model;
+        RoomAllocator allocator = state.rooms;
+        int buckets = allocator.bucketRooms.length;
+
+        // Group placed sessions by (day, start, bucket)
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int i = 0; i < DAYS * SLOTS * buckets; i++) groups.add(null);
+        for (int s = 0; s < model.sessionCount(); s++) {
+            if (!state.isPlaced(s)) continue;
+            int g = (state.day(s) * SLOTS + state.start(s)) * buckets + allocator.kindBucket[model.sessionKind[s]];
+            if (groups.get(g) == null) groups.set(g, new ArrayList<>());
+            groups.get(g).add(s);
+        }
+
+        int moved = 0;
+        for (int g = 0; g < groups.size(); g++) {
+            List<Integer> group = groups.get(g);
+            if (group == null || group.size() < 2) continue;
+            moved += allocator.rematch(state, g % buckets, group);
+        }
+        return moved;
+    }
+
+    private int rematch(ScheduleState state, int b, List<Integer> group) {
+        int n = group.size();
+        int[] sessions = group.stream().mapToInt(Integer::intValue).toArray();
+        int[] original = new int[n];
+        int[] need = new int[n];
+        long[] needs = new long[n];
+        for (int i = 0; i < n; i++) {
+            original[i] = state.room(sessions[i]);
+            int section = model.sessionSection(sessions[i]);
+            need[i] = model.sectionCapacity[section];
+            needs[i] = model.sectionRoomNeeds[section];
+            state.releaseRoom(sessions[i]);
+        }
+
+        // Candidate positions per session: rooms that seat it smallest-first, then the rest largest-first
+        int[][] candidates = new int[n][];
+        int[] rooms = bucketRooms[b];
+        for (int i = 0; i < n; i++) {
+            int day = state.day(sessions[i]);
+            long mask = SlotGrid.mask(state.start(sessions[i]), model.sessionLength[sessions[i]]);
+            int first = lowerBound(bucketCapacity[b], need[i]);
+            List<Integer> fitting = new ArrayList<>();
+            List<Integer> smaller = new ArrayList<>();
+            for (int w = 0; w < words[b]; w++) {
+                for (long word = freeWord(b, day, mask, w); word != 0; word &= word - 1) {
+                    int p = (w << 6) + Long.numberOfTrailingZeros(word);
+                    if ((model.roomFeatures[rooms[p]] & needs[i]) != needs[i]) continue;
+                    if (p >= first) fitting.add(p); else smaller.add(0, p);
+                }
+            }
+            fitting.addAll(smaller);
+            candidates[i] = fitting.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (x, y) -> Integer.compare(need[y], need[x]));
+
+        int[] owner = new int[rooms.length];
+        Arrays.fill(owner, -1);
+        int[] matched = new int[n];
+        Arrays.fill(matched, -1);
+        boolean complete = true;
+        for (int i : order) {
+            if (!augment(i, candidates, owner, matched, new boolean[rooms.length])) {
+                complete = false;
+                break;
+            }
+        }
+
+        int[] chosen = new int[n];
+        for (int i = 0; i < n; i++) chosen[i] = complete ? rooms[matched[i]] : original[i];
+        if (complete && !better(chosen, original, need)) chosen = original;
+
+        int moved = 0;
+        for (int i = 0; i < n; i++) {
+            state.assignRoom(sessions[i], chosen[i]);
+            if (chosen[i] != original[i]) moved++;
+        }
+        return moved;
+    }
+
+    // Kuhn's augmenting path from session i
+    private static boolean augment(int i, int[][] candidates, int[] owner, int[] matched, boolean[] seen) {
+        for (int p : candidates[i]) {
+            if (seen[p]) continue;
+            seen[p] = true;
+            if (owner[p] < 0 || augment(owner[p], candidates, owner, matched, seen)) {
+                owner[p] = i;
+                matched[i] = p;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // More sessions seated, or as many with fewer empty seats
+    private boolean better(int[] chosen, int[] original, int[] need) {
+        int seated = 0, seatedBefore = 0;
+        long empty = 0, emptyBefore = 0;
+        for (int i = 0; i < chosen.length; i++) {
+            int cap = model.roomCapacity[chosen[i]];
+            int capBefore = model.roomCapacity[original[i]];
+            if (cap >= need[i]) { seated++; empty += cap - need[i]; }
+            if (capBefore >= need[i]) { seatedBefore++; emptyBefore += capBefore - need[i]; }
+        }
+        return seated > seatedBefore || (seated == seatedBefore && empty < emptyBefore);
+    }
+}
@@ -0,0 +1,71 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Active constraints compiled by {@link ConstraintCompiler} into per-day slot
+ * masks. Hard rules block slots outright or cap daily hours; soft rules mark
+ * slots to avoid with a weight. Rules apply to everything (global) or to one
+ * faculty, room or section, looked up by {@link ScheduleModelBuilder#key}.
+ *
+ * Immutable once compiled; {@link ScheduleModelBuilder} folds it into the
+ * model's primitive arrays so the solver never sees this class.
+ */
+public final class RuleSet {
+
+    public static final int PREFERRED_WEIGHT = 10;
+    public static final int OPTIONAL_WEIGHT = 1;
+
+    public static final RuleSet EMPTY = new RuleSet(new Scope(), Map.of(), Map.of(), Map.of(), 0, List.of());
+
+    // Masks for one scope; index = day
+    static final class Scope {
+        final long[] blocked = new long[SlotGrid.DAYS];
+        final long[] preferred = new long[SlotGrid.DAYS];
+        final long[] optional = new long[SlotGrid.DAYS];
+        int dailyCap; // 0 = no cap
+        // Room requirements (section and global scope): equipment keys and step-free access
+        final Set<String> equipment = new HashSet<>();
+        boolean accessible;
+    }
+
+    private static final Scope NONE = new Scope();
+
+    private final Scope global;
+    private final Map<String, Scope> faculty;
+    private final Map<String, Scope> rooms;
+    private final Map<String, Scope> sections;
+    private final int compiledCount;
+    private final List<String> ignored;
+
+    RuleSet(Scope global, Map<String, Scope> faculty, Map<String, Scope> rooms, Map<String, Scope> sections,
+            int compiledCount, List<String> ignored) {
+        this.global = global;
+        this.faculty = new HashMap<>(faculty);
+        this.rooms = new HashMap<>(rooms);
+        this.sections = new HashMap<>(sections);
+        this.compiledCount = compiledCount;
+        this.ignored = List.copyOf(ignored);
+    }
+
+    Scope global() { return global; }
+    Scope faculty(String name) { return faculty.getOrDefault(key(name), NONE); }
+    Map<String, Scope> facultyScopes() { return faculty; }
+    Scope room(String name, String code) {
+        Scope scope = rooms.get(key(name));
+        return scope != null ? scope : rooms.getOrDefault(key(code), NONE);
+    }
+    Scope section(String id) { return sections.getOrDefault(key(id), NONE); }
+
+    // Number of constraints that produced at least one rule
+    public int getCompiledCount() { return compiledCount; }
+
+    // Active constraints whose parameters could not be turned into a rule
+    public List<String> getIgnored() { return ignored; }
+}
@@ -0,0 +1,150 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+
+/**
+ * Scheduling problem compiled to primitive arrays. Built once per solve by
+ * {@link ScheduleModelBuilder} and never mutated afterwards, so it can be
+ * shared between solver threads; all mutable state lives in {@link ScheduleState}.
+ *
+ * Occupancy arrays are flattened as [resourceIndex * SlotGrid.DAYS + day].
+ */
+public final class ScheduleModel {
+
+    public static final int KIND_LECTURE = 0;
+    public static final int KIND_TUTORIAL = 1;
+    public static final int KIND_LAB = 2;
+
+    static final String[] KIND_NAMES = { "LECTURE", "TUTORIAL", "LAB" };
+
+    // Room feature bit for step-free access; lower bits are required equipment items
+    static final long ROOM_ACCESSIBLE = 1L << 63;
+
+    // ===== Resources =====
+    final Section[] sections;
+    final int[] sectionCapacity;
+    // Feature bits every room of the section must have
+    final long[] sectionRoomNeeds;
+
+    final Faculty[] faculty;
+    final int[] facultyMaxPerDay;
+    final int[] facultyMaxPerWeek;
+
+    final Room[] rooms;
+    final int[] roomCapacity;
+    final long[] roomFeatures;
+    // Candidate rooms per session kind, sorted by capacity ascending
+    final int[][] kindRooms;
+
+    final Subject[] subjects;
+
+    // ===== Courses: one (section, subject, lab?) group taught by one faculty =====
+    final int[] courseSection;
+    final int[] courseSubject;
+    final int[][] courseFaculty;
+
+    // ===== Sessions: one contiguous block to place =====
+    final int[] sessionCourse;
+    final int[] sessionLength;
+    final int[] sessionKind;
+
+    // ===== Occupancy that exists before the solve (other sections' entries) =====
+    final long[] fixedSectionBusy;
+    final long[] fixedFacultyBusy;
+    final long[] fixedRoomBusy;
+    final int[] fixedFacultyWeekLoad;
+
+    // ===== Compiled constraints; section and room hard rules are folded into the fixed arrays =====
+    final long[] facultyBlocked;
+    final long[] sectionPreferred;
+    final long[] sectionOptional;
+    final long[] facultyPreferred;
+    final long[] facultyOptional;
+    final boolean hasSoftRules;
+
+    ScheduleModel(Section[] sections, int[] sectionCapacity, long[] sectionRoomNeeds,
+                  Faculty[] faculty, int[] facultyMaxPerDay, int[] facultyMaxPerWeek,
+                  Room[] rooms, int[] roomCapacity, long[] roomFeatures, int[][] kindRooms,
+                  Subject[] subjects,
+                  int[] courseSection, int[] courseSubject, int[][] courseFaculty,
+                  int[] sessionCourse, int[] sessionLength, int[] sessionKind,
+                  long[] fixedSectionBusy, long[] fixedFacultyBusy, long[] fixedRoomBusy,
+                  int[] fixedFacultyWeekLoad,
+                  long[] facultyBlocked, long[] sectionPreferred, long[] sectionOptional,
+                  long[] facultyPreferred, long[] facultyOptional) {
+        this.sections = sections;
+        this.sectionCapacity = sectionCapacity;
+        this.sectionRoomNeeds = sectionRoomNeeds;
+        this.faculty = faculty;
+        this.facultyMaxPerDay = facultyMaxPerDay;
+        this.facultyMaxPerWeek = facultyMaxPerWeek;
+        this.rooms = rooms;
+        this.roomCapacity = roomCapacity;
+        this.roomFeatures = roomFeatures;
+        this.kindRooms = kindRooms;
+        this.subjects = subjects;
+        this.courseSection = courseSection;
+        this.courseSubject = courseSubject;
+        this.courseFaculty = courseFaculty;
+        this.sessionCourse = sessionCourse;
+        this.sessionLength = sessionLength;
+        this.sessionKind = sessionKind;
+        this.fixedSectionBusy = fixedSectionBusy;
+        this.fixedFacultyBusy = fixedFacultyBusy;
+        this.fixedRoomBusy = fixedRoomBusy;
+        this.fixedFacultyWeekLoad = fixedFacultyWeekLoad;
+        this.facultyBlocked = facultyBlocked;
+        this.sectionPreferred = sectionPreferred;
+        this.sectionOptional = sectionOptional;
+        this.facultyPreferred = facultyPreferred;
+        this.facultyOptional = facultyOptional;
+        this.hasSoftRules = any(sectionPreferred) || any(sectionOptional) || any(facultyPreferred) || any(facultyOptional);
+    }
+
+    public int sectionCount() { return sections.length; }
+    public int facultyCount() { return faculty.length; }
+    public int roomCount() { return rooms.length; }
+    public int courseCount() { return courseSection.length; }
+    public int sessionCount() { return sessionCourse.length; }
+
+    public Section section(int index) { return sections[index]; }
+    public Faculty faculty(int index) { return faculty[index]; }
+    public Room room(int index) { return rooms[index]; }
+    public Subject subject(int index) { return subjects[index]; }
+
+    public int sessionSection(int session) { return courseSection[sessionCourse[session]]; }
+    public int sessionSubject(int session) { return courseSubject[sessionCourse[session]]; }
+    public int sessionLength(int session) { return sessionLength[session]; }
+    public int sessionKind(int session) { return sessionKind[session]; }
+
+    // Slots soft rules would rather keep free for this section/faculty on that day
+    long softAvoid(int section, int faculty, int day) {
+        int s = section * SlotGrid.DAYS + day;
+        int f = faculty * SlotGrid.DAYS + day;
+        return sectionPreferred[s] | sectionOptional[s] | facultyPreferred[f] | facultyOptional[f];
+    }
+
+    // Weighted number of soft-rule slots a placement occupies; 0 = no preference broken
+    public int softPenalty(int section, int faculty, int day, long mask) {
+        int s = section * SlotGrid.DAYS + day;
+        int f = faculty * SlotGrid.DAYS + day;
+        return RuleSet.PREFERRED_WEIGHT * Long.bitCount(mask & (sectionPreferred[s] | facultyPreferred[f]))
+                + RuleSet.OPTIONAL_WEIGHT * Long.bitCount(mask & (sectionOptional[s] | facultyOptional[f]));
+    }
+
+    public boolean hasSoftRules() { return hasSoftRules; }
+
+    private static boolean any(long[] masks) {
+        for (long m : masks) {
+            if (m != 0) return true;
+        }
+        return false;
+    }
+
+    public static String kindName(int kind) {
+        return KIND_NAMES[kind];
+    }
+}
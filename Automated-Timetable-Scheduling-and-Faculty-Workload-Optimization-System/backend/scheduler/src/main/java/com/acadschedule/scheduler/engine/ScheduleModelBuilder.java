@@ -0,0 +1,337 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.RoomStatus;
+import com.acadschedule.scheduler.entity.RoomType;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles catalog entities into a {@link ScheduleModel}. All string matching
+ * (eligibility, room names, day/slot labels) happens here, once per solve.
+ */
+public class ScheduleModelBuilder {
+
+    private final List<Section> sections = new ArrayList<>();
+    private final List<Subject> subjects = new ArrayList<>();
+    private final List<Faculty> faculty = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<TimetableEntry> occupied = new ArrayList<>();
+    private RuleSet rules = RuleSet.EMPTY;
+    private FacultyAvailability availability;
+
+    // Sections to generate sessions for
+    public ScheduleModelBuilder sections(Collection<Section> sections) {
+        this.sections.addAll(sections);
+        return this;
+    }
+
+    public ScheduleModelBuilder subjects(Collection<Subject> subjects) {
+        this.subjects.addAll(subjects);
+        return this;
+    }
+
+    public ScheduleModelBuilder faculty(Collection<Faculty> faculty) {
+        for (Faculty f : faculty) {
+            if (f.isActive()) this.faculty.add(f);
+        }
+        return this;
+    }
+
+    public ScheduleModelBuilder rooms(Collection<Room> rooms) {
+        for (Room r : rooms) {
+            if (r.isActive() && r.getStatus() != RoomStatus.DRAFT && r.getType() != null) this.rooms.add(r);
+        }
+        return this;
+    }
+
+    // Entries that stay as they are; their faculty and rooms count as busy
+    public ScheduleModelBuilder occupied(Collection<TimetableEntry> entries) {
+        this.occupied.addAll(entries);
+        return this;
+    }
+
+    public ScheduleModelBuilder rules(RuleSet rules) {
+        this.rules = rules;
+        return this;
+    }
+
+    // Faculty blocked slots from a calendar built from the same rules, instead of resolving them here
+    public ScheduleModelBuilder availability(FacultyAvailability availability) {
+        this.availability = availability;
+        return this;
+    }
+
+    public ScheduleModel build() {
+        final int days = SlotGrid.DAYS;
+
+        Section[] sectionArr = sections.toArray(new Section[0]);
+        int[] sectionCapacity = new int[sectionArr.length];
+        for (int i = 0; i < sectionArr.length; i++) {
+            sectionCapacity[i] = sectionArr[i].getCapacity();
+        }
+
+        Faculty[] facultyArr = faculty.toArray(new Faculty[0]);
+        int[] maxPerDay = new int[facultyArr.length];
+        int[] maxPerWeek = new int[facultyArr.length];
+        Map<String, Integer> facultyByKey = new HashMap<>();
+        Map<Long, Integer> facultyById = new HashMap<>();
+        for (int i = 0; i < facultyArr.length; i++) {
+            Faculty f = facultyArr[i];
+            maxPerDay[i] = f.getMaxHoursPerDay() > 0 ? f.getMaxHoursPerDay() : SlotGrid.SLOTS_PER_DAY;
+            maxPerWeek[i] = f.getMaxHoursPerWeek() > 0 ? f.getMaxHoursPerWeek() : SlotGrid.SLOTS_PER_DAY * days;
+            if (f.getName() != null) facultyByKey.put(key(f.getName()), i);
+            if (f.getId() != null) facultyById.put(f.getId(), i);
+        }
+
+        Room[] roomArr = rooms.toArray(new Room[0]);
+        int[] roomCapacity = new int[roomArr.length];
+        Map<String, Integer> roomByKey = new HashMap<>();
+        Map<Long, Integer> roomById = new HashMap<>();
+        for (int i = 0; i < roomArr.length; i++) {
+            roomCapacity[i] = roomArr[i].getCapacity();
+            if (roomArr[i].getId() != null) roomById.put(roomArr[i].getId(), i);
+            if (roomArr[i].getName() != null) roomByKey.put(key(roomArr[i].getName()), i);
+            if (roomArr[i].getCode() != null) roomByKey.putIfAbsent(key(roomArr[i].getCode()), i);
+        }
+        int[] teachingRooms = roomsOfType(roomArr, RoomType.LECTURE, RoomType.SEMINAR);
+        int[][] kindRooms = {
+                teachingRooms,
+                teachingRooms,
+                roomsOfType(roomArr, RoomType.LAB)
+        };
+
+        Subject[] subjectArr = subjects.toArray(new Subject[0]);
+        int[][] subjectFaculty = new int[subjectArr.length][];
+        for (int j = 0; j < subjectArr.length; j++) {
+            subjectFaculty[j] = eligibleFaculty(subjectArr[j], facultyArr);
+        }
+
+        // Courses and their sessions
+        List<int[]> courses = new ArrayList<>();
+        List<int[]> sessions = new ArrayList<>();
+        for (int s = 0; s < sectionArr.length; s++) {
+            for (int j = 0; j < subjectArr.length; j++) {
+                if (!offeredTo(subjectArr[j], sectionArr[s])) continue;
+                Subject subject = subjectArr[j];
+
+                int theory = subject.getLectureHoursPerWeek() + subject.getTutorialHoursPerWeek();
+                if (theory > 0) {
+                    int course = courses.size();
+                    courses.add(new int[] { s, j });
+                    for (int h = 0; h < subject.getLectureHoursPerWeek(); h++) {
+                        sessions.add(new int[] { course, 1, ScheduleModel.KIND_LECTURE });
+                    }
+                    for (int h = 0; h < subject.getTutorialHoursPerWeek(); h++) {
+                        sessions.add(new int[] { course, 1, ScheduleModel.KIND_TUTORIAL });
+                    }
+                }
+
+                int lab = subject.getLabHoursPerWeek();
+                if (lab > 0) {
+                    int course = courses.size();
+                    courses.add(new int[] { s, j });
+                    // Split lab hours into blocks that fit between breaks (4 -> 2+2, 5 -> 3+2)
+                    while (lab > 0) {
+                        int block = lab <= SlotGrid.MAX_BLOCK ? lab : (lab == 4 ? 2 : SlotGrid.MAX_BLOCK);
+                        sessions.add(new int[] { course, block, ScheduleModel.KIND_LAB });
+                        lab -= block;
+                    }
+                }
+            }
+        }
+
+        int[] courseSection = new int[courses.size()];
+        int[] courseSubject = new int[courses.size()];
+        int[][] courseFaculty = new int[courses.size()][];
+        for (int c = 0; c < courses.size(); c++) {
+            courseSection[c] = courses.get(c)[0];
+            courseSubject[c] = courses.get(c)[1];
+            courseFaculty[c] = subjectFaculty[courseSubject[c]];
+        }
+
+        int[] sessionCourse = new int[sessions.size()];
+        int[] sessionLength = new int[sessions.size()];
+        int[] sessionKind = new int[sessions.size()];
+        for (int i = 0; i < sessions.size(); i++) {
+            sessionCourse[i] = sessions.get(i)[0];
+            sessionLength[i] = sessions.get(i)[1];
+            sessionKind[i] = sessions.get(i)[2];
+        }
+
+        // Existing entries of sections we are not regenerating. Rows are matched to the catalog by id;
+        // names only count for rows written before ids were stored, since a rename leaves them stale.
+        Set<String> targetIds = new HashSet<>();
+        Set<Long> targetRefs = new HashSet<>();
+        for (Section s : sectionArr) {
+            targetIds.add(String.valueOf(s.getId()));
+            if (s.getId() != null) targetRefs.add(s.getId());
+        }
+
+        long[] fixedSectionBusy = new long[sectionArr.length * days];
+        long[] fixedFacultyBusy = new long[facultyArr.length * days];
+        long[] fixedRoomBusy = new long[roomArr.length * days];
+        int[] fixedFacultyWeekLoad = new int[facultyArr.length];
+        for (TimetableEntry e : occupied) {
+            boolean target = e.getSectionRefId() != null
+                    ? targetRefs.contains(e.getSectionRefId()) : targetIds.contains(e.getSectionId());
+            if (target) continue;
+            int day = SlotGrid.dayIndex(e.getDay());
+            int slot = SlotGrid.slotIndex(e.getTimeSlot());
+            if (day < 0 || slot < 0) continue;
+            long bit = 1L << slot;
+
+            Integer f = e.getFacultyId() != null
+                    ? facultyById.get(e.getFacultyId()) : facultyByKey.get(key(e.getFacultyName()));
+            if (f != null && (fixedFacultyBusy[f * days + day] & bit) == 0) {
+                fixedFacultyBusy[f * days + day] |= bit;
+                fixedFacultyWeekLoad[f]++;
+            }
+            Integer r = e.getRoomId() != null ? roomById.get(e.getRoomId()) : roomByKey.get(key(e.getRoomNumber()));
+            if (r != null) {
+                fixedRoomBusy[r * days + day] |= bit;
+            }
+        }
+
+        // Constraint rules: hard section/room rules look like existing occupancy, faculty ones are kept apart
+        // because facultyBusy also counts teaching hours
+        RuleSet.Scope global = rules.global();
+        long[] facultyBlocked = new long[facultyArr.length * days];
+        long[] sectionPreferred = new long[sectionArr.length * days];
+        long[] sectionOptional = new long[sectionArr.length * days];
+        long[] facultyPreferred = new long[facultyArr.length * days];
+        long[] facultyOptional = new long[facultyArr.length * days];
+        for (int s = 0; s < sectionArr.length; s++) {
+            RuleSet.Scope own = rules.section(String.valueOf(sectionArr[s].getId()));
+            for (int d = 0; d < days; d++) {
+                fixedSectionBusy[s * days + d] |= global.blocked[d] | own.blocked[d];
+                sectionPreferred[s * days + d] = global.preferred[d] | own.preferred[d];
+                sectionOptional[s * days + d] = global.optional[d] | own.optional[d];
+            }
+        }
+        for (int f = 0; f < facultyArr.length; f++) {
+            RuleSet.Scope own = rules.faculty(facultyArr[f].getName());
+            for (int d = 0; d < days; d++) {
+                facultyBlocked[f * days + d] = availability != null
+                        ? availability.blocked(facultyArr[f].getName(), d) : own.blocked[d];
+                facultyPreferred[f * days + d] = own.preferred[d];
+                facultyOptional[f * days + d] = own.optional[d];
+            }
+            if (global.dailyCap > 0) maxPerDay[f] = Math.min(maxPerDay[f], global.dailyCap);
+            if (own.dailyCap > 0) maxPerDay[f] = Math.min(maxPerDay[f], own.dailyCap);
+        }
+        for (int r = 0; r < roomArr.length; r++) {
+            RuleSet.Scope own = rules.room(roomArr[r].getName(), roomArr[r].getCode());
+            for (int d = 0; d < days; d++) {
+                fixedRoomBusy[r * days + d] |= own.blocked[d];
+            }
+        }
+
+        // Room requirements become feature bits: one per required equipment item, plus step-free access
+        Map<String, Integer> featureBits = new HashMap<>();
+        long[] sectionRoomNeeds = new long[sectionArr.length];
+        for (int s = 0; s < sectionArr.length; s++) {
+            RuleSet.Scope own = rules.section(String.valueOf(sectionArr[s].getId()));
+            sectionRoomNeeds[s] = roomNeeds(global, featureBits) | roomNeeds(own, featureBits);
+        }
+        long[] roomFeatures = new long[roomArr.length];
+        for (int r = 0; r < roomArr.length; r++) {
+            if (roomArr[r].getEquipment() != null) {
+                for (String item : roomArr[r].getEquipment()) {
+                    Integer bit = featureBits.get(key(item));
+                    if (bit != null) roomFeatures[r] |= 1L << bit;
+                }
+            }
+            if (roomArr[r].isWheelchairAccessible()) roomFeatures[r] |= ScheduleModel.ROOM_ACCESSIBLE;
+        }
+
+        return new ScheduleModel(sectionArr, sectionCapacity, sectionRoomNeeds,
+                facultyArr, maxPerDay, maxPerWeek,
+                roomArr, roomCapacity, roomFeatures, kindRooms,
+                subjectArr,
+                courseSection, courseSubject, courseFaculty,
+                sessionCourse, sessionLength, sessionKind,
+                fixedSectionBusy, fixedFacultyBusy, fixedRoomBusy, fixedFacultyWeekLoad,
+                facultyBlocked, sectionPreferred, sectionOptional, facultyPreferred, facultyOptional);
+    }
+
+    // Only items some section asks for get a bit; past 63 distinct items the rest are not enforced
+    private static long roomNeeds(RuleSet.Scope scope, Map<String, Integer> featureBits) {
+        long needs = scope.accessible ? ScheduleModel.ROOM_ACCESSIBLE : 0;
+        for (String item : scope.equipment) {
+            int bit = featureBits.computeIfAbsent(item, k -> featureBits.size());
+            if (bit < 63) needs |= 1L << bit;
+        }
+        return needs;
+    }
+
+    static boolean offeredTo(Subject subject, Section section) {
+        if (subject.getYear() != section.getYear()) return false;
+        return subject.getDepartment() == null || section.getDepartment() == null
+                || subject.getDepartment().equalsIgnoreCase(section.getDepartment());
+    }
+
+    // Subject.eligibleFaculty holds faculty ids (or names); Faculty.eligibleSubjects holds codes (or names).
+    // With neither filled in, fall back to the subject's department.
+    public static int[] eligibleFaculty(Subject subject, Faculty[] faculty) {
+        Set<String> listed = new HashSet<>();
+        if (subject.getEligibleFaculty() != null) {
+            for (String s : subject.getEligibleFaculty()) listed.add(key(s));
+        }
+
+        List<Integer> explicit = new ArrayList<>();
+        List<Integer> department = new ArrayList<>();
+        for (int i = 0; i < faculty.length; i++) {
+            Faculty f = faculty[i];
+            boolean named = listed.contains(key(String.valueOf(f.getId())))
+                    || listed.contains(key(f.getEmployeeId()))
+                    || listed.contains(key(f.getName()));
+            if (!named && f.getEligibleSubjects() != null) {
+                for (String s : f.getEligibleSubjects()) {
+                    String k = key(s);
+                    if (k.equals(key(subject.getCode())) || k.equals(key(subject.getName()))) {
+                        named = true;
+                        break;
+                    }
+                }
+            }
+            if (named) {
+                explicit.add(i);
+            } else if (subject.getDepartment() == null || f.getDepartment() == null
+                    || subject.getDepartment().equalsIgnoreCase(f.getDepartment())) {
+                department.add(i);
+            }
+        }
+        List<Integer> chosen = explicit.isEmpty() ? department : explicit;
+        return chosen.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] roomsOfType(Room[] rooms, RoomType... types) {
+        List<Integer> matching = new ArrayList<>();
+        for (int i = 0; i < rooms.length; i++) {
+            for (RoomType t : types) {
+                if (rooms[i].getType() == t) {
+                    matching.add(i);
+                    break;
+                }
+            }
+        }
+        matching.sort(Comparator.comparingInt(i -> rooms[i].getCapacity()));
+        return matching.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,158 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * Mutable occupancy and assignment for one solve over a {@link ScheduleModel}.
+ * Every clash check is an AND of the candidate slot mask against a day word.
+ */
+public final class ScheduleState {
+
+    private static final int DAYS = SlotGrid.DAYS;
+
+    final ScheduleModel model;
+
+    final long[] sectionBusy;
+    final long[] facultyBusy;
+    final long[] roomBusy;
+    final RoomAllocator rooms;
+    final int[] facultyWeekLoad;
+
+    final int[] sessionDay;
+    final int[] sessionStart;
+    final int[] sessionFaculty;
+    final int[] sessionRoom;
+
+    // Faculty chosen for each course (-1 = none yet), sessions holding that choice, and days used
+    final int[] courseTeacher;
+    final int[] courseRefs;
+    final int[] courseDays;
+
+    public ScheduleState(ScheduleModel model) {
+        this.model = model;
+        this.sectionBusy = model.fixedSectionBusy.clone();
+        this.facultyBusy = model.fixedFacultyBusy.clone();
+        this.roomBusy = model.fixedRoomBusy.clone();
+        this.rooms = new RoomAllocator(model, roomBusy);
+        this.facultyWeekLoad = model.fixedFacultyWeekLoad.clone();
+
+        int sessions = model.sessionCount();
+        this.sessionDay = new int[sessions];
+        this.sessionStart = new int[sessions];
+        this.sessionFaculty = new int[sessions];
+        this.sessionRoom = new int[sessions];
+        Arrays.fill(sessionDay, -1);
+        Arrays.fill(sessionStart, -1);
+        Arrays.fill(sessionFaculty, -1);
+        Arrays.fill(sessionRoom, -1);
+
+        int courses = model.courseCount();
+        this.courseTeacher = new int[courses];
+        this.courseRefs = new int[courses];
+        this.courseDays = new int[courses];
+        Arrays.fill(courseTeacher, -1);
+    }
+
+    public ScheduleModel model() { return model; }
+
+    public boolean isPlaced(int session) { return sessionDay[session] >= 0; }
+    public int day(int session) { return sessionDay[session]; }
+    public int start(int session) { return sessionStart[session]; }
+    public int faculty(int session) { return sessionFaculty[session]; }
+    public int room(int session) { return sessionRoom[session]; }
+
+    public int facultyWeekLoad(int faculty) { return facultyWeekLoad[faculty]; }
+    public long facultyBusy(int faculty, int day) { return facultyBusy[faculty * DAYS + day]; }
+    public long roomBusy(int room, int day) { return roomBusy[room * DAYS + day]; }
+    public long sectionBusy(int section, int day) { return sectionBusy[section * DAYS + day]; }
+
+    public int placedCount() {
+        int placed = 0;
+        for (int d : sessionDay) {
+            if (d >= 0) placed++;
+        }
+        return placed;
+    }
+
+    // Section, faculty and course-level checks; rooms are picked separately
+    boolean fits(int session, int day, long mask, int faculty) {
+        int course = model.sessionCourse[session];
+        int length = model.sessionLength[session];
+
+        if ((courseDays[course] & (1 << day)) != 0) return false;
+        if ((sectionBusy[model.courseSection[course] * DAYS + day] & mask) != 0) return false;
+
+        long fBusy = facultyBusy[faculty * DAYS + day];
+        if (((fBusy | model.facultyBlocked[faculty * DAYS + day]) & mask) != 0) return false;
+        if (Long.bitCount(fBusy) + length > model.facultyMaxPerDay[faculty]) return false;
+        return facultyWeekLoad[faculty] + length <= model.facultyMaxPerWeek[faculty];
+    }
+
+    // Smallest free room that seats the section, else the largest free one; -1 if none is free
+    int findRoom(int session, int day, long mask) {
+        int section = model.sessionSection(session);
+        return rooms.find(model.sessionKind[session], model.sectionCapacity[section],
+                model.sectionRoomNeeds[section], day, mask);
+    }
+
+    void place(int session, int day, int start, int faculty, int room) {
+        int course = model.sessionCourse[session];
+        int length = model.sessionLength[session];
+        long mask = SlotGrid.mask(start, length);
+
+        sectionBusy[model.courseSection[course] * DAYS + day] |= mask;
+        facultyBusy[faculty * DAYS + day] |= mask;
+        roomBusy[room * DAYS + day] |= mask;
+        rooms.occupy(room, day, mask);
+        facultyWeekLoad[faculty] += length;
+
+        courseTeacher[course] = faculty;
+        courseRefs[course]++;
+        courseDays[course] |= 1 << day;
+
+        sessionDay[session] = day;
+        sessionStart[session] = start;
+        sessionFaculty[session] = faculty;
+        sessionRoom[session] = room;
+    }
+
+    void unplace(int session) {
+        int day = sessionDay[session];
+        if (day < 0) return;
+        int course = model.sessionCourse[session];
+        int length = model.sessionLength[session];
+        int faculty = sessionFaculty[session];
+        long mask = SlotGrid.mask(sessionStart[session], length);
+
+        sectionBusy[model.courseSection[course] * DAYS + day] &= ~mask;
+        facultyBusy[faculty * DAYS + day] &= ~mask;
+        roomBusy[sessionRoom[session] * DAYS + day] &= ~mask;
+        rooms.release(sessionRoom[session], day, mask);
+        facultyWeekLoad[faculty] -= length;
+
+        if (--courseRefs[course] == 0) courseTeacher[course] = -1;
+        courseDays[course] &= ~(1 << day);
+
+        sessionDay[session] = -1;
+        sessionStart[session] = -1;
+        sessionFaculty[session] = -1;
+        sessionRoom[session] = -1;
+    }
+
+    // Room moves for RoomAllocator.rebalance: the session keeps its time and faculty
+    void releaseRoom(int session) {
+        int day = sessionDay[session];
+        long mask = SlotGrid.mask(sessionStart[session], model.sessionLength[session]);
+        roomBusy[sessionRoom[session] * DAYS + day] &= ~mask;
+        rooms.release(sessionRoom[session], day, mask);
+        sessionRoom[session] = -1;
+    }
+
+    void assignRoom(int session, int room) {
+        int day = sessionDay[session];
+        long mask = SlotGrid.mask(sessionStart[session], model.sessionLength[session]);
+        roomBusy[room * DAYS + day] |= mask;
+        rooms.occupy(room, day, mask);
+        sessionRoom[session] = room;
+    }
+}
@@ -0,0 +1,69 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Groups sections that can be solved independently: two sections end up in the
+ * same partition when any of their courses share an eligible faculty member.
+ * Rooms are deliberately not used for grouping (every lecture shares the same
+ * pool); room contention is reconciled after the partitions are merged.
+ */
+public final class SectionPartitioner {
+
+    private SectionPartitioner() {}
+
+    // Session indices per partition, largest partition first
+    public static int[][] partitionSessions(ScheduleModel model) {
+        int sections = model.sectionCount();
+        int[] parent = new int[sections + model.facultyCount()];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+
+        for (int c = 0; c < model.courseCount(); c++) {
+            int section = model.courseSection[c];
+            for (int f : model.courseFaculty[c]) {
+                union(parent, section, sections + f);
+            }
+        }
+
+        int[] partitionOf = new int[sections];
+        int[] rootToPartition = new int[parent.length];
+        Arrays.fill(rootToPartition, -1);
+        int partitions = 0;
+        for (int s = 0; s < sections; s++) {
+            int root = find(parent, s);
+            if (rootToPartition[root] < 0) rootToPartition[root] = partitions++;
+            partitionOf[s] = rootToPartition[root];
+        }
+
+        List<List<Integer>> grouped = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) grouped.add(new ArrayList<>());
+        for (int session = 0; session < model.sessionCount(); session++) {
+            grouped.get(partitionOf[model.sessionSection(session)]).add(session);
+        }
+        grouped.removeIf(List::isEmpty);
+        grouped.sort(Comparator.comparingInt((List<Integer> g) -> -g.size()));
+
+        int[][] result = new int[grouped.size()][];
+        for (int p = 0; p < result.length; p++) {
+            result[p] = grouped.get(p).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra != rb) parent[rb] = ra;
+    }
+}
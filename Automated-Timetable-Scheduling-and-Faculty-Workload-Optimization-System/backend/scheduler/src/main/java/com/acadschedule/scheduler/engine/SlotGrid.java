@@ -0,0 +1,106 @@
+package com.acadschedule.scheduler.engine;
+
+/**
+ * Fixed weekly grid used by the solver. Days and teaching slots are mapped to
+ * small indices so a day's occupancy fits in one long (bit i = slot i).
+ * Labels match what the admin TimetableGrid renders.
+ */
+public final class SlotGrid {
+
+    public static final String[] DAY_NAMES = {
+            "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"
+    };
+
+    // Break (10:30-10:45) and lunch (01:15-02:05) are not teaching slots
+    public static final String[] SLOT_LABELS = {
+            "08:00-08:50", "09:00-09:50", "10:00-10:50",
+            "11:00-11:50", "12:00-12:50",
+            "02:10-03:00", "03:10-04:00", "04:10-05:00"
+    };
+
+    // Start of each slot in minutes after midnight (afternoon labels are 12-hour)
+    private static final int[] SLOT_START_MINUTES = { 480, 540, 600, 660, 720, 850, 910, 970 };
+    private static final int SLOT_MINUTES = 50;
+
+    public static final int DAYS = DAY_NAMES.length;
+    public static final int SLOTS_PER_DAY = SLOT_LABELS.length;
+    public static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    // Longest block that fits between two breaks
+    public static final int MAX_BLOCK = 3;
+
+    // Bit i set = slot i is the first slot after a break, so a block may not cross into it
+    private static final long SEGMENT_STARTS = (1L << 0) | (1L << 3) | (1L << 5);
+
+    private static final long[] VALID_STARTS = new long[MAX_BLOCK + 1];
+
+    static {
+        for (int length = 1; length <= MAX_BLOCK; length++) {
+            long starts = 0L;
+            for (int start = 0; start + length <= SLOTS_PER_DAY; start++) {
+                long inner = mask(start, length) & ~(1L << start);
+                if ((inner & SEGMENT_STARTS) == 0) {
+                    starts |= 1L << start;
+                }
+            }
+            VALID_STARTS[length] = starts;
+        }
+    }
+
+    private SlotGrid() {}
+
+    public static long mask(int start, int length) {
+        return ((1L << length) - 1) << start;
+    }
+
+    // Bitmask of slots where a contiguous block of the given length may start
+    public static long validStarts(int length) {
+        return length >= 1 && length <= MAX_BLOCK ? VALID_STARTS[length] : 0L;
+    }
+
+    public static int dayIndex(String day) {
+        if (day == null) return -1;
+        for (int i = 0; i < DAYS; i++) {
+            if (DAY_NAMES[i].equalsIgnoreCase(day.trim())) return i;
+        }
+        return -1;
+    }
+
+    public static int slotIndex(String timeSlot) {
+        if (timeSlot == null) return -1;
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+            if (SLOT_LABELS[i].equals(timeSlot.trim())) return i;
+        }
+        return -1;
+    }
+
+    // Pairs of occupied slots that directly follow each other with no break in between
+    public static int adjacentPairs(long mask) {
+        return Long.bitCount(mask & (mask >>> 1) & ~(SEGMENT_STARTS >>> 1));
+    }
+
+    // Free slots between the first and last occupied slot of a day
+    public static int idleGaps(long mask) {
+        if (mask == 0) return 0;
+        int span = 64 - Long.numberOfLeadingZeros(mask) - Long.numberOfTrailingZeros(mask);
+        return span - Long.bitCount(mask);
+    }
+
+    // Slots that overlap the half-open interval [fromMinute, toMinute)
+    public static long slotsBetween(int fromMinute, int toMinute) {
+        long slots = 0L;
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+            int start = SLOT_START_MINUTES[i];
+            if (start < toMinute && start + SLOT_MINUTES > fromMinute) slots |= 1L << i;
+        }
+        return slots;
+    }
+
+    public static String dayName(int day) {
+        return DAY_NAMES[day];
+    }
+
+    public static String slotLabel(int slot) {
+        return SLOT_LABELS[slot];
+    }
+}
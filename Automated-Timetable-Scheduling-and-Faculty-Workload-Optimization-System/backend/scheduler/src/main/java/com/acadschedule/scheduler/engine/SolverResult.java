@@ -0,0 +1,83 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SolverResult {
+
+    private final ScheduleModel model;
+    private final ScheduleState state;
+    private final long elapsedNanos;
+    private final long backtracks;
+    private final int attemptedSessions;
+    private final int unplacedSessions;
+
+    public SolverResult(ScheduleModel model, ScheduleState state, long elapsedNanos, long backtracks,
+                        int attemptedSessions, int unplacedSessions) {
+        this.model = model;
+        this.state = state;
+        this.elapsedNanos = elapsedNanos;
+        this.backtracks = backtracks;
+        this.attemptedSessions = attemptedSessions;
+        this.unplacedSessions = unplacedSessions;
+    }
+
+    public ScheduleModel getModel() { return model; }
+    public ScheduleState getState() { return state; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public long getBacktracks() { return backtracks; }
+    public int getAttemptedSessions() { return attemptedSessions; }
+    public int getUnplacedSessions() { return unplacedSessions; }
+    public int getPlacedSessions() { return attemptedSessions - unplacedSessions; }
+
+    // Weighted soft-rule slots the placed sessions occupy
+    public int getSoftPenalty() {
+        int penalty = 0;
+        for (int s = 0; s < model.sessionCount(); s++) {
+            if (!state.isPlaced(s)) continue;
+            penalty += model.softPenalty(model.sessionSection(s), state.faculty(s), state.day(s),
+                    SlotGrid.mask(state.start(s), model.sessionLength[s]));
+        }
+        return penalty;
+    }
+
+    // One entry per occupied slot, which is what TimetableGrid renders
+    public List<TimetableEntry> toEntries() {
+        List<TimetableEntry> entries = new ArrayList<>();
+        for (int s = 0; s < model.sessionCount(); s++) {
+            if (!state.isPlaced(s)) continue;
+            for (int k = 0; k < model.sessionLength[s]; k++) {
+                entries.add(toEntry(s, state.start(s) + k));
+            }
+        }
+        return entries;
+    }
+
+    private TimetableEntry toEntry(int session, int slot) {
+        Section section = model.section(model.sessionSection(session));
+        Subject subject = model.subject(model.sessionSubject(session));
+
+        TimetableEntry entry = new TimetableEntry();
+        entry.setSectionId(String.valueOf(section.getId()));
+        entry.setDay(SlotGrid.dayName(state.day(session)));
+        entry.setTimeSlot(SlotGrid.slotLabel(slot));
+        entry.setSubjectCode(subject.getCode());
+        entry.setSubjectName(subject.getName());
+        Faculty faculty = model.faculty(state.faculty(session));
+        Room room = model.room(state.room(session));
+        entry.setFacultyName(faculty.getName());
+        entry.setRoomNumber(room.getName());
+        entry.setType(ScheduleModel.kindName(model.sessionKind(session)));
+        entry.setSectionRefId(section.getId());
+        entry.setSubjectId(subject.getId());
+        entry.setFacultyId(faculty.getId());
+        entry.setRoomId(room.getId());
+        return entry;
+    }
+}
@@ -0,0 +1,257 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compact, read-only encoding of one timetable version. Every string (section
+ * id, day, slot label, subject, faculty, room, type) is stored once in a
+ * dictionary; each entry is a fixed-width tuple of its own and its catalog ids
+ * plus dictionary refs, sorted by section so a section is one contiguous range.
+ * A missing catalog id is stored as 0.
+ *
+ * <pre>
+ * header   int magic, int format, long versionId, int strings, int entries, int sections
+ * strings  int[strings + 1] byte offsets, then the UTF-8 bytes
+ * sections (int sectionRef, int firstEntry) per section
+ * entries  (long id, sectionRef, subject, faculty, room,
+ *           int section, day, slot, subjectCode, subjectName, faculty, room, type)
+ * trailer  int CRC32 of everything before it
+ * </pre>
+ *
+ * Reading only decodes the dictionary; entries are read straight from the
+ * buffer, which may be memory-mapped.
+ */
+public final class TimetableSnapshot {
+
+    private static final int MAGIC = 0x54545331; // "TTS1"
+    private static final int FORMAT = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4;
+    private static final int IDS = 5;
+    private static final int ENTRY_BYTES = 8 * IDS + 8 * 4;
+    private static final int NULL_REF = -1;
+
+    private final ByteBuffer buffer;
+    private final long versionId;
+    private final String[] strings;
+    private final int entryCount;
+    private final int entriesOffset;
+    private final int checksum;
+    // section id -> [first, end) entry range
+    private final Map<String, int[]> sections;
+
+    private TimetableSnapshot(ByteBuffer buffer, long versionId, String[] strings, int entryCount,
+                              int entriesOffset, int checksum, Map<String, int[]> sections) {
+        this.buffer = buffer;
+        this.versionId = versionId;
+        this.strings = strings;
+        this.entryCount = entryCount;
+        this.entriesOffset = entriesOffset;
+        this.checksum = checksum;
+        this.sections = sections;
+    }
+
+    // ===== Encoding =====
+
+    public static byte[] encode(long versionId, List<TimetableEntry> rows) {
+        List<TimetableEntry> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(TimetableEntry::getSectionId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(TimetableEntry::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[][] tuples = new int[sorted.size()][];
+        List<int[]> sectionStarts = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            TimetableEntry e = sorted.get(i);
+            int section = ref(dictionary, e.getSectionId());
+            if (sectionStarts.isEmpty() || sectionStarts.get(sectionStarts.size() - 1)[0] != section) {
+                sectionStarts.add(new int[] { section, i });
+            }
+            tuples[i] = new int[] {
+                    section, ref(dictionary, e.getDay()), ref(dictionary, e.getTimeSlot()),
+                    ref(dictionary, e.getSubjectCode()), ref(dictionary, e.getSubjectName()),
+                    ref(dictionary, e.getFacultyName()), ref(dictionary, e.getRoomNumber()), ref(dictionary, e.getType())
+            };
+        }
+
+        byte[][] encoded = new byte[dictionary.size()][];
+        int stringBytes = 0;
+        int k = 0;
+        for (String s : dictionary.keySet()) {
+            encoded[k] = s.getBytes(StandardCharsets.UTF_8);
+            stringBytes += encoded[k++].length;
+        }
+
+        int size = HEADER_BYTES + 4 * (encoded.length + 1) + stringBytes
+                + 8 * sectionStarts.size() + ENTRY_BYTES * sorted.size() + 4;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC).putInt(FORMAT).putLong(versionId)
+                .putInt(encoded.length).putInt(sorted.size()).putInt(sectionStarts.size());
+
+        int offset = 0;
+        for (byte[] s : encoded) {
+            out.putInt(offset);
+            offset += s.length;
+        }
+        out.putInt(offset);
+        for (byte[] s : encoded) out.put(s);
+
+        for (int[] start : sectionStarts) out.putInt(start[0]).putInt(start[1]);
+        for (int i = 0; i < tuples.length; i++) {
+            TimetableEntry e = sorted.get(i);
+            out.putLong(id(e.getId())).putLong(id(e.getSectionRefId())).putLong(id(e.getSubjectId()))
+                    .putLong(id(e.getFacultyId())).putLong(id(e.getRoomId()));
+            for (int ref : tuples[i]) out.putInt(ref);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, size - 4);
+        out.putInt((int) crc.getValue());
+        return out.array();
+    }
+
+    private static long id(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static int ref(Map<String, Integer> dictionary, String value) {
+        if (value == null) return NULL_REF;
+        return dictionary.computeIfAbsent(value, k -> dictionary.size());
+    }
+
+    // ===== Decoding =====
+
+    // Checks the header and checksum, then decodes only the dictionary and section table
+    public static TimetableSnapshot wrap(ByteBuffer source) {
+        ByteBuffer buffer = source.asReadOnlyBuffer();
+        int limit = buffer.limit();
+        if (limit < HEADER_BYTES + 8 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+            throw new IllegalArgumentException("Not a timetable snapshot");
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer body = buffer.duplicate();
+        body.position(0).limit(limit - 4);
+        crc.update(body);
+        int checksum = buffer.getInt(limit - 4);
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalArgumentException("Timetable snapshot checksum mismatch");
+        }
+
+        long versionId = buffer.getLong(8);
+        int stringCount = buffer.getInt(16);
+        int entryCount = buffer.getInt(20);
+        int sectionCount = buffer.getInt(24);
+
+        int offsets = HEADER_BYTES;
+        int data = offsets + 4 * (stringCount + 1);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int from = buffer.getInt(offsets + 4 * i);
+            int to = buffer.getInt(offsets + 4 * (i + 1));
+            byte[] bytes = new byte[to - from];
+            buffer.get(data + from, bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int sectionTable = data + buffer.getInt(offsets + 4 * stringCount);
+        int entriesOffset = sectionTable + 8 * sectionCount;
+        Map<String, int[]> sections = new HashMap<>();
+        for (int s = 0; s < sectionCount; s++) {
+            int ref = buffer.getInt(sectionTable + 8 * s);
+            int first = buffer.getInt(sectionTable + 8 * s + 4);
+            int end = s + 1 < sectionCount ? buffer.getInt(sectionTable + 8 * (s + 1) + 4) : entryCount;
+            if (ref != NULL_REF) sections.put(strings[ref], new int[] { first, end });
+        }
+        return new TimetableSnapshot(buffer, versionId, strings, entryCount, entriesOffset, checksum, sections);
+    }
+
+    public long versionId() { return versionId; }
+    public int size() { return entryCount; }
+    public int sectionCount() { return sections.size(); }
+    public int checksum() { return checksum; }
+    public int byteSize() { return buffer.limit(); }
+
+    // Read-only view of the encoded bytes, positioned at 0
+    public ByteBuffer bytes() {
+        return buffer.duplicate().position(0);
+    }
+
+    public long id(int entry) { return buffer.getLong(entryBase(entry)); }
+    public Long sectionRefId(int entry) { return catalogId(entry, 1); }
+    public Long subjectId(int entry) { return catalogId(entry, 2); }
+    public Long facultyId(int entry) { return catalogId(entry, 3); }
+    public Long roomId(int entry) { return catalogId(entry, 4); }
+    public String sectionId(int entry) { return field(entry, 0); }
+    public String day(int entry) { return field(entry, 1); }
+    public String timeSlot(int entry) { return field(entry, 2); }
+    public String subjectCode(int entry) { return field(entry, 3); }
+    public String subjectName(int entry) { return field(entry, 4); }
+    public String facultyName(int entry) { return field(entry, 5); }
+    public String roomNumber(int entry) { return field(entry, 6); }
+    public String type(int entry) { return field(entry, 7); }
+
+    // Materialises one entry; the strings are shared with the dictionary
+    public TimetableEntry entry(int entry) {
+        TimetableEntry e = new TimetableEntry();
+        e.setId(id(entry));
+        e.setVersionId(versionId);
+        e.setSectionId(sectionId(entry));
+        e.setDay(day(entry));
+        e.setTimeSlot(timeSlot(entry));
+        e.setSubjectCode(subjectCode(entry));
+        e.setSubjectName(subjectName(entry));
+        e.setFacultyName(facultyName(entry));
+        e.setRoomNumber(roomNumber(entry));
+        e.setType(type(entry));
+        e.setSectionRefId(sectionRefId(entry));
+        e.setSubjectId(subjectId(entry));
+        e.setFacultyId(facultyId(entry));
+        e.setRoomId(roomId(entry));
+        return e;
+    }
+
+    public List<TimetableEntry> entries() {
+        return range(0, entryCount);
+    }
+
+    public List<TimetableEntry> section(String sectionId) {
+        int[] range = sections.get(sectionId);
+        return range == null ? List.of() : range(range[0], range[1]);
+    }
+
+    // [first, end) entry range of a section, or null when it has no entries
+    public int[] sectionRange(String sectionId) {
+        int[] range = sections.get(sectionId);
+        return range == null ? null : range.clone();
+    }
+
+    private List<TimetableEntry> range(int from, int to) {
+        List<TimetableEntry> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) result.add(entry(i));
+        return result;
+    }
+
+    private int entryBase(int entry) {
+        if (entry < 0 || entry >= entryCount) throw new IndexOutOfBoundsException(entry);
+        return entriesOffset + ENTRY_BYTES * entry;
+    }
+
+    private Long catalogId(int entry, int field) {
+        long id = buffer.getLong(entryBase(entry) + 8 * field);
+        return id == 0L ? null : id;
+    }
+
+    private String field(int entry, int field) {
+        int ref = buffer.getInt(entryBase(entry) + 8 * IDS + 4 * field);
+        return ref == NULL_REF ? null : strings[ref];
+    }
+}
@@ -0,0 +1,168 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Depth-first placement with chronological backtracking over the compiled
+ * model. Sessions are ordered most-constrained first (long labs, then the
+ * fewest eligible faculty). Once the backtrack budget is spent, sessions that
+ * cannot be placed are skipped and reported instead of failing the solve.
+ *
+ * The search loop only touches primitive arrays preallocated in
+ * {@link #solve}; nothing is allocated per candidate.
+ */
+public class TimetableSolver {
+
+    private static final int DAYS = SlotGrid.DAYS;
+    private static final int SLOTS = SlotGrid.SLOTS_PER_DAY;
+
+    private final int maxBacktracksPerSession;
+
+    public TimetableSolver() {
+        this(50);
+    }
+
+    public TimetableSolver(int maxBacktracksPerSession) {
+        this.maxBacktracksPerSession = maxBacktracksPerSession;
+    }
+
+    public SolverResult solve(ScheduleModel model) {
+        return solve(new ScheduleState(model));
+    }
+
+    // Places every unplaced session of the given state; already placed ones are kept
+    public SolverResult solve(ScheduleState state) {
+        return solve(state, null);
+    }
+
+    // Places only the listed sessions (null = all unplaced ones)
+    public SolverResult solve(ScheduleState state, int[] sessions) {
+        long started = System.nanoTime();
+        ScheduleModel model = state.model;
+
+        int[] order = placementOrder(state, sessions);
+        int n = order.length;
+        int[] cursor = new int[n];
+        boolean[] skipped = new boolean[n];
+
+        long maxBacktracks = (long) maxBacktracksPerSession * n;
+        long backtracks = 0;
+        int depth = 0;
+
+        while (depth < n) {
+            int session = order[depth];
+            int next = tryPlace(state, session, cursor[depth]);
+            if (next >= 0) {
+                cursor[depth] = next;
+                depth++;
+                if (depth < n) cursor[depth] = 0;
+                continue;
+            }
+
+            cursor[depth] = 0;
+            if (!placeable(model, session)) {
+                // No faculty or room could ever take it; backtracking would not help
+                skipped[depth] = true;
+                depth++;
+                if (depth < n) cursor[depth] = 0;
+                continue;
+            }
+
+            // Step back to the nearest placed session and try its next candidate
+            int back = depth - 1;
+            while (back >= 0 && skipped[back]) back--;
+            if (back >= 0 && backtracks < maxBacktracks) {
+                backtracks++;
+                state.unplace(order[back]);
+                for (int d = back + 1; d <= depth; d++) skipped[d] = false;
+                depth = back;
+            } else {
+                skipped[depth] = true;
+                depth++;
+                if (depth < n) cursor[depth] = 0;
+            }
+        }
+
+        int unplaced = 0;
+        for (boolean s : skipped) {
+            if (s) unplaced++;
+        }
+        return new SolverResult(model, state, System.nanoTime() - started, backtracks, n, unplaced);
+    }
+
+    /**
+     * Tries candidates of one session from {@code from} onwards and places the
+     * first that fits. Returns the index after the placed candidate, or -1.
+     *
+     * Candidate c decodes to (faculty option, start slot, day); days and start
+     * slots are rotated per course so sessions spread over the week. Compiled
+     * constraint rules are read from the model's masks, never re-evaluated here.
+     */
+    private static int tryPlace(ScheduleState state, int session, int from) {
+        ScheduleModel model = state.model;
+        int course = model.sessionCourse[session];
+        int length = model.sessionLength[session];
+        int[] eligible = model.courseFaculty[course];
+        int fixedTeacher = state.courseTeacher[course];
+
+        int options = fixedTeacher >= 0 ? 1 : eligible.length;
+        if (options == 0) return -1;
+
+        long starts = SlotGrid.validStarts(length);
+        int dayRotation = course % DAYS;
+        int slotRotation = (course * 3) % SLOTS;
+        int perPass = DAYS * SLOTS * options;
+        // With soft rules, a first pass only takes slots no rule objects to; the second takes the rest
+        int limit = model.hasSoftRules ? 2 * perPass : perPass;
+        int section = model.courseSection[course];
+
+        for (int c = from; c < limit; c++) {
+            int candidate = c % perPass;
+            int option = candidate % options;
+            int position = candidate / options;
+            int start = (position % SLOTS + slotRotation) % SLOTS;
+            if ((starts & (1L << start)) == 0) continue;
+            int day = (position / SLOTS + dayRotation) % DAYS;
+
+            int faculty = fixedTeacher >= 0 ? fixedTeacher : eligible[(option + course) % options];
+            long mask = SlotGrid.mask(start, length);
+            if (model.hasSoftRules) {
+                boolean avoided = (model.softAvoid(section, faculty, day) & mask) != 0;
+                if (avoided != (c >= perPass)) continue;
+            }
+            if (!state.fits(session, day, mask, faculty)) continue;
+
+            int room = state.findRoom(session, day, mask);
+            if (room < 0) continue;
+
+            state.place(session, day, start, faculty, room);
+            return c + 1;
+        }
+        return -1;
+    }
+
+    private static boolean placeable(ScheduleModel model, int session) {
+        return model.courseFaculty[model.sessionCourse[session]].length > 0
+                && model.kindRooms[model.sessionKind[session]].length > 0;
+    }
+
+    private static int[] placementOrder(ScheduleState state, int[] sessions) {
+        ScheduleModel model = state.model;
+        int total = sessions != null ? sessions.length : model.sessionCount();
+        Integer[] boxed = new Integer[total];
+        int count = 0;
+        for (int i = 0; i < total; i++) {
+            int s = sessions != null ? sessions[i] : i;
+            if (!state.isPlaced(s)) boxed[count++] = s;
+        }
+        Arrays.sort(boxed, 0, count, Comparator
+                .comparingInt((Integer s) -> -model.sessionLength[s])
+                .thenComparingInt(s -> model.courseFaculty[model.sessionCourse[s]].length)
+                .thenComparingInt(s -> s));
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = boxed[i];
+        return order;
+    }
+}
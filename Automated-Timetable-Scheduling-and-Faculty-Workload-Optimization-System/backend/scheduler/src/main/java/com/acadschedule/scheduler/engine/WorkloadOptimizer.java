@@ -0,0 +1,417 @@
+package com.acadschedule.scheduler.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Anytime simulated-annealing pass over a feasible timetable. It never breaks
+ * a hard rule: every neighbour is checked with the same {@link ScheduleState}
+ * tests the solver uses. What it lowers is a weighted score of
+ * <ul>
+ *   <li>faculty weekly load spread (sum of squared loads; the total is fixed,
+ *       so this is the variance up to a constant),</li>
+ *   <li>idle gaps in each section's and faculty member's day,</li>
+ *   <li>back-to-back lab blocks for the same section or faculty member,</li>
+ *   <li>soft constraint penalties.</li>
+ * </ul>
+ * Neighbourhoods are: move a session to another slot, swap two sessions of a
+ * section, and hand a whole course to another eligible teacher. Each move is
+ * scored by re-evaluating only the (resource, day) cells it touches, so an
+ * iteration costs the same at 5 sections or 500.
+ */
+public class WorkloadOptimizer {
+
+    public static final int LOAD_WEIGHT = 1;
+    public static final int GAP_WEIGHT = 6;
+    public static final int FATIGUE_WEIGHT = 10;
+    public static final int SOFT_WEIGHT = 2;
+
+    private static final int DAYS = SlotGrid.DAYS;
+    private static final int SLOTS = SlotGrid.SLOTS_PER_DAY;
+
+    // Called every few thousand iterations and once at the end
+    public interface ProgressListener {
+        void onProgress(long iterations, long currentScore, long bestScore);
+    }
+
+    private final long defaultBudgetMillis;
+    private final long seed;
+
+    public WorkloadOptimizer(long defaultBudgetMillis, long seed) {
+        this.defaultBudgetMillis = defaultBudgetMillis;
+        this.seed = seed;
+    }
+
+    public long getDefaultBudgetMillis() { return defaultBudgetMillis; }
+
+    public static class Result {
+        private final SolverResult result;
+        private final long initialScore;
+        private final long bestScore;
+        private final long iterations;
+        private final long accepted;
+
+        Result(SolverResult result, long initialScore, long bestScore, long iterations, long accepted) {
+            this.result = result;
+            this.initialScore = initialScore;
+            this.bestScore = bestScore;
+            this.iterations = iterations;
+            this.accepted = accepted;
+        }
+
+        public SolverResult getResult() { return result; }
+        public long getInitialScore() { return initialScore; }
+        public long getBestScore() { return bestScore; }
+        public long getIterations() { return iterations; }
+        public long getAccepted() { return accepted; }
+    }
+
+    public Result optimize(SolverResult start) {
+        return optimize(start, defaultBudgetMillis, null);
+    }
+
+    /**
+     * Improves a copy of the given result for at most budgetMillis and returns
+     * the best timetable seen. Unplaced sessions stay unplaced. Stops early
+     * when the thread is interrupted; a budget of 0 only scores the start.
+     */
+    public Result optimize(SolverResult start, long budgetMillis, ProgressListener listener) {
+        long started = System.nanoTime();
+        long budgetNanos = Math.max(0, budgetMillis) * 1_000_000L;
+        ScheduleModel model = start.getModel();
+        Search search = new Search(model, start.getState());
+
+        long initial = search.score;
+        long best = initial;
+        int[][] bestPlacement = search.placement();
+        long iterations = 0;
+        long accepted = 0;
+
+        if (search.placed.length > 0 && budgetNanos > 0) {
+            SplittableRandom random = new SplittableRandom(seed);
+            // Start hot enough to accept a typical one-gap regression half the time
+            double startTemperature = GAP_WEIGHT * 1.5;
+            double endTemperature = 0.05;
+
+            long elapsed;
+            while ((elapsed = System.nanoTime() - started) < budgetNanos) {
+                if ((iterations & 1023) == 0 && Thread.currentThread().isInterrupted()) break;
+                double progress = (double) elapsed / budgetNanos;
+                double temperature = startTemperature * Math.pow(endTemperature / startTemperature, progress);
+
+                iterations++;
+                if (search.step(random, temperature)) accepted++;
+                if (search.score < best) {
+                    best = search.score;
+                    bestPlacement = search.placement();
+                }
+                if (listener != null && (iterations & 4095) == 0) {
+                    listener.onProgress(iterations, search.score, best);
+                }
+            }
+        }
+        if (listener != null) listener.onProgress(iterations, search.score, best);
+
+        ScheduleState result = new ScheduleState(model);
+        for (int[] p : bestPlacement) {
+            result.place(p[0], p[1], p[2], p[3], p[4]);
+        }
+        SolverResult solved = new SolverResult(model, result,
+                start.getElapsedNanos() + (System.nanoTime() - started), start.getBacktracks(),
+                start.getAttemptedSessions(), start.getUnplacedSessions());
+        return new Result(solved, initial, best, iterations, accepted);
+    }
+
+    // Full score of a state, used for the starting point and by tests to check the deltas
+    public static long score(SolverResult result) {
+        return new Search(result.getModel(), result.getState()).score;
+    }
+
+    /**
+     * Mutable search state: a private copy of the schedule plus per-cell lab
+     * masks, and the running score kept up to date by deltas.
+     */
+    private static final class Search {
+        final ScheduleModel model;
+        final ScheduleState state;
+        final int[] placed;
+        final int[][] courseSessions;
+
+        // Lab slots per (section, day) / (faculty, day), and sum of (length - 1) over those lab blocks
+        final long[] sectionLab;
+        final long[] facultyLab;
+        final int[] sectionLabInner;
+        final int[] facultyLabInner;
+
+        // Scratch cell lists: +index for section cells, -(index + 1) for faculty cells
+        final int[] cells = new int[4 * DAYS + 4];
+        int cellCount;
+
+        long score;
+
+        Search(ScheduleModel model, ScheduleState source) {
+            this.model = model;
+            this.state = new ScheduleState(model);
+            this.sectionLab = new long[model.sectionCount() * DAYS];
+            this.facultyLab = new long[model.facultyCount() * DAYS];
+            this.sectionLabInner = new int[model.sectionCount() * DAYS];
+            this.facultyLabInner = new int[model.facultyCount() * DAYS];
+
+            List<Integer> placedSessions = new ArrayList<>();
+            List<List<Integer>> byCourse = new ArrayList<>();
+            for (int c = 0; c < model.courseCount(); c++) byCourse.add(new ArrayList<>());
+            for (int s = 0; s < model.sessionCount(); s++) {
+                if (!source.isPlaced(s)) continue;
+                apply(s, source.day(s), source.start(s), source.faculty(s), source.room(s));
+                placedSessions.add(s);
+                byCourse.get(model.sessionCourse[s]).add(s);
+            }
+            this.placed = placedSessions.stream().mapToInt(Integer::intValue).toArray();
+            this.courseSessions = new int[model.courseCount()][];
+            for (int c = 0; c < courseSessions.length; c++) {
+                courseSessions[c] = byCourse.get(c).stream().mapToInt(Integer::intValue).toArray();
+            }
+            this.score = fullScore();
+        }
+
+        int[][] placement() {
+            int[][] p = new int[placed.length][];
+            for (int i = 0; i < placed.length; i++) {
+                int s = placed[i];
+                p[i] = new int[] { s, state.day(s), state.start(s), state.faculty(s), state.room(s) };
+            }
+            return p;
+        }
+
+        // One random neighbour; returns whether it was kept
+        boolean step(SplittableRandom random, double temperature) {
+            int pick = random.nextInt(10);
+            if (pick < 6) return move(placed[random.nextInt(placed.length)], random, temperature);
+            if (pick < 9) return swap(placed[random.nextInt(placed.length)], placed[random.nextInt(placed.length)], random, temperature);
+            return reassign(model.sessionCourse[placed[random.nextInt(placed.length)]], random, temperature);
+        }
+
+        // ===== Neighbourhoods =====
+
+        boolean move(int s, SplittableRandom random, double temperature) {
+            int length = model.sessionLength[s];
+            int day = random.nextInt(DAYS);
+            int start = random.nextInt(SLOTS);
+            if ((SlotGrid.validStarts(length) & (1L << start)) == 0) return false;
+
+            int oldDay = state.day(s), oldStart = state.start(s), faculty = state.faculty(s), oldRoom = state.room(s);
+            if (day == oldDay && start == oldStart) return false;
+
+            int section = model.sessionSection(s);
+            beginCells();
+            addSection(section, oldDay);
+            addSection(section, day);
+            addFaculty(faculty, oldDay);
+            addFaculty(faculty, day);
+            long before = cellScore() + soft(s);
+
+            remove(s);
+            long mask = SlotGrid.mask(start, length);
+            int room = state.fits(s, day, mask, faculty) ? state.findRoom(s, day, mask) : -1;
+            if (room < 0) {
+                apply(s, oldDay, oldStart, faculty, oldRoom);
+                return false;
+            }
+            apply(s, day, start, faculty, room);
+
+            long delta = cellScore() + soft(s) - before;
+            if (accept(delta, temperature, random)) {
+                score += delta;
+                return true;
+            }
+            remove(s);
+            apply(s, oldDay, oldStart, faculty, oldRoom);
+            return false;
+        }
+
+        // Exchanges the slots of two same-length sessions of one section
+        boolean swap(int a, int b, SplittableRandom random, double temperature) {
+            if (a == b) return false;
+            int section = model.sessionSection(a);
+            if (section != model.sessionSection(b) || model.sessionLength[a] != model.sessionLength[b]) return false;
+            if (model.sessionCourse[a] == model.sessionCourse[b]) return false;
+
+            int dayA = state.day(a), startA = state.start(a), facA = state.faculty(a), roomA = state.room(a);
+            int dayB = state.day(b), startB = state.start(b), facB = state.faculty(b), roomB = state.room(b);
+
+            beginCells();
+            addSection(section, dayA);
+            addSection(section, dayB);
+            addFaculty(facA, dayA);
+            addFaculty(facA, dayB);
+            addFaculty(facB, dayA);
+            addFaculty(facB, dayB);
+            long before = cellScore() + soft(a) + soft(b);
+
+            int length = model.sessionLength[a];
+            remove(a);
+            remove(b);
+            long maskA = SlotGrid.mask(startA, length);
+            long maskB = SlotGrid.mask(startB, length);
+            int newRoomA = state.fits(a, dayB, maskB, facA) ? state.findRoom(a, dayB, maskB) : -1;
+            if (newRoomA >= 0) {
+                apply(a, dayB, startB, facA, newRoomA);
+                int newRoomB = state.fits(b, dayA, maskA, facB) ? state.findRoom(b, dayA, maskA) : -1;
+                if (newRoomB >= 0) {
+                    apply(b, dayA, startA, facB, newRoomB);
+                    long delta = cellScore() + soft(a) + soft(b) - before;
+                    if (accept(delta, temperature, random)) {
+                        score += delta;
+                        return true;
+                    }
+                    remove(b);
+                }
+                remove(a);
+            }
+            apply(a, dayA, startA, facA, roomA);
+            apply(b, dayB, startB, facB, roomB);
+            return false;
+        }
+
+        // Gives every session of a course to another eligible teacher, keeping the slots
+        boolean reassign(int course, SplittableRandom random, double temperature) {
+            int[] options = model.courseFaculty[course];
+            int[] sessions = courseSessions[course];
+            if (options.length < 2 || sessions.length == 0) return false;
+            int from = state.faculty(sessions[0]);
+            int to = options[random.nextInt(options.length)];
+            if (to == from) return false;
+
+            beginCells();
+            for (int s : sessions) {
+                addFaculty(from, state.day(s));
+                addFaculty(to, state.day(s));
+            }
+            long before = cellScore() + load(from) + load(to);
+            for (int s : sessions) before += soft(s);
+
+            int[] rooms = new int[sessions.length];
+            for (int i = 0; i < sessions.length; i++) rooms[i] = state.room(sessions[i]);
+            int[] days = new int[sessions.length];
+            int[] starts = new int[sessions.length];
+            for (int i = 0; i < sessions.length; i++) {
+                days[i] = state.day(sessions[i]);
+                starts[i] = state.start(sessions[i]);
+                remove(sessions[i]);
+            }
+
+            int done = 0;
+            for (; done < sessions.length; done++) {
+                int s = sessions[done];
+                long mask = SlotGrid.mask(starts[done], model.sessionLength[s]);
+                if (!state.fits(s, days[done], mask, to)) break;
+                apply(s, days[done], starts[done], to, rooms[done]);
+            }
+            if (done == sessions.length) {
+                long after = cellScore() + load(from) + load(to);
+                for (int s : sessions) after += soft(s);
+                long delta = after - before;
+                if (accept(delta, temperature, random)) {
+                    score += delta;
+                    return true;
+                }
+            }
+            for (int i = 0; i < done; i++) remove(sessions[i]);
+            for (int i = 0; i < sessions.length; i++) apply(sessions[i], days[i], starts[i], from, rooms[i]);
+            return false;
+        }
+
+        private static boolean accept(long delta, double temperature, SplittableRandom random) {
+            if (delta <= 0) return true;
+            double r = random.nextDouble();
+            return r < Math.exp(-delta / temperature);
+        }
+
+        // ===== State changes that keep the lab masks in step =====
+
+        void apply(int s, int day, int start, int faculty, int room) {
+            state.place(s, day, start, faculty, room);
+            if (model.sessionKind[s] == ScheduleModel.KIND_LAB) {
+                long mask = SlotGrid.mask(start, model.sessionLength[s]);
+                int inner = model.sessionLength[s] - 1;
+                int sc = model.sessionSection(s) * DAYS + day;
+                int fc = faculty * DAYS + day;
+                sectionLab[sc] |= mask;
+                sectionLabInner[sc] += inner;
+                facultyLab[fc] |= mask;
+                facultyLabInner[fc] += inner;
+            }
+        }
+
+        void remove(int s) {
+            if (model.sessionKind[s] == ScheduleModel.KIND_LAB) {
+                long mask = SlotGrid.mask(state.start(s), model.sessionLength[s]);
+                int inner = model.sessionLength[s] - 1;
+                int sc = model.sessionSection(s) * DAYS + state.day(s);
+                int fc = state.faculty(s) * DAYS + state.day(s);
+                sectionLab[sc] &= ~mask;
+                sectionLabInner[sc] -= inner;
+                facultyLab[fc] &= ~mask;
+                facultyLabInner[fc] -= inner;
+            }
+            state.unplace(s);
+        }
+
+        // ===== Scoring =====
+
+        long fullScore() {
+            long total = 0;
+            for (int sc = 0; sc < sectionLab.length; sc++) total += cell(sc);
+            for (int fc = 0; fc < facultyLab.length; fc++) total += cell(-(fc + 1));
+            for (int f = 0; f < model.facultyCount(); f++) total += load(f);
+            for (int s : placed) total += soft(s);
+            return total;
+        }
+
+        void beginCells() {
+            cellCount = 0;
+        }
+
+        void addSection(int section, int day) {
+            addCell(section * DAYS + day);
+        }
+
+        void addFaculty(int faculty, int day) {
+            addCell(-(faculty * DAYS + day + 1));
+        }
+
+        private void addCell(int cell) {
+            for (int i = 0; i < cellCount; i++) {
+                if (cells[i] == cell) return;
+            }
+            cells[cellCount++] = cell;
+        }
+
+        long cellScore() {
+            long total = 0;
+            for (int i = 0; i < cellCount; i++) total += cell(cells[i]);
+            return total;
+        }
+
+        long cell(int cell) {
+            if (cell >= 0) {
+                return GAP_WEIGHT * SlotGrid.idleGaps(state.sectionBusy[cell])
+                        + FATIGUE_WEIGHT * (SlotGrid.adjacentPairs(sectionLab[cell]) - sectionLabInner[cell]);
+            }
+            int fc = -cell - 1;
+            return GAP_WEIGHT * SlotGrid.idleGaps(state.facultyBusy[fc])
+                    + FATIGUE_WEIGHT * (SlotGrid.adjacentPairs(facultyLab[fc]) - facultyLabInner[fc]);
+        }
+
+        long load(int faculty) {
+            long l = state.facultyWeekLoad[faculty];
+            return LOAD_WEIGHT * l * l;
+        }
+
+        long soft(int s) {
+            return SOFT_WEIGHT * (long) model.softPenalty(model.sessionSection(s), state.faculty(s), state.day(s),
+                    SlotGrid.mask(state.start(s), model.sessionLength[s]));
+        }
+    }
+}
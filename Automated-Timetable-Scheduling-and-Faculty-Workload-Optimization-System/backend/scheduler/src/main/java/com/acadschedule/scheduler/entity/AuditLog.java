@@ -3,7 +3,13 @@ package com.acadschedule.scheduler.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        // Keyset pages are "filter = ? AND id < ? ORDER BY id DESC"
+        @Index(name = "idx_audit_logs_entity_type_id", columnList = "entity_type, id"),
+        @Index(name = "idx_audit_logs_action_type_id", columnList = "action_type, id"),
+        @Index(name = "idx_audit_logs_user_email_id", columnList = "user_email, id"),
+        @Index(name = "idx_audit_logs_timestamp", columnList = "timestamp")
+})
 public class AuditLog {
 
     @Id
@@ -1,13 +1,25 @@
 package com.acadschedule.scheduler.entity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 
+// The text columns are what the API returns; the *_id and *_index columns are the same placement normalized,
+// filled in on write and backfilled at startup, so per-section/faculty/room lookups are index seeks
 @Entity
-@Table(name = "timetable_entries")
+@Table(name = "timetable_entries", indexes = {
+        @Index(name = "idx_timetable_entries_version_section", columnList = "version_id, section_id"),
+        @Index(name = "idx_timetable_entries_section_slot", columnList = "section_ref_id, day_index, slot_index, version_id"),
+        @Index(name = "idx_timetable_entries_faculty_slot", columnList = "faculty_id, day_index, slot_index, version_id"),
+        @Index(name = "idx_timetable_entries_room_slot", columnList = "room_id, day_index, slot_index, version_id")
+})
 public class TimetableEntry {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // TimetableVersion this row belongs to; rows are never moved between versions
+    @Column(name = "version_id")
+    private Long versionId;
+
     // ✅ MUST MATCH Section.id (UUID String)
     @Column(nullable = false)
     private String sectionId;
@@ -33,8 +45,58 @@ public class TimetableEntry {
     @Column(name = "type")
     private String type; // LECTURE / LAB / BREAK / LUNCH
 
+    // Normalized placement: SlotGrid indices and catalog ids (no FK constraints, data.sql truncates the catalogs)
+    @JsonIgnore
+    @Column(name = "day_index")
+    private Integer dayIndex;
+
+    @JsonIgnore
+    @Column(name = "slot_index")
+    private Integer slotIndex;
+
+    @JsonIgnore
+    @Column(name = "section_ref_id")
+    private Long sectionRefId;
+
+    @JsonIgnore
+    @Column(name = "subject_id")
+    private Long subjectId;
+
+    @JsonIgnore
+    @Column(name = "faculty_id")
+    private Long facultyId;
+
+    @JsonIgnore
+    @Column(name = "room_id")
+    private Long roomId;
+
+    // Set on rows a leave repair changed: the leave and where the row was before, so the change can be undone
+    @JsonIgnore
+    @Column(name = "leave_id")
+    private Long leaveId;
+
+    @JsonIgnore
+    @Column(name = "original_day")
+    private String originalDay;
+
+    @JsonIgnore
+    @Column(name = "original_time_slot")
+    private String originalTimeSlot;
+
+    @JsonIgnore
+    @Column(name = "original_faculty_name")
+    private String originalFacultyName;
+
+    @JsonIgnore
+    @Column(name = "original_faculty_id")
+    private Long originalFacultyId;
+
     // ===== Getters & Setters =====
     public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVersionId() { return versionId; }
+    public void setVersionId(Long versionId) { this.versionId = versionId; }
     
     public String getSectionId() { return sectionId; }
     public void setSectionId(String sectionId) { this.sectionId = sectionId; }
@@ -59,4 +121,37 @@ public class TimetableEntry {
 
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
+
+    public Integer getDayIndex() { return dayIndex; }
+    public void setDayIndex(Integer dayIndex) { this.dayIndex = dayIndex; }
+
+    public Integer getSlotIndex() { return slotIndex; }
+    public void setSlotIndex(Integer slotIndex) { this.slotIndex = slotIndex; }
+
+    public Long getSectionRefId() { return sectionRefId; }
+    public void setSectionRefId(Long sectionRefId) { this.sectionRefId = sectionRefId; }
+
+    public Long getSubjectId() { return subjectId; }
+    public void setSubjectId(Long subjectId) { this.subjectId = subjectId; }
+
+    public Long getFacultyId() { return facultyId; }
+    public void setFacultyId(Long facultyId) { this.facultyId = facultyId; }
+
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public Long getLeaveId() { return leaveId; }
+    public void setLeaveId(Long leaveId) { this.leaveId = leaveId; }
+
+    public String getOriginalDay() { return originalDay; }
+    public void setOriginalDay(String originalDay) { this.originalDay = originalDay; }
+
+    public String getOriginalTimeSlot() { return originalTimeSlot; }
+    public void setOriginalTimeSlot(String originalTimeSlot) { this.originalTimeSlot = originalTimeSlot; }
+
+    public String getOriginalFacultyName() { return originalFacultyName; }
+    public void setOriginalFacultyName(String originalFacultyName) { this.originalFacultyName = originalFacultyName; }
+
+    public Long getOriginalFacultyId() { return originalFacultyId; }
+    public void setOriginalFacultyId(Long originalFacultyId) { this.originalFacultyId = originalFacultyId; }
 }
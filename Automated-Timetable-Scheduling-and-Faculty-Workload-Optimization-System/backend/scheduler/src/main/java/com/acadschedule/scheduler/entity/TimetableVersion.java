@@ -0,0 +1,77 @@
+package com.acadschedule.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One immutable snapshot of the whole timetable. Entries point at their
+ * version through {@link TimetableEntry#getVersionId()}; a version's rows are
+ * written once while it is a DRAFT and never edited afterwards. At most one
+ * version is PUBLISHED, the previous one moves to ARCHIVED.
+ */
+@Entity
+@Table(name = "timetable_versions", indexes = {
+        @Index(name = "idx_timetable_versions_status", columnList = "status")
+})
+public class TimetableVersion {
+
+    public static final String DRAFT = "DRAFT";
+    public static final String PUBLISHED = "PUBLISHED";
+    public static final String ARCHIVED = "ARCHIVED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "version_number", nullable = false, unique = true)
+    private Integer versionNumber;
+
+    @Column(nullable = false)
+    private String status;
+
+    // What produced it, e.g. "Generate all" or "Leave repair #12"
+    private String label;
+
+    @Column(name = "based_on_version_id")
+    private Long basedOnVersionId;
+
+    @Column(name = "entry_count")
+    private int entryCount;
+
+    @Column(name = "created_at")
+    @com.fasterxml.jackson.annotation.JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    @com.fasterxml.jackson.annotation.JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime publishedAt;
+
+    public TimetableVersion() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ===== Getters & Setters =====
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Integer getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public Long getBasedOnVersionId() { return basedOnVersionId; }
+    public void setBasedOnVersionId(Long basedOnVersionId) { this.basedOnVersionId = basedOnVersionId; }
+
+    public int getEntryCount() { return entryCount; }
+    public void setEntryCount(int entryCount) { this.entryCount = entryCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+}
@@ -0,0 +1,32 @@
+package com.acadschedule.scheduler.event;
+
+import com.acadschedule.scheduler.entity.LeaveRequest;
+
+/**
+ * Published whenever a leave request is created, changes status or is
+ * deleted. The availability index applies it once the write has committed.
+ */
+public class LeaveChangedEvent {
+
+    private final Long leaveId;
+    private final LeaveRequest leave;
+
+    private LeaveChangedEvent(Long leaveId, LeaveRequest leave) {
+        this.leaveId = leaveId;
+        this.leave = leave;
+    }
+
+    // The request as it now stands in the database
+    public static LeaveChangedEvent saved(LeaveRequest leave) {
+        return new LeaveChangedEvent(leave.getId(), leave);
+    }
+
+    public static LeaveChangedEvent deleted(Long leaveId) {
+        return new LeaveChangedEvent(leaveId, null);
+    }
+
+    public boolean isDeleted() { return leave == null; }
+
+    public Long getLeaveId() { return leaveId; }
+    public LeaveRequest getLeave() { return leave; }
+}
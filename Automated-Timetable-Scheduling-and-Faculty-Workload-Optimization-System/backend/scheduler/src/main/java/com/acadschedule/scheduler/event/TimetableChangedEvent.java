@@ -0,0 +1,22 @@
+package com.acadschedule.scheduler.event;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.util.List;
+
+/**
+ * Published when a version becomes the published timetable. Listeners that
+ * keep in-memory views (conflicts, schedules) rebuild from the entries
+ * instead of re-reading the table.
+ */
+public class TimetableChangedEvent {
+
+    private final List<TimetableEntry> entries;
+
+    // entries is the complete new timetable
+    public TimetableChangedEvent(List<TimetableEntry> entries) {
+        this.entries = entries;
+    }
+
+    public List<TimetableEntry> getEntries() { return entries; }
+}
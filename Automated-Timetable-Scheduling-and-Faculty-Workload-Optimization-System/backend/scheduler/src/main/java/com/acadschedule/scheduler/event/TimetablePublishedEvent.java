@@ -0,0 +1,17 @@
+package com.acadschedule.scheduler.event;
+
+/**
+ * Published right after readers have been switched to a new version, i.e.
+ * after the publishing transaction committed. Listeners that derive views
+ * from the published timetable rebuild from here.
+ */
+public class TimetablePublishedEvent {
+
+    private final Long versionId;
+
+    public TimetablePublishedEvent(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Long getVersionId() { return versionId; }
+}
@@ -0,0 +1,9 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.Announcement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+}
@@ -0,0 +1,13 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuditLogRepositoryCustom {
+
+    // Newest first, strictly below beforeId when given; null filters are left out of the query
+    List<AuditLog> findPage(Long beforeId, String entityType, String actionType, String userEmail,
+                            LocalDateTime from, LocalDateTime to, int limit);
+}
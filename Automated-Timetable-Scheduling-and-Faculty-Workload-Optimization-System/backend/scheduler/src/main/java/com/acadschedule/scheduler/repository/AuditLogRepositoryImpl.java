@@ -0,0 +1,58 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset page over audit_logs. The WHERE clause only contains the filters that
+ * were supplied, so each combination gets a plan that can use the matching
+ * (column, id) index instead of a generic ":param IS NULL OR ..." scan.
+ */
+public class AuditLogRepositoryImpl implements AuditLogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuditLog> findPage(Long beforeId, String entityType, String actionType, String userEmail,
+                                   LocalDateTime from, LocalDateTime to, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT a FROM AuditLog a WHERE 1 = 1");
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (beforeId != null) {
+            jpql.append(" AND a.id < :beforeId");
+            params.put("beforeId", beforeId);
+        }
+        if (entityType != null) {
+            jpql.append(" AND a.entityType = :entityType");
+            params.put("entityType", entityType);
+        }
+        if (actionType != null) {
+            jpql.append(" AND a.actionType = :actionType");
+            params.put("actionType", actionType);
+        }
+        if (userEmail != null) {
+            jpql.append(" AND a.userEmail = :userEmail");
+            params.put("userEmail", userEmail);
+        }
+        if (from != null) {
+            jpql.append(" AND a.timestamp >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND a.timestamp < :to");
+            params.put("to", to);
+        }
+        jpql.append(" ORDER BY a.id DESC");
+
+        TypedQuery<AuditLog> query = entityManager.createQuery(jpql.toString(), AuditLog.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
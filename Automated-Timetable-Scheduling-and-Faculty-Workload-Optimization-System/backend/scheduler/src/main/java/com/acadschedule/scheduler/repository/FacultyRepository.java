@@ -0,0 +1,20 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FacultyRepository extends JpaRepository<Faculty, Long> {
+
+    // Two bags cannot be fetch-joined in one query; run both in one transaction and
+    // the second fills the other collection on the same instances
+    @Query("SELECT DISTINCT f FROM Faculty f LEFT JOIN FETCH f.qualifications")
+    List<Faculty> findAllWithQualifications();
+
+    @Query("SELECT DISTINCT f FROM Faculty f LEFT JOIN FETCH f.eligibleSubjects")
+    List<Faculty> findAllWithEligibleSubjects();
+}
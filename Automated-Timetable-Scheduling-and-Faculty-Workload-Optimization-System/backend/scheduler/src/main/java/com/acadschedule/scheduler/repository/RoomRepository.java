@@ -3,8 +3,12 @@ package com.acadschedule.scheduler.repository;
 import com.acadschedule.scheduler.entity.Room;
 import com.acadschedule.scheduler.entity.RoomStatus; // Add this import
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List; // Add this import
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findByStatus(RoomStatus status);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.equipment")
+    List<Room> findAllWithEquipment();
+}
@@ -0,0 +1,15 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.Subject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    @Query("SELECT DISTINCT s FROM Subject s LEFT JOIN FETCH s.eligibleFaculty")
+    List<Subject> findAllWithEligibleFaculty();
+}
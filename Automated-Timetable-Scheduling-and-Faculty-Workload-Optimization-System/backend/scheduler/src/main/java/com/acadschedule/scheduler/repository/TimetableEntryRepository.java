@@ -0,0 +1,66 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TimetableEntryRepository extends JpaRepository<TimetableEntry, Long> {
+    List<TimetableEntry> findByVersionIdOrderById(Long versionId);
+
+    List<TimetableEntry> findByVersionIdAndSectionIdOrderById(Long versionId, String sectionId);
+
+    // Seeks on the (faculty_id | room_id, day_index, slot_index, version_id) indexes
+    List<TimetableEntry> findByFacultyIdAndVersionIdOrderByDayIndexAscSlotIndexAsc(Long facultyId, Long versionId);
+
+    List<TimetableEntry> findByRoomIdAndVersionIdOrderByDayIndexAscSlotIndexAsc(Long roomId, Long versionId);
+
+    // Row id with the faculty and room it is assigned to, for indexing a version by person and room
+    @Query("SELECT e.id, e.facultyId, e.roomId FROM TimetableEntry e WHERE e.versionId = :versionId")
+    List<Object[]> findAssignmentsByVersionId(@Param("versionId") Long versionId);
+
+    // Rows of a version that a leave repair changed
+    List<TimetableEntry> findByVersionIdAndLeaveIdOrderById(Long versionId, Long leaveId);
+
+    @Query("SELECT DISTINCT e.leaveId FROM TimetableEntry e WHERE e.versionId = :versionId AND e.leaveId IS NOT NULL")
+    List<Long> findLeaveIdsByVersionId(@Param("versionId") Long versionId);
+
+    // Copy-on-write: carries every row of one version except one section's over to another version
+    @Modifying
+    @Query(value = "INSERT INTO timetable_entries (version_id, section_id, day, time_slot, subject_code, subject_name, "
+            + "faculty_name, room_number, type, day_index, slot_index, section_ref_id, subject_id, faculty_id, room_id, "
+            + "leave_id, original_day, original_time_slot, original_faculty_name, original_faculty_id) "
+            + "SELECT :to, section_id, day, time_slot, subject_code, subject_name, faculty_name, room_number, type, "
+            + "day_index, slot_index, section_ref_id, subject_id, faculty_id, room_id, "
+            + "leave_id, original_day, original_time_slot, original_faculty_name, original_faculty_id "
+            + "FROM timetable_entries WHERE version_id = :from AND section_id <> :excluded", nativeQuery = true)
+    int copyVersionExceptSection(@Param("from") Long from, @Param("to") Long to, @Param("excluded") String excluded);
+
+    // Copy-on-write for edits of single rows: everything but the replaced rows, which the caller writes anew
+    @Modifying
+    @Query(value = "INSERT INTO timetable_entries (version_id, section_id, day, time_slot, subject_code, subject_name, "
+            + "faculty_name, room_number, type, day_index, slot_index, section_ref_id, subject_id, faculty_id, room_id, "
+            + "leave_id, original_day, original_time_slot, original_faculty_name, original_faculty_id) "
+            + "SELECT :to, section_id, day, time_slot, subject_code, subject_name, faculty_name, room_number, type, "
+            + "day_index, slot_index, section_ref_id, subject_id, faculty_id, room_id, "
+            + "leave_id, original_day, original_time_slot, original_faculty_name, original_faculty_id "
+            + "FROM timetable_entries WHERE version_id = :from AND id NOT IN (:excluded)", nativeQuery = true)
+    int copyVersionExceptEntries(@Param("from") Long from, @Param("to") Long to, @Param("excluded") Collection<Long> excluded);
+
+    @Modifying
+    @Query("DELETE FROM TimetableEntry e WHERE e.versionId IN :versionIds")
+    int deleteByVersionIds(@Param("versionIds") Collection<Long> versionIds);
+
+    // Rows written before versioning existed
+    @Modifying
+    @Query("UPDATE TimetableEntry e SET e.versionId = :versionId WHERE e.versionId IS NULL")
+    int adoptUnversioned(@Param("versionId") Long versionId);
+
+    long countByVersionIdIsNull();
+}
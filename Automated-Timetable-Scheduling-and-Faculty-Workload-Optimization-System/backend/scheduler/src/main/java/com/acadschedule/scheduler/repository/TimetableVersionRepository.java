@@ -0,0 +1,37 @@
+package com.acadschedule.scheduler.repository;
+
+import com.acadschedule.scheduler.entity.TimetableVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TimetableVersionRepository extends JpaRepository<TimetableVersion, Long> {
+    List<TimetableVersion> findAllByOrderByVersionNumberDesc();
+
+    Optional<TimetableVersion> findFirstByStatus(String status);
+
+    List<TimetableVersion> findByStatusOrderByVersionNumberDesc(String status);
+
+    // Transaction-scoped advisory lock; serializes publishes even while no version is published yet
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('timetable_versions.publish'))) l",
+            nativeQuery = true)
+    int lockPublication();
+
+    @Modifying
+    @Query(value = "CREATE SEQUENCE IF NOT EXISTS timetable_version_numbers", nativeQuery = true)
+    void createVersionNumberSequence();
+
+    // Moves the sequence past numbers handed out before it existed
+    @Query(value = "SELECT setval('timetable_version_numbers', m) FROM (SELECT MAX(version_number) m FROM timetable_versions) v "
+            + "WHERE m >= (SELECT last_value FROM timetable_version_numbers)", nativeQuery = true)
+    List<Long> syncVersionNumberSequence();
+
+    // Sequences ignore transactions: concurrent drafts never share a number, a rolled-back one leaves a gap
+    @Query(value = "SELECT nextval('timetable_version_numbers')", nativeQuery = true)
+    long nextVersionNumber();
+}
@@ -1,25 +1,55 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.dto.AuditLogPage;
+import com.acadschedule.scheduler.dto.AuditWriterStats;
 import com.acadschedule.scheduler.entity.AuditLog;
 import com.acadschedule.scheduler.repository.AuditLogRepository;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class AuditLogService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final AuditLogRepository repo;
+    private final AuditLogWriter writer;
 
-    public AuditLogService(AuditLogRepository repo) {
+    public AuditLogService(AuditLogRepository repo, AuditLogWriter writer) {
         this.repo = repo;
+        this.writer = writer;
     }
 
+    // Queued and inserted in batches; see AuditLogWriter
     public void logAction(String entity, String action, String description, String user) {
         AuditLog log = new AuditLog(entity, action, description, user);
-        repo.save(log);
+        writer.enqueue(log);
+    }
+
+    public List<AuditLog> getLatestLogs(int limit) {
+        return getLogPage(null, null, null, null, null, null, limit).getItems();
+    }
+
+    // One keyset page, newest first; fetches one extra row to know whether more exist
+    public AuditLogPage getLogPage(Long before, String entityType, String actionType, String userEmail,
+                                   LocalDateTime from, LocalDateTime to, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<AuditLog> rows = repo.findPage(before, blankToNull(entityType), blankToNull(actionType),
+                blankToNull(userEmail), from, to, size + 1);
+
+        AuditLogPage page = new AuditLogPage();
+        page.setHasMore(rows.size() > size);
+        page.setItems(page.isHasMore() ? rows.subList(0, size) : rows);
+        page.setNextCursor(page.isHasMore() ? rows.get(size - 1).getId() : null);
+        return page;
+    }
+
+    public AuditWriterStats getWriterStats() {
+        return writer.getStats();
     }
 
-    public List<AuditLog> getAllLogs() {
-        return repo.findAllByOrderByIdDesc();
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
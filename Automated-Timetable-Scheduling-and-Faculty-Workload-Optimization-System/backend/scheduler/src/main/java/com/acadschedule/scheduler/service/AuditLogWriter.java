@@ -0,0 +1,197 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.AuditWriterStats;
+import com.acadschedule.scheduler.entity.AuditLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Buffers audit rows in a bounded queue and writes them from one background
+ * thread as JDBC batch inserts, once a batch fills up or the flush interval
+ * passes. When the queue stays full the caller writes its own row, so audit
+ * entries slow callers down under load instead of being dropped. A batch
+ * that fails is retried row by row; rows that still fail on their own are
+ * counted as failed and logged in full.
+ */
+@Service
+public class AuditLogWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (user_email, action_type, entity_type, description, timestamp) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong callerWrites = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+    // Held shared while a row is queued and exclusively while stopping, so no row lands after the final drain
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          @Value("${scheduler.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${scheduler.audit.batch-size:200}") int batchSize,
+                          @Value("${scheduler.audit.flush-interval-ms:500}") long flushIntervalMillis,
+                          @Value("${scheduler.audit.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "audit-log-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Stops the background thread and writes whatever is still queued
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<AuditLog> rest = new ArrayList<>();
+        while (queue.drainTo(rest, batchSize) > 0) {
+            write(rest);
+            rest.clear();
+        }
+    }
+
+    public void enqueue(AuditLog log) {
+        enqueued.incrementAndGet();
+        boolean queued;
+        lifecycle.readLock().lock();
+        try {
+            queued = running && queue.offer(log, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+        if (!queued) {
+            // Backpressure: the writer cannot keep up (or is stopped), so pay for the insert here
+            callerWrites.incrementAndGet();
+            write(List.of(log));
+            return;
+        }
+        peakQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    public AuditWriterStats getStats() {
+        AuditWriterStats stats = new AuditWriterStats();
+        stats.setQueueDepth(queue.size());
+        stats.setQueueCapacity(queue.size() + queue.remainingCapacity());
+        stats.setPeakQueueDepth(peakQueueDepth.get());
+        stats.setEnqueued(enqueued.get());
+        stats.setWritten(written.get());
+        stats.setBatches(batches.get());
+        stats.setCallerWrites(callerWrites.get());
+        stats.setFailed(failed.get());
+        return stats;
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // Keep collecting until the batch is full or the interval since the first row runs out
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down; stop() drains the queue
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditLog> logs) {
+        try {
+            insert(logs);
+            written.addAndGet(logs.size());
+            batches.incrementAndGet();
+        } catch (RuntimeException e) {
+            if (logs.size() == 1) {
+                reject(logs.get(0), e);
+                return;
+            }
+            // One bad row fails the whole batch; retry alone so only rows that fail by themselves are lost
+            for (AuditLog log : logs) {
+                try {
+                    insert(List.of(log));
+                    written.incrementAndGet();
+                } catch (RuntimeException rowError) {
+                    reject(log, rowError);
+                }
+            }
+        }
+    }
+
+    private void insert(List<AuditLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setString(1, log.getUserEmail());
+            ps.setString(2, log.getActionType());
+            ps.setString(3, log.getEntityType());
+            ps.setString(4, log.getDescription());
+            ps.setTimestamp(5, log.getTimestamp() != null ? Timestamp.valueOf(log.getTimestamp()) : null);
+        });
+    }
+
+    private void reject(AuditLog log, RuntimeException e) {
+        failed.incrementAndGet();
+        LOG.error("Dropping audit row {} {} by {}: {}", log.getEntityType(), log.getActionType(),
+                log.getUserEmail(), log.getDescription(), e);
+    }
+}
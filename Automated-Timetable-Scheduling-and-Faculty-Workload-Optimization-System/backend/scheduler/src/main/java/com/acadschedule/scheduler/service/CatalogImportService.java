@@ -0,0 +1,559 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.cache.CatalogCache;
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
+import com.acadschedule.scheduler.dto.ImportReport;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bulk upsert of the reference catalogs from a JSON array or a CSV file.
+ * Records are parsed and validated in one streaming pass; nothing is written
+ * unless every record is valid. Rows are matched to existing ones by their
+ * natural key (employee id, subject code, room code, section name) and written
+ * with JDBC batches in a single transaction, followed by one audit entry and
+ * one cache invalidation for the whole file. An update only touches the
+ * fields present in its record, so a file with a few columns leaves the rest
+ * of each row as it was.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final ReferenceDataCache cache;
+    private final AuditLogService auditLogService;
+    private final int batchSize;
+    private final int maxRecords;
+
+    private final Catalog<Faculty> faculty = new Catalog<>("FACULTY", Faculty.class, "faculty", "employee_id", "employeeId",
+            Faculty::getEmployeeId, Faculty::getName,
+            f -> f.getMaxHoursPerDay() < 0 || f.getMaxHoursPerWeek() < 0 ? "hours must not be negative" : null)
+            .column("name", "name", (ps, i, f) -> ps.setString(i, f.getName()))
+            .column("email", "email", (ps, i, f) -> ps.setString(i, f.getEmail()))
+            .column("department", "department", (ps, i, f) -> ps.setString(i, f.getDepartment()))
+            .column("designation", "designation", (ps, i, f) -> ps.setString(i, f.getDesignation()))
+            .column("employee_id", "employeeId", (ps, i, f) -> ps.setString(i, f.getEmployeeId()))
+            .column("max_hours_per_day", "maxHoursPerDay", (ps, i, f) -> ps.setInt(i, f.getMaxHoursPerDay()))
+            .column("max_hours_per_week", "maxHoursPerWeek", (ps, i, f) -> ps.setInt(i, f.getMaxHoursPerWeek()))
+            .column("specialization", "specialization", (ps, i, f) -> ps.setString(i, f.getSpecialization()))
+            .column("active", "active", (ps, i, f) -> ps.setBoolean(i, f.isActive()))
+            // A new faculty member is schedulable unless the file says otherwise
+            .insertDefault("active", f -> f.setActive(true))
+            .collection("qualifications", "faculty_qualifications", "faculty_id", "qualifications", Faculty::getQualifications)
+            .collection("eligibleSubjects", "faculty_eligible_subjects", "faculty_id", "eligible_subjects", Faculty::getEligibleSubjects);
+
+    private final Catalog<Subject> subjects = new Catalog<>("SUBJECT", Subject.class, "subjects", "code", "code",
+            Subject::getCode, Subject::getName,
+            s -> s.getLectureHoursPerWeek() < 0 || s.getTutorialHoursPerWeek() < 0 || s.getLabHoursPerWeek() < 0
+                    ? "hours must not be negative" : null)
+            .column("code", "code", (ps, i, s) -> ps.setString(i, s.getCode()))
+            .column("name", "name", (ps, i, s) -> ps.setString(i, s.getName()))
+            .column("department", "department", (ps, i, s) -> ps.setString(i, s.getDepartment()))
+            .column("credits", "credits", (ps, i, s) -> ps.setInt(i, s.getCredits()))
+            .column("lecture_hours_per_week", "lectureHoursPerWeek", (ps, i, s) -> ps.setInt(i, s.getLectureHoursPerWeek()))
+            .column("tutorial_hours_per_week", "tutorialHoursPerWeek", (ps, i, s) -> ps.setInt(i, s.getTutorialHoursPerWeek()))
+            .column("lab_hours_per_week", "labHoursPerWeek", (ps, i, s) -> ps.setInt(i, s.getLabHoursPerWeek()))
+            .column("year", "year", (ps, i, s) -> ps.setInt(i, s.getYear()))
+            .column("elective", "elective", (ps, i, s) -> ps.setBoolean(i, s.isElective()))
+            .column("common_course", "commonCourse", (ps, i, s) -> ps.setBoolean(i, s.isCommonCourse()))
+            .column("faculty_count", "facultyCount", (ps, i, s) -> ps.setInt(i, s.getFacultyCount()))
+            .collection("eligibleFaculty", "subject_eligible_faculty", "subject_id", "faculty_id", Subject::getEligibleFaculty);
+
+    private final Catalog<Room> rooms = new Catalog<>("ROOM", Room.class, "rooms", "code", "code",
+            Room::getCode, Room::getName,
+            r -> r.getCapacity() < 0 ? "capacity must not be negative" : null)
+            .column("name", "name", (ps, i, r) -> ps.setString(i, r.getName()))
+            .column("code", "code", (ps, i, r) -> ps.setString(i, r.getCode()))
+            .column("building", "building", (ps, i, r) -> ps.setString(i, r.getBuilding()))
+            .column("floor", "floor", (ps, i, r) -> ps.setString(i, r.getFloor()))
+            .column("type", "type", (ps, i, r) -> ps.setString(i, r.getType() != null ? r.getType().name() : null))
+            .column("capacity", "capacity", (ps, i, r) -> ps.setInt(i, r.getCapacity()))
+            .column("status", "status", (ps, i, r) -> ps.setString(i, r.getStatus() != null ? r.getStatus().name() : null))
+            .column("active", "active", (ps, i, r) -> ps.setBoolean(i, r.isActive()))
+            .column("wheelchair_accessible", "wheelchairAccessible", (ps, i, r) -> ps.setBoolean(i, r.isWheelchairAccessible()))
+            .collection("equipment", "room_equipment", "room_id", "equipment", Room::getEquipment);
+
+    private final Catalog<Section> sections = new Catalog<>("SECTION", Section.class, "sections", "name", "name",
+            Section::getName, Section::getName,
+            s -> s.getCapacity() < 0 ? "capacity must not be negative" : null)
+            .column("name", "name", (ps, i, s) -> ps.setString(i, s.getName()))
+            .column("department", "department", (ps, i, s) -> ps.setString(i, s.getDepartment()))
+            .column("year", "year", (ps, i, s) -> ps.setInt(i, s.getYear()))
+            .column("capacity", "capacity", (ps, i, s) -> ps.setInt(i, s.getCapacity()))
+            .column("status", "status", (ps, i, s) -> ps.setString(i, s.getStatus()))
+            .column("mentor_id", "mentorId", (ps, i, s) -> ps.setObject(i, s.getMentorId(), Types.BIGINT));
+
+    public CatalogImportService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                ReferenceDataCache cache,
+                                AuditLogService auditLogService,
+                                @Value("${scheduler.import.batch-size:500}") int batchSize,
+                                @Value("${scheduler.import.max-records:50000}") int maxRecords) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.auditLogService = auditLogService;
+        this.batchSize = batchSize;
+        this.maxRecords = maxRecords;
+    }
+
+    public ImportReport importFaculty(InputStream in, boolean csv) {
+        return run(faculty, cache.faculty(), in, csv);
+    }
+
+    public ImportReport importSubjects(InputStream in, boolean csv) {
+        return run(subjects, cache.subjects(), in, csv);
+    }
+
+    public ImportReport importRooms(InputStream in, boolean csv) {
+        return run(rooms, cache.rooms(), in, csv);
+    }
+
+    public ImportReport importSections(InputStream in, boolean csv) {
+        return run(sections, cache.sections(), in, csv);
+    }
+
+    // ===== Catalog descriptions =====
+
+    @FunctionalInterface
+    private interface Binder<T> {
+        // Sets one parameter from the row
+        void bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
+    // A table column with the JSON field it is read from
+    private record Column<T>(String name, String field, Binder<T> binder) {
+    }
+
+    // An @ElementCollection table, replaced wholesale when its field is in the record
+    private record Collection<T>(String field, String table, String ownerColumn, String valueColumn,
+                                 Function<T, List<String>> values) {
+    }
+
+    // A parsed row with the fields its record actually carried
+    private record Parsed<T>(T row, Set<String> fields, String where) {
+    }
+
+    private static final class Catalog<T> {
+        final String entity;
+        final Class<T> type;
+        final String table;
+        final String keyColumn;
+        final String keyField;
+        final Function<T, String> key;
+        final Function<T, String> name;
+        final Function<T, String> validator;
+        final List<Column<T>> columns = new ArrayList<>();
+        final Map<String, Consumer<T>> insertDefaults = new HashMap<>();
+        final List<Collection<T>> collections = new ArrayList<>();
+
+        Catalog(String entity, Class<T> type, String table, String keyColumn, String keyField, Function<T, String> key,
+                Function<T, String> name, Function<T, String> validator) {
+            this.entity = entity;
+            this.type = type;
+            this.table = table;
+            this.keyColumn = keyColumn;
+            this.keyField = keyField;
+            this.key = key;
+            this.name = name;
+            this.validator = validator;
+        }
+
+        Catalog<T> column(String name, String field, Binder<T> binder) {
+            columns.add(new Column<>(name, field, binder));
+            return this;
+        }
+
+        // Applied to new rows whose record leaves the field out, where the entity's own default is wrong
+        Catalog<T> insertDefault(String field, Consumer<T> apply) {
+            insertDefaults.put(field, apply);
+            return this;
+        }
+
+        Catalog<T> collection(String field, String table, String ownerColumn, String valueColumn,
+                              Function<T, List<String>> values) {
+            collections.add(new Collection<>(field, table, ownerColumn, valueColumn, values));
+            return this;
+        }
+
+        boolean isList(String field) {
+            for (Collection<T> c : collections) {
+                if (c.field().equals(field)) return true;
+            }
+            return false;
+        }
+
+        // Required key, a non-blank name when one is given, then the catalog's own checks
+        String validate(T row, Set<String> fields) {
+            String key = this.key.apply(row);
+            if (key == null || key.isBlank()) return keyField + " is required";
+            if (fields.contains("name") && !hasName(row)) return "name is required";
+            return validator.apply(row);
+        }
+
+        boolean hasName(T row) {
+            String name = this.name.apply(row);
+            return name != null && !name.isBlank();
+        }
+    }
+
+    // ===== Import =====
+
+    private <T> ImportReport run(Catalog<T> catalog, CatalogCache<T> catalogCache, InputStream in, boolean csv) {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport();
+        report.setCatalog(catalog.table);
+        Errors errors = new Errors();
+
+        List<Parsed<T>> rows;
+        try {
+            rows = read(catalog, in, csv, report, errors);
+        } catch (IOException | IllegalArgumentException e) {
+            errors.add("Unreadable input: " + e.getMessage());
+            rows = List.of();
+        }
+
+        if (errors.count > 0) return failed(report, errors, started);
+
+        List<Parsed<T>> valid = rows;
+        int[] counts = transaction.execute(status -> {
+            int[] written = upsert(catalog, valid, errors);
+            if (written != null) catalogCache.invalidate();
+            return written;
+        });
+        if (counts == null) return failed(report, errors, started);
+
+        report.setInserted(counts[0]);
+        report.setUpdated(counts[1]);
+        report.setCommitted(true);
+        report.setErrors(List.of());
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+        auditLogService.logAction(catalog.entity, "IMPORT",
+                "IMPORT " + catalog.entity + " - " + rows.size() + " records (" + counts[0] + " inserted, "
+                        + counts[1] + " updated)", currentUser());
+        return report;
+    }
+
+    private static ImportReport failed(ImportReport report, Errors errors, long started) {
+        report.setErrors(errors.messages());
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+        return report;
+    }
+
+    // Parses and validates every record; invalid ones are reported, not returned
+    private <T> List<Parsed<T>> read(Catalog<T> catalog, InputStream in, boolean csv, ImportReport report,
+                                     Errors errors) throws IOException {
+        RecordSource source = csv ? new CsvSource(catalog, in) : new JsonSource(in);
+        List<Parsed<T>> rows = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        int count = 0;
+        ObjectNode node;
+        while ((node = source.next()) != null) {
+            if (++count > maxRecords) {
+                errors.add("More than " + maxRecords + " records; split the file");
+                count--;
+                break;
+            }
+            String where = source.position();
+            if (source.problem() != null) {
+                errors.add(where + ": " + source.problem());
+                continue;
+            }
+            // Existing rows are matched by natural key, never by id
+            node.remove("id");
+            T row;
+            try {
+                row = objectMapper.treeToValue(node, catalog.type);
+            } catch (JsonProcessingException e) {
+                errors.add(where + ": " + e.getOriginalMessage());
+                continue;
+            }
+            Set<String> fields = new HashSet<>();
+            node.fieldNames().forEachRemaining(fields::add);
+            String problem = catalog.validate(row, fields);
+            if (problem == null && !keys.add(catalog.key.apply(row))) {
+                problem = "duplicate " + catalog.keyField + " '" + catalog.key.apply(row) + "'";
+            }
+            if (problem != null) {
+                errors.add(where + ": " + problem);
+                continue;
+            }
+            rows.add(new Parsed<>(row, fields, where));
+        }
+        report.setRecords(count);
+        return rows;
+    }
+
+    // Returns {inserted, updated}, or null when a new row lacks a name. Updates write only the fields the record carried.
+    private <T> int[] upsert(Catalog<T> catalog, List<Parsed<T>> rows, Errors errors) {
+        // Serializes imports of the same catalog, so two files cannot insert the same key twice
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", (RowCallbackHandler) rs -> { },
+                "catalog-import:" + catalog.table);
+
+        Map<String, Long> ids = ids(catalog);
+        List<T> inserts = new ArrayList<>();
+        List<Parsed<T>> updates = new ArrayList<>();
+        List<Long> updateIds = new ArrayList<>();
+        for (Parsed<T> parsed : rows) {
+            Long id = ids.get(catalog.key.apply(parsed.row()));
+            if (id == null) {
+                if (!catalog.hasName(parsed.row())) errors.add(parsed.where() + ": name is required for a new "
+                        + catalog.keyField + " '" + catalog.key.apply(parsed.row()) + "'");
+                catalog.insertDefaults.forEach((field, apply) -> {
+                    if (!parsed.fields().contains(field)) apply.accept(parsed.row());
+                });
+                inserts.add(parsed.row());
+            } else {
+                updates.add(parsed);
+                updateIds.add(id);
+            }
+        }
+
+        if (errors.count > 0) return null;
+
+        List<Column<T>> all = catalog.columns;
+        jdbcTemplate.batchUpdate("INSERT INTO " + catalog.table + " (" + columnList(all, ", ")
+                + ") VALUES (" + String.join(", ", Collections.nCopies(all.size(), "?")) + ")",
+                inserts, batchSize, (ps, row) -> bind(ps, all, row));
+
+        // One statement per distinct set of fields, so each shape still goes out as a batch
+        Map<List<Column<T>>, List<Integer>> shapes = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            List<Column<T>> present = new ArrayList<>();
+            for (Column<T> column : all) {
+                if (updates.get(i).fields().contains(column.field())) present.add(column);
+            }
+            shapes.computeIfAbsent(present, k -> new ArrayList<>()).add(i);
+        }
+        shapes.forEach((present, positions) -> {
+            if (present.isEmpty()) return;
+            jdbcTemplate.batchUpdate("UPDATE " + catalog.table + " SET " + columnList(present, " = ?, ")
+                    + " = ? WHERE id = ?", positions, batchSize, (ps, i) -> {
+                        bind(ps, present, updates.get(i).row());
+                        ps.setLong(present.size() + 1, updateIds.get(i));
+                    });
+        });
+
+        if (!catalog.collections.isEmpty()) {
+            // Pick up the generated ids of the inserted rows
+            if (!inserts.isEmpty()) ids = ids(catalog);
+            for (Collection<T> c : catalog.collections) {
+                List<Long> replaced = new ArrayList<>();
+                for (int i = 0; i < updates.size(); i++) {
+                    if (updates.get(i).fields().contains(c.field())) replaced.add(updateIds.get(i));
+                }
+                jdbcTemplate.batchUpdate("DELETE FROM " + c.table() + " WHERE " + c.ownerColumn() + " = ?",
+                        replaced, batchSize, (ps, id) -> ps.setLong(1, id));
+
+                List<Object[]> values = new ArrayList<>();
+                for (Parsed<T> parsed : rows) {
+                    if (!parsed.fields().contains(c.field())) continue;
+                    Long id = ids.get(catalog.key.apply(parsed.row()));
+                    List<String> list = c.values().apply(parsed.row());
+                    if (list == null) continue;
+                    for (String value : list) {
+                        if (value != null) values.add(new Object[] { id, value });
+                    }
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO " + c.table() + " (" + c.ownerColumn() + ", " + c.valueColumn()
+                        + ") VALUES (?, ?)", values, batchSize, (ps, v) -> {
+                            ps.setLong(1, (Long) v[0]);
+                            ps.setString(2, (String) v[1]);
+                        });
+            }
+        }
+        return new int[] { inserts.size(), updates.size() };
+    }
+
+    private static <T> String columnList(List<Column<T>> columns, String separator) {
+        List<String> names = new ArrayList<>(columns.size());
+        for (Column<T> column : columns) names.add(column.name());
+        return String.join(separator, names);
+    }
+
+    private static <T> void bind(PreparedStatement ps, List<Column<T>> columns, T row) throws SQLException {
+        for (int i = 0; i < columns.size(); i++) columns.get(i).binder().bind(ps, i + 1, row);
+    }
+
+    // Natural key -> id; when a key already exists more than once, the oldest row is the one updated
+    private Map<String, Long> ids(Catalog<?> catalog) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, " + catalog.keyColumn + " FROM " + catalog.table + " ORDER BY id",
+                (RowCallbackHandler) rs -> ids.putIfAbsent(rs.getString(2), rs.getLong(1)));
+        return ids;
+    }
+
+    private static String currentUser() {
+        try {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getName())) {
+                return auth.getName();
+            }
+        } catch (Exception e) {
+            // Ignore security context errors
+        }
+        return "System/Admin";
+    }
+
+    // ===== Record sources =====
+
+    private interface RecordSource {
+        // Next record as a JSON object, or null at the end
+        ObjectNode next() throws IOException;
+
+        // Where the last record came from, for error messages
+        String position();
+
+        // Set when the last record is malformed before any field is mapped
+        String problem();
+    }
+
+    // A JSON array of objects shaped like the single-record POST body, read one element at a time
+    private final class JsonSource implements RecordSource {
+        private final JsonParser parser;
+        private int index;
+        private String problem;
+
+        JsonSource(InputStream in) throws IOException {
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("expected a JSON array of records");
+            }
+        }
+
+        @Override
+        public ObjectNode next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) return null;
+            index++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                problem = "not a JSON object";
+                return objectMapper.createObjectNode();
+            }
+            problem = null;
+            return parser.readValueAsTree();
+        }
+
+        @Override
+        public String position() {
+            return "Record " + index;
+        }
+
+        @Override
+        public String problem() {
+            return problem;
+        }
+    }
+
+    // CSV with a header row of JSON field names; list fields hold ';'-separated values
+    private final class CsvSource implements RecordSource {
+        private final Catalog<?> catalog;
+        private final CsvReader reader;
+        private final List<String> header;
+        private long line;
+        private String problem;
+
+        CsvSource(Catalog<?> catalog, InputStream in) throws IOException {
+            this.catalog = catalog;
+            this.reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> names = reader.next();
+            if (names == null) names = List.of();
+            List<String> trimmed = new ArrayList<>(names.size());
+            for (String name : names) trimmed.add(name.replace("\uFEFF", "").trim());
+            this.header = trimmed;
+        }
+
+        @Override
+        public ObjectNode next() throws IOException {
+            List<String> fields = reader.next();
+            if (fields == null) return null;
+            line = reader.line();
+            problem = fields.size() > header.size()
+                    ? fields.size() + " fields but the header has " + header.size() : null;
+
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                String name = header.get(i);
+                String value = fields.get(i).trim();
+                if (name.isEmpty() || value.isEmpty()) continue;
+                if (catalog.isList(name)) {
+                    ArrayNode list = node.putArray(name);
+                    for (String part : value.split(";")) {
+                        if (!part.isBlank()) list.add(part.trim());
+                    }
+                } else {
+                    node.put(name, value);
+                }
+            }
+            return node;
+        }
+
+        @Override
+        public String position() {
+            return "Line " + line;
+        }
+
+        @Override
+        public String problem() {
+            return problem;
+        }
+    }
+
+    // Keeps the first MAX_ERRORS messages and counts the rest
+    private static final class Errors {
+        final List<String> messages = new ArrayList<>();
+        int count;
+
+        void add(String message) {
+            if (++count <= MAX_ERRORS) messages.add(message);
+        }
+
+        List<String> messages() {
+            if (count <= MAX_ERRORS) return messages;
+            List<String> all = new ArrayList<>(messages);
+            all.add("... and " + (count - MAX_ERRORS) + " more");
+            return all;
+        }
+    }
+}
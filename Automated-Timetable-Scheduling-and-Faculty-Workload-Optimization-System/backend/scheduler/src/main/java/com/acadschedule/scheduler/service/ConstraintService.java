@@ -1,5 +1,7 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.engine.ConstraintCompiler;
+import com.acadschedule.scheduler.engine.RuleSet;
 import com.acadschedule.scheduler.entity.Constraint;
 import com.acadschedule.scheduler.repository.ConstraintRepository;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,10 @@ public class ConstraintService {
 
     private final ConstraintRepository constraintRepository;
 
+    // Compiled active constraints and the rows they came from; null until first use or after a change
+    private volatile RuleSet ruleSet;
+    private volatile List<Constraint> rows;
+
     public ConstraintService(ConstraintRepository constraintRepository) {
         this.constraintRepository = constraintRepository;
     }
@@ -20,7 +26,9 @@ public class ConstraintService {
     }
 
     public Constraint createConstraint(Constraint constraint) {
-        return constraintRepository.save(constraint);
+        Constraint saved = constraintRepository.save(constraint);
+        invalidateRules();
+        return saved;
     }
 
     public void toggleConstraintStatus(String id) {
@@ -28,5 +36,38 @@ public class ConstraintService {
                 .orElseThrow(() -> new RuntimeException("Constraint not found with id: " + id));
         constraint.setActive(!constraint.isActive());
         constraintRepository.save(constraint);
+        invalidateRules();
+    }
+
+    // Parses parameters once per change, not once per solve
+    public RuleSet getRuleSet() {
+        RuleSet rules = ruleSet;
+        if (rules != null) return rules;
+        synchronized (this) {
+            load();
+            return ruleSet;
+        }
+    }
+
+    // The rows behind getRuleSet(); shared, so callers must copy before editing one
+    public List<Constraint> getCachedConstraints() {
+        List<Constraint> cached = rows;
+        if (cached != null) return cached;
+        synchronized (this) {
+            load();
+            return rows;
+        }
+    }
+
+    private void load() {
+        if (ruleSet != null) return;
+        rows = List.copyOf(constraintRepository.findAll());
+        ruleSet = ConstraintCompiler.compile(rows);
+    }
+
+    // Synchronized so a compile that read the old rows cannot be stored after this runs
+    private synchronized void invalidateRules() {
+        ruleSet = null;
+        rows = null;
     }
 }
@@ -0,0 +1,100 @@
+package com.acadschedule.scheduler.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads RFC 4180 records one at a time: quoted fields may hold commas, doubled quotes and line breaks
+final class CsvReader {
+
+    private final Reader in;
+    private int pending = -2; // -2 = nothing read ahead
+    private long line = 1;
+    private long start;
+
+    CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    // Line the last record returned started on, for error messages
+    long line() {
+        return start;
+    }
+
+    // Next record, or null at end of input; blank lines are skipped
+    List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) return null;
+            if (c == '\r' || c == '\n') {
+                endOfLine(c);
+                continue;
+            }
+            unread(c);
+            start = line;
+            return record();
+        }
+    }
+
+    private List<String> record() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) throw new IOException("Unterminated quoted field at line " + line);
+                if (c == '"') {
+                    int d = read();
+                    if (d == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(d);
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == -1 || c == '\r' || c == '\n') {
+                fields.add(field.toString());
+                if (c != -1) endOfLine(c);
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void endOfLine(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int d = read();
+            if (d != '\n') unread(d);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
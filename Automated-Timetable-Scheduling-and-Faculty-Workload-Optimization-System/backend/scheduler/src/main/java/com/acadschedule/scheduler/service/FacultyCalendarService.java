@@ -0,0 +1,126 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.FacultyWeek;
+import com.acadschedule.scheduler.engine.FacultyAvailability;
+import com.acadschedule.scheduler.engine.LeaveIndex;
+import com.acadschedule.scheduler.engine.RuleSet;
+import com.acadschedule.scheduler.engine.SlotGrid;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.event.TimetablePublishedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Keeps the {@link FacultyAvailability} calendar for the current week. Its
+ * inputs are all held in memory already (compiled rules, the leave index,
+ * the published snapshot); on each read the calendar checks which of them
+ * moved and rebuilds only those layers. The solver and the leave repair
+ * read the same instance.
+ */
+@Service
+public class FacultyCalendarService {
+
+    private final ConstraintService constraintService;
+    private final LeaveAvailabilityService leaveService;
+    private final TimetableVersionService versionService;
+    private final FacultyService facultyService;
+    private final AtomicReference<Calendar> calendar = new AtomicReference<>();
+
+    public FacultyCalendarService(ConstraintService constraintService,
+                                  LeaveAvailabilityService leaveService,
+                                  TimetableVersionService versionService,
+                                  FacultyService facultyService) {
+        this.constraintService = constraintService;
+        this.leaveService = leaveService;
+        this.versionService = versionService;
+        this.facultyService = facultyService;
+    }
+
+    // The inputs a calendar was built from, compared by identity
+    private record Calendar(RuleSet rules, LeaveIndex leaves, LocalDate week, PublishedTimetable published,
+                            FacultyAvailability availability) {
+    }
+
+    // Bring the teaching layer up to date right away so the next solve does not pay for it
+    @EventListener
+    public void onPublished(TimetablePublishedEvent event) {
+        getAvailability();
+    }
+
+    public FacultyAvailability getAvailability() {
+        RuleSet rules = constraintService.getRuleSet();
+        LeaveIndex leaves = leaveService.getIndex();
+        LocalDate week = FacultyAvailability.weekOf(LocalDate.now());
+        PublishedTimetable published = versionService.getPublished();
+
+        Calendar current = calendar.get();
+        if (current != null && current.rules() == rules && current.leaves() == leaves
+                && current.week().equals(week) && current.published() == published) {
+            return current.availability();
+        }
+
+        FacultyAvailability next = current != null ? current.availability() : FacultyAvailability.EMPTY;
+        if (current == null || current.rules() != rules) {
+            next = next.withRules(rules);
+        }
+        if (current == null || current.leaves() != leaves || !current.week().equals(week)) {
+            next = next.withLeaves(leaves.overlapping(week, lastDay(week)), week);
+        }
+        if (current == null || current.published() != published) {
+            next = next.withAssignments(published.getSnapshot());
+        }
+        calendar.set(new Calendar(rules, leaves, week, published, next));
+        return next;
+    }
+
+    // One faculty member's week; weeks other than the current one get their leave days computed for the call
+    public FacultyWeek getFacultyWeek(Long facultyId, LocalDate date) {
+        Faculty faculty = facultyService.getFacultyById(facultyId);
+        LocalDate week = FacultyAvailability.weekOf(date != null ? date : LocalDate.now());
+        FacultyAvailability availability = getAvailability();
+        if (!week.equals(availability.weekStart())) {
+            availability = availability.withLeaves(leaveService.getIndex().overlapping(week, lastDay(week)), week);
+        }
+
+        String name = faculty.getName();
+        FacultyWeek view = new FacultyWeek();
+        view.setFacultyId(facultyId);
+        view.setFacultyName(name);
+        view.setWeekStart(week);
+        view.setFree(slots(availability::free, name));
+        view.setBlocked(slots(availability::blocked, name));
+        view.setAvoided(slots(availability::avoided, name));
+        view.setTeaching(slots(availability::assigned, name));
+        List<String> leaveDays = new ArrayList<>();
+        for (int d = 0; d < SlotGrid.DAYS; d++) {
+            if (availability.onLeave(name, d) != 0) leaveDays.add(SlotGrid.dayName(d));
+        }
+        view.setLeaveDays(leaveDays);
+        return view;
+    }
+
+    private static LocalDate lastDay(LocalDate week) {
+        return week.plusDays(SlotGrid.DAYS - 1);
+    }
+
+    private static Map<String, List<String>> slots(ToLongBiFunction<String, Integer> layer, String name) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (int d = 0; d < SlotGrid.DAYS; d++) {
+            List<String> labels = new ArrayList<>();
+            long mask = layer.applyAsLong(name, d);
+            for (int s = 0; s < SlotGrid.SLOTS_PER_DAY; s++) {
+                if ((mask & (1L << s)) != 0) labels.add(SlotGrid.slotLabel(s));
+            }
+            result.put(SlotGrid.dayName(d), labels);
+        }
+        return result;
+    }
+}
@@ -1,8 +1,11 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
 import com.acadschedule.scheduler.entity.Faculty;
 import com.acadschedule.scheduler.repository.FacultyRepository;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -10,19 +13,31 @@ import java.util.List;
 public class FacultyService {
 
     private final FacultyRepository facultyRepository;
+    private final ReferenceDataCache cache;
 
-    public FacultyService(FacultyRepository facultyRepository) {
+    public FacultyService(FacultyRepository facultyRepository, ReferenceDataCache cache) {
         this.facultyRepository = facultyRepository;
+        this.cache = cache;
     }
 
     // CREATE
     public Faculty createFaculty(Faculty faculty) {
-        return facultyRepository.save(faculty);
+        Faculty saved = facultyRepository.save(faculty);
+        cache.faculty().invalidate();
+        return saved;
     }
 
-    // READ ALL
+    // READ ALL (cached snapshot; both collections come from two fetch-join queries, not one per row)
     public List<Faculty> getAllFaculty() {
-        return facultyRepository.findAll();
+        return cache.faculty().get(() -> {
+            facultyRepository.findAllWithQualifications();
+            return facultyRepository.findAllWithEligibleSubjects();
+        });
+    }
+
+    // Validator for the catalog; changes whenever a mutation here invalidates the cache
+    public String getETag() {
+        return cache.faculty().etag();
     }
 
     // ✅ NEW: READ ONE (Get by ID)
@@ -31,6 +46,15 @@ public class FacultyService {
                 .orElseThrow(() -> new RuntimeException("Faculty not found with id: " + id));
     }
 
+    // READ ONE with its collections, for responses serialized after the session closes
+    @Transactional(readOnly = true)
+    public Faculty getFacultyDetails(Long id) {
+        Faculty faculty = getFacultyById(id);
+        Hibernate.initialize(faculty.getQualifications());
+        Hibernate.initialize(faculty.getEligibleSubjects());
+        return faculty;
+    }
+
     // ✅ NEW: UPDATE
     public Faculty updateFaculty(Long id, Faculty facultyDetails) {
         Faculty faculty = getFacultyById(id); // Re-use the method above to find the user first
@@ -48,7 +72,9 @@ public class FacultyService {
         faculty.setSpecialization(facultyDetails.getSpecialization());
         faculty.setEligibleSubjects(facultyDetails.getEligibleSubjects());
 
-        return facultyRepository.save(faculty);
+        Faculty saved = facultyRepository.save(faculty);
+        cache.faculty().invalidate();
+        return saved;
     }
 
     // ✅ NEW: DELETE
@@ -57,5 +83,6 @@ public class FacultyService {
             throw new RuntimeException("Faculty not found with id: " + id);
         }
         facultyRepository.deleteById(id);
+        cache.faculty().invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.GenerationJobStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One queued or running generation and its SSE subscribers. Progress events
+ * are throttled; state changes are always pushed, and the final "done" event
+ * completes every stream.
+ */
+class GenerationJob implements GenerationListener {
+
+    enum State { QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private static final long PROGRESS_INTERVAL_NANOS = 200_000_000L;
+
+    private final String id;
+    private final String type;
+    private final Long sectionId;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sectionsPlaced = new AtomicInteger();
+
+    private volatile State state = State.QUEUED;
+    private volatile int sectionsTotal;
+    private volatile long currentScore = -1;
+    private volatile long bestScore = -1;
+    private volatile long iterations;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile Object result;
+
+    // Guarded by this
+    private boolean saving;
+    private Future<?> future;
+    private long lastPublished;
+
+    GenerationJob(String id, String type, Long sectionId) {
+        this.id = id;
+        this.type = type;
+        this.sectionId = sectionId;
+    }
+
+    String getId() { return id; }
+
+    boolean isFinished() {
+        State s = state;
+        return s == State.SUCCEEDED || s == State.FAILED || s == State.CANCELLED;
+    }
+
+    synchronized void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    // ===== Lifecycle, driven by GenerationJobService =====
+
+    synchronized boolean start() {
+        if (state != State.QUEUED) return false;
+        state = State.RUNNING;
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    void succeed(Object report) {
+        synchronized (this) {
+            if (state != State.RUNNING) return;
+            result = report;
+            state = State.SUCCEEDED;
+            finishedAt = LocalDateTime.now();
+        }
+        finish();
+    }
+
+    void fail(String message) {
+        synchronized (this) {
+            if (state != State.RUNNING) return;
+            error = message;
+            state = State.FAILED;
+            finishedAt = LocalDateTime.now();
+        }
+        finish();
+    }
+
+    // False once the result is being written or the job has already ended
+    boolean cancel() {
+        synchronized (this) {
+            if (saving || isFinished()) return false;
+            state = State.CANCELLED;
+            finishedAt = LocalDateTime.now();
+            if (future != null) future.cancel(true);
+        }
+        finish();
+        return true;
+    }
+
+    void subscribe(SseEmitter emitter) {
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        send(emitter, isFinished() ? "done" : "progress", toStatus());
+        if (isFinished()) emitter.complete();
+    }
+
+    // ===== GenerationListener =====
+
+    @Override
+    public void onStarted(int sections) {
+        sectionsTotal = sections;
+        publish(true);
+    }
+
+    @Override
+    public void onPartitionSolved(int sections, int placedSessions) {
+        sectionsPlaced.addAndGet(sections);
+        publish(false);
+    }
+
+    @Override
+    public void onProgress(long iterations, long currentScore, long bestScore) {
+        this.iterations = iterations;
+        this.currentScore = currentScore;
+        this.bestScore = bestScore;
+        publish(false);
+    }
+
+    @Override
+    public synchronized boolean proceedToSave() {
+        if (state != State.RUNNING) return false;
+        saving = true;
+        return true;
+    }
+
+    GenerationJobStatus toStatus() {
+        GenerationJobStatus status = new GenerationJobStatus();
+        status.setId(id);
+        status.setType(type);
+        status.setSectionId(sectionId);
+        status.setState(state.name());
+        status.setSectionsTotal(sectionsTotal);
+        status.setSectionsPlaced(Math.min(sectionsPlaced.get(), sectionsTotal));
+        status.setCurrentScore(currentScore);
+        status.setBestScore(bestScore);
+        status.setIterations(iterations);
+        status.setSubmittedAt(submittedAt);
+        status.setStartedAt(startedAt);
+        status.setFinishedAt(finishedAt);
+        status.setError(error);
+        status.setResult(result);
+        return status;
+    }
+
+    private void publish(boolean force) {
+        if (emitters.isEmpty()) return;
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (!force && now - lastPublished < PROGRESS_INTERVAL_NANOS) return;
+            lastPublished = now;
+        }
+        GenerationJobStatus status = toStatus();
+        for (SseEmitter emitter : emitters) send(emitter, "progress", status);
+    }
+
+    private void finish() {
+        GenerationJobStatus status = toStatus();
+        for (SseEmitter emitter : emitters) {
+            send(emitter, "done", status);
+            emitter.complete();
+        }
+        emitters.clear();
+    }
+
+    private void send(SseEmitter emitter, String event, GenerationJobStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(status));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop the stream, the job keeps running
+            emitters.remove(emitter);
+        }
+    }
+}
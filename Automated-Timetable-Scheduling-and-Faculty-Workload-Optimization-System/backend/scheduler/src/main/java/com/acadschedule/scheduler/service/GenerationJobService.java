@@ -0,0 +1,157 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.GenerationJobStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs timetable generation in the background so no request thread waits on
+ * a solve. Jobs go through a small fixed pool with a bounded queue: by default
+ * one job runs at a time, since concurrent full regenerations would overwrite
+ * each other anyway, and a full queue rejects new submissions instead of
+ * piling up work. Finished jobs are kept for status lookups up to a limit.
+ */
+@Service
+public class GenerationJobService {
+
+    private final TimetableService timetableService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> submitted = new ConcurrentLinkedDeque<>();
+    private final int retainedJobs;
+    private final long sseTimeoutMillis;
+
+    public GenerationJobService(TimetableService timetableService,
+                                @Value("${scheduler.jobs.threads:1}") int threads,
+                                @Value("${scheduler.jobs.queue-capacity:8}") int queueCapacity,
+                                @Value("${scheduler.jobs.retained:50}") int retainedJobs,
+                                @Value("${scheduler.jobs.sse-timeout-ms:1800000}") long sseTimeoutMillis,
+                                MeterRegistry meterRegistry) {
+        this.timetableService = timetableService;
+        this.retainedJobs = retainedJobs;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "generation-job-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        // executor.queued, executor.active, executor.completed, ... tagged name=generation-jobs
+        new ExecutorServiceMetrics(executor, "generation-jobs", List.of()).bindTo(meterRegistry);
+    }
+
+    // Throws RejectedExecutionException when the queue is full
+    public GenerationJobStatus submitAll(Long optimizeMillis, boolean publish) {
+        return submit(new GenerationJob(UUID.randomUUID().toString(), "ALL", null),
+                job -> timetableService.generateAll(optimizeMillis, publish, job));
+    }
+
+    public GenerationJobStatus submitSection(Long sectionId, Long optimizeMillis, boolean publish) {
+        return submit(new GenerationJob(UUID.randomUUID().toString(), "SECTION", sectionId),
+                job -> timetableService.generateForSection(sectionId, optimizeMillis, publish, job));
+    }
+
+    public List<GenerationJobStatus> getJobs() {
+        List<GenerationJobStatus> result = new ArrayList<>();
+        for (String id : submitted) {
+            GenerationJob job = jobs.get(id);
+            if (job != null) result.add(job.toStatus());
+        }
+        return result;
+    }
+
+    public GenerationJobStatus getJob(String id) {
+        return find(id).toStatus();
+    }
+
+    // Stream of "progress" events ending with one "done" event
+    public SseEmitter subscribe(String id) {
+        GenerationJob job = find(id);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    // Cancelling a job that is already writing its result has no effect
+    public GenerationJobStatus cancel(String id) {
+        GenerationJob job = find(id);
+        job.cancel();
+        return job.toStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private GenerationJobStatus submit(GenerationJob job, Function<GenerationJob, Object> work) {
+        jobs.put(job.getId(), job);
+        submitted.addLast(job.getId());
+        try {
+            job.setFuture(executor.submit(() -> run(job, work)));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            submitted.remove(job.getId());
+            throw e;
+        }
+        evictFinished();
+        return job.toStatus();
+    }
+
+    private void run(GenerationJob job, Function<GenerationJob, Object> work) {
+        if (!job.start()) return;
+        try {
+            job.succeed(work.apply(job));
+        } catch (CancellationException e) {
+            // Already marked cancelled by cancel()
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } catch (Throwable e) {
+            // StackOverflowError, OutOfMemoryError, ...: still end the job and its streams; the error stays in the Future
+            job.fail(e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : ""));
+            throw e;
+        } finally {
+            // Do not carry a cancel interrupt over to the next job on this thread
+            Thread.interrupted();
+        }
+    }
+
+    private void evictFinished() {
+        int excess = submitted.size() - retainedJobs;
+        for (String id : submitted) {
+            if (excess <= 0) break;
+            GenerationJob job = jobs.get(id);
+            if (job == null || job.isFinished()) {
+                jobs.remove(id);
+                submitted.remove(id);
+                excess--;
+            }
+        }
+    }
+
+    private GenerationJob find(String id) {
+        GenerationJob job = jobs.get(id);
+        if (job == null) throw new RuntimeException("Generation job not found with id: " + id);
+        return job;
+    }
+}
@@ -0,0 +1,24 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.ParallelTimetableGenerator;
+import com.acadschedule.scheduler.engine.WorkloadOptimizer;
+
+/**
+ * Progress hooks for one generation run. Partition callbacks arrive from
+ * solver pool threads; everything else from the thread running the job.
+ */
+public interface GenerationListener extends ParallelTimetableGenerator.ProgressListener, WorkloadOptimizer.ProgressListener {
+
+    GenerationListener NONE = new GenerationListener() {};
+
+    default void onStarted(int sections) {}
+
+    @Override
+    default void onPartitionSolved(int sections, int placedSessions) {}
+
+    @Override
+    default void onProgress(long iterations, long currentScore, long bestScore) {}
+
+    // Last chance to cancel; once this returns true the new timetable is written
+    default boolean proceedToSave() { return true; }
+}
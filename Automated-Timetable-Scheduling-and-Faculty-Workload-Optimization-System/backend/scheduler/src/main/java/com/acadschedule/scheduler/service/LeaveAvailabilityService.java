@@ -0,0 +1,72 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.LeaveIndex;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.event.LeaveChangedEvent;
+import com.acadschedule.scheduler.repository.LeaveRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Answers "who is on leave" and "is this faculty member free" from an
+ * in-memory {@link LeaveIndex} of approved leaves instead of querying the
+ * leave table each time. Loaded at startup and kept current from
+ * {@link LeaveChangedEvent}s.
+ */
+@Service
+public class LeaveAvailabilityService {
+
+    private final LeaveRepository leaveRepo;
+    private final FacultyService facultyService;
+    private final AtomicReference<LeaveIndex> index = new AtomicReference<>(LeaveIndex.EMPTY);
+
+    public LeaveAvailabilityService(LeaveRepository leaveRepo, FacultyService facultyService) {
+        this.leaveRepo = leaveRepo;
+        this.facultyService = facultyService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.set(LeaveIndex.of(leaveRepo.findAll()));
+    }
+
+    // Runs once the writing transaction has committed, so the index never shows rolled-back leaves
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeaveChanged(LeaveChangedEvent event) {
+        if (event.isDeleted()) {
+            index.updateAndGet(current -> current.without(event.getLeaveId()));
+        } else {
+            index.updateAndGet(current -> current.with(event.getLeave()));
+        }
+    }
+
+    // The current index; a new instance after every change
+    public LeaveIndex getIndex() {
+        return index.get();
+    }
+
+    // True when the faculty member has no approved leave on any day of [from, to]
+    public boolean isAvailable(Long facultyId, LocalDate from, LocalDate to) {
+        return index.get().isAvailable(facultyId, from, to);
+    }
+
+    // Approved leaves overlapping [from, to], ordered by start date
+    public List<LeaveIndex.Leave> getOnLeave(LocalDate from, LocalDate to) {
+        return index.get().overlapping(from, to);
+    }
+
+    // Active faculty with no approved leave in [from, to], e.g. substitution candidates
+    public List<Faculty> getAvailableFaculty(LocalDate from, LocalDate to) {
+        LeaveIndex current = index.get();
+        return facultyService.getAllFaculty().stream()
+                .filter(Faculty::isActive)
+                .filter(f -> current.isAvailable(f.getId(), from, to))
+                .toList();
+    }
+}
@@ -1,7 +1,12 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.dto.RepairReport;
 import com.acadschedule.scheduler.entity.LeaveRequest;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.event.LeaveChangedEvent;
 import com.acadschedule.scheduler.repository.LeaveRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -11,9 +16,16 @@ import java.util.List;
 public class LeaveService {
 
     private final LeaveRepository leaveRepo;
+    private final TimetableRepairService repairService;
+    private final TimetableVersionService versionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LeaveService(LeaveRepository leaveRepo) {
+    public LeaveService(LeaveRepository leaveRepo, TimetableRepairService repairService,
+                        TimetableVersionService versionService, ApplicationEventPublisher eventPublisher) {
         this.leaveRepo = leaveRepo;
+        this.repairService = repairService;
+        this.versionService = versionService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<LeaveRequest> getAllRequests() {
@@ -31,17 +43,73 @@ public class LeaveService {
         if (request.getStatus() == null) {
             request.setStatus("Pending");
         }
-        return leaveRepo.save(request);
+        LeaveRequest saved = leaveRepo.save(request);
+        eventPublisher.publishEvent(LeaveChangedEvent.saved(saved));
+        return saved;
     }
 
+    /**
+     * Approving a leave repairs the affected timetable slots; taking the
+     * approval back undoes what its repairs changed. Status and timetable
+     * change in one transaction, so a failed repair leaves the status as it
+     * was; a lost publish race redoes both.
+     */
     public LeaveRequest updateStatus(Long id, String status) {
-        return leaveRepo.findById(id).map(request -> {
+        return versionService.writeWithRetry(() -> leaveRepo.findById(id).map(request -> {
+            boolean wasApproved = isApproved(request);
             request.setStatus(status);
-            return leaveRepo.save(request);
-        }).orElseThrow(() -> new RuntimeException("Leave Request not found"));
+            LeaveRequest saved = leaveRepo.save(request);
+            eventPublisher.publishEvent(LeaveChangedEvent.saved(saved));
+            if (!wasApproved && isApproved(saved)) {
+                repairService.repairForLeave(saved);
+            } else if (wasApproved && !isApproved(saved)) {
+                repairService.undoForLeave(saved.getId());
+            }
+            return saved;
+        }).orElseThrow(() -> new RuntimeException("Leave Request not found")));
     }
 
+    // Only approved leaves may change the timetable; IllegalStateException otherwise
+    public RepairReport repairTimetable(Long id) {
+        return versionService.writeWithRetry(() -> {
+            LeaveRequest request = leaveRepo.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Leave Request not found"));
+            if (!isApproved(request)) {
+                throw new IllegalStateException("Leave request " + id + " is " + request.getStatus() + ", not Approved");
+            }
+            return repairService.repairForLeave(request);
+        });
+    }
+
+    // Rows the leave's repairs changed in the published timetable
+    public List<TimetableEntry> getAdjustedEntries(Long id) {
+        return repairService.getAdjustedEntries(id);
+    }
+
+    // Deleting a leave undoes its timetable changes in the same transaction
     public void deleteRequest(Long id) {
-        leaveRepo.deleteById(id);
+        versionService.writeWithRetry(() -> {
+            leaveRepo.deleteById(id);
+            eventPublisher.publishEvent(LeaveChangedEvent.deleted(id));
+            return repairService.undoForLeave(id);
+        });
+    }
+
+    // Reverts repairs of leaves that are over, or that lost their approval outside updateStatus
+    @Scheduled(cron = "${scheduler.leave.expiry-cron:0 10 0 * * *}")
+    public void revertEndedLeaves() {
+        LocalDate today = LocalDate.now();
+        for (Long leaveId : repairService.getAdjustingLeaveIds()) {
+            boolean current = leaveRepo.findById(leaveId)
+                    .filter(LeaveService::isApproved)
+                    .map(leave -> leave.getEndDate() != null ? leave.getEndDate() : leave.getStartDate())
+                    .filter(end -> end != null && !end.isBefore(today))
+                    .isPresent();
+            if (!current) versionService.writeWithRetry(() -> repairService.undoForLeave(leaveId));
+        }
+    }
+
+    private static boolean isApproved(LeaveRequest request) {
+        return "Approved".equalsIgnoreCase(request.getStatus());
     }
 }
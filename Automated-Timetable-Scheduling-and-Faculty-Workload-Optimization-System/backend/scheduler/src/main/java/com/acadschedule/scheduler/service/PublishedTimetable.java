@@ -0,0 +1,61 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.TimetableSnapshot;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The published version, swapped in whole on publish so readers never lock
+ * and never see a half-written timetable. Rows live in a {@link TimetableSnapshot};
+ * the entry lists handed out are fresh objects built from it on each call.
+ */
+public final class PublishedTimetable {
+
+    public static final PublishedTimetable EMPTY = new PublishedTimetable(null, null, null,
+            TimetableSnapshot.wrap(ByteBuffer.wrap(TimetableSnapshot.encode(0L, List.of()))));
+
+    private final Long versionId;
+    private final Integer versionNumber;
+    private final LocalDateTime publishedAt;
+    private final TimetableSnapshot snapshot;
+    private final String etag;
+
+    PublishedTimetable(Long versionId, Integer versionNumber, LocalDateTime publishedAt, TimetableSnapshot snapshot) {
+        this.versionId = versionId;
+        this.versionNumber = versionNumber;
+        this.publishedAt = publishedAt;
+        this.snapshot = snapshot;
+        this.etag = "\"tt-" + (versionId != null ? versionId : 0) + "-" + Integer.toHexString(snapshot.checksum()) + "\"";
+    }
+
+    public Long getVersionId() { return versionId; }
+    public Integer getVersionNumber() { return versionNumber; }
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public TimetableSnapshot getSnapshot() { return snapshot; }
+
+    // Strong validator for anything rendered from this version
+    public String getETag() { return etag; }
+
+    public List<TimetableEntry> getEntries() {
+        return snapshot.entries();
+    }
+
+    public List<TimetableEntry> getSection(String sectionId) {
+        return snapshot.section(sectionId);
+    }
+
+    // Entries of every section but one, for regenerating that section around the rest
+    public List<TimetableEntry> getAllExcept(String sectionId) {
+        int[] skip = snapshot.sectionRange(sectionId);
+        List<TimetableEntry> result = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (skip != null && i >= skip[0] && i < skip[1]) continue;
+            result.add(snapshot.entry(i));
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
 import com.acadschedule.scheduler.entity.Room;
 import com.acadschedule.scheduler.repository.RoomRepository;
 import org.springframework.stereotype.Service;
@@ -9,13 +10,20 @@ import java.util.List;
 public class RoomService {
 
     private final RoomRepository roomRepository;
+    private final ReferenceDataCache cache;
 
-    public RoomService(RoomRepository roomRepository) {
+    public RoomService(RoomRepository roomRepository, ReferenceDataCache cache) {
         this.roomRepository = roomRepository;
+        this.cache = cache;
     }
 
     public List<Room> findAll() {
-        return roomRepository.findAll();
+        return cache.rooms().get(roomRepository::findAllWithEquipment);
+    }
+
+    // Validator for the catalog; changes whenever a mutation here invalidates the cache
+    public String getETag() {
+        return cache.rooms().etag();
     }
 
     public Room findById(Long id) {
@@ -24,10 +32,13 @@ public class RoomService {
     }
 
     public Room save(Room room) {
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        cache.rooms().invalidate();
+        return saved;
     }
 
     public void deleteById(Long id) {
         roomRepository.deleteById(id);
+        cache.rooms().invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
+import com.acadschedule.scheduler.dto.FacultySchedule;
+import com.acadschedule.scheduler.dto.RoomSchedule;
+import com.acadschedule.scheduler.engine.SlotGrid;
+import com.acadschedule.scheduler.engine.TimetableSnapshot;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.event.TimetablePublishedEvent;
+import com.acadschedule.scheduler.repository.TimetableEntryRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * "My week" views for one faculty member or room, served from an index over
+ * the published snapshot. The index groups entries by their stored faculty
+ * and room ids, so renames and duplicate names do not move anyone's week, and
+ * keeps each id's entry positions with per-day hour totals. It is rebuilt when
+ * a version is published or the faculty/room catalog changes.
+ */
+@Service
+public class ScheduleViewService {
+
+    private final TimetableVersionService versionService;
+    private final FacultyService facultyService;
+    private final RoomService roomService;
+    private final ReferenceDataCache cache;
+    private final TimetableEntryRepository entryRepository;
+    private final AtomicReference<Index> index = new AtomicReference<>();
+
+    public ScheduleViewService(TimetableVersionService versionService,
+                               FacultyService facultyService,
+                               RoomService roomService,
+                               ReferenceDataCache cache,
+                               TimetableEntryRepository entryRepository) {
+        this.versionService = versionService;
+        this.facultyService = facultyService;
+        this.roomService = roomService;
+        this.cache = cache;
+        this.entryRepository = entryRepository;
+    }
+
+    // Built for the given published version and catalog versions; rebuilt when any of them moves
+    private static final class Index {
+        final PublishedTimetable published;
+        final long facultyVersion;
+        final long roomVersion;
+        final Map<Long, Faculty> faculty = new HashMap<>();
+        final Map<Long, Room> rooms = new HashMap<>();
+        final Map<Long, int[]> facultyEntries = new HashMap<>();
+        final Map<Long, int[]> roomEntries = new HashMap<>();
+        final Map<Long, int[]> facultyHours = new HashMap<>();
+        final Map<Long, int[]> roomHours = new HashMap<>();
+
+        Index(PublishedTimetable published, long facultyVersion, long roomVersion,
+              List<Faculty> facultyList, List<Room> roomList, List<Object[]> assignments) {
+            this.published = published;
+            this.facultyVersion = facultyVersion;
+            this.roomVersion = roomVersion;
+            for (Faculty f : facultyList) faculty.put(f.getId(), f);
+            for (Room r : roomList) rooms.put(r.getId(), r);
+
+            // Row id -> {faculty_id, room_id} as stored with the version
+            Map<Long, Object[]> byEntryId = new HashMap<>();
+            for (Object[] row : assignments) byEntryId.put((Long) row[0], row);
+
+            TimetableSnapshot snapshot = published.getSnapshot();
+            Map<Long, List<Integer>> byFaculty = new HashMap<>();
+            Map<Long, List<Integer>> byRoom = new HashMap<>();
+            for (int i = 0; i < snapshot.size(); i++) {
+                Object[] row = byEntryId.get(snapshot.id(i));
+                if (row == null) continue;
+                int day = SlotGrid.dayIndex(snapshot.day(i));
+                if (row[1] != null) add(byFaculty, facultyHours, (Long) row[1], i, day);
+                if (row[2] != null) add(byRoom, roomHours, (Long) row[2], i, day);
+            }
+            byFaculty.forEach((id, list) -> facultyEntries.put(id, toArray(list)));
+            byRoom.forEach((id, list) -> roomEntries.put(id, toArray(list)));
+        }
+
+        boolean isCurrent(PublishedTimetable current, long facultyVersion, long roomVersion) {
+            return published == current && this.facultyVersion == facultyVersion && this.roomVersion == roomVersion;
+        }
+
+        // Each entry is one teaching slot, i.e. one hour
+        private static void add(Map<Long, List<Integer>> postings, Map<Long, int[]> hours, Long id, int entry, int day) {
+            postings.computeIfAbsent(id, k -> new ArrayList<>()).add(entry);
+            if (day >= 0) hours.computeIfAbsent(id, k -> new int[SlotGrid.DAYS])[day]++;
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            return list.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    // Warm the index for the new version so the first request after a publish does not pay for it
+    @EventListener
+    public void onPublished(TimetablePublishedEvent event) {
+        current();
+    }
+
+    // Validator for both views: changes with the published version and the two catalogs
+    public String getETag() {
+        PublishedTimetable published = versionService.getPublished();
+        String base = published.getETag();
+        return base.substring(0, base.length() - 1)
+                + "-" + cache.faculty().tag() + "-" + cache.rooms().tag() + "\"";
+    }
+
+    public FacultySchedule getFacultySchedule(Long facultyId) {
+        Index idx = current();
+        Faculty faculty = idx.faculty.get(facultyId);
+        if (faculty == null) throw new RuntimeException("Faculty not found with id: " + facultyId);
+        int[] hours = idx.facultyHours.getOrDefault(facultyId, new int[SlotGrid.DAYS]);
+
+        FacultySchedule view = new FacultySchedule();
+        view.setFacultyId(facultyId);
+        view.setFacultyName(faculty.getName());
+        view.setVersionId(idx.published.getVersionId());
+        view.setVersionNumber(idx.published.getVersionNumber());
+        view.setWeeklyHours(sum(hours));
+        view.setMaxHoursPerWeek(faculty.getMaxHoursPerWeek());
+        view.setHoursByDay(byDay(hours));
+        view.setEntries(entries(idx, idx.facultyEntries.get(facultyId)));
+        return view;
+    }
+
+    public RoomSchedule getRoomSchedule(Long roomId) {
+        Index idx = current();
+        Room room = idx.rooms.get(roomId);
+        if (room == null) throw new RuntimeException("Room not found with id: " + roomId);
+        int[] hours = idx.roomHours.getOrDefault(roomId, new int[SlotGrid.DAYS]);
+
+        RoomSchedule view = new RoomSchedule();
+        view.setRoomId(roomId);
+        view.setRoomName(room.getName());
+        view.setVersionId(idx.published.getVersionId());
+        view.setVersionNumber(idx.published.getVersionNumber());
+        view.setWeeklyHours(sum(hours));
+        view.setUtilization((double) sum(hours) / (SlotGrid.DAYS * SlotGrid.SLOTS_PER_DAY));
+        view.setHoursByDay(byDay(hours));
+        view.setEntries(entries(idx, idx.roomEntries.get(roomId)));
+        return view;
+    }
+
+    private Index current() {
+        // Versions are read before the data, so a concurrent change can only cause one extra rebuild
+        long facultyVersion = cache.faculty().version();
+        long roomVersion = cache.rooms().version();
+        PublishedTimetable published = versionService.getPublished();
+        Index idx = index.get();
+        if (idx != null && idx.isCurrent(published, facultyVersion, roomVersion)) return idx;
+
+        Index built = new Index(published, facultyVersion, roomVersion,
+                facultyService.getAllFaculty(), roomService.findAll(),
+                published.getVersionId() != null
+                        ? entryRepository.findAssignmentsByVersionId(published.getVersionId()) : List.of());
+        index.set(built);
+        return built;
+    }
+
+    private static List<TimetableEntry> entries(Index idx, int[] positions) {
+        if (positions == null) return List.of();
+        TimetableSnapshot snapshot = idx.published.getSnapshot();
+        List<TimetableEntry> result = new ArrayList<>(positions.length);
+        for (int i : positions) result.add(snapshot.entry(i));
+        return result;
+    }
+
+    private static Map<String, Integer> byDay(int[] hours) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int d = 0; d < SlotGrid.DAYS; d++) result.put(SlotGrid.dayName(d), hours[d]);
+        return result;
+    }
+
+    private static int sum(int[] hours) {
+        int total = 0;
+        for (int h : hours) total += h;
+        return total;
+    }
+}
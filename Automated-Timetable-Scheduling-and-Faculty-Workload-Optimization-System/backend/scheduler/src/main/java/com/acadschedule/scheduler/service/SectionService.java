@@ -1,5 +1,6 @@
 package com.acadschedule.scheduler.service;
 
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
 import com.acadschedule.scheduler.entity.Section;
 import com.acadschedule.scheduler.repository.SectionRepository;
 import org.springframework.stereotype.Service;
@@ -10,13 +11,20 @@ import java.util.List;
 public class SectionService {
 
     private final SectionRepository sectionRepo;
+    private final ReferenceDataCache cache;
 
-    public SectionService(SectionRepository sectionRepo) {
+    public SectionService(SectionRepository sectionRepo, ReferenceDataCache cache) {
         this.sectionRepo = sectionRepo;
+        this.cache = cache;
     }
 
     public List<Section> getAllSections() {
-        return sectionRepo.findAll();
+        return cache.sections().get(sectionRepo::findAll);
+    }
+
+    // Validator for the catalog; changes whenever a mutation here invalidates the cache
+    public String getETag() {
+        return cache.sections().etag();
     }
 
     public java.util.Optional<Section> getSectionById(Long id) {
@@ -24,7 +32,9 @@ public class SectionService {
     }
 
     public Section createSection(Section section) {
-        return sectionRepo.save(section);
+        Section saved = sectionRepo.save(section);
+        cache.sections().invalidate();
+        return saved;
     }
 
     public Section updateSection(Long id, Section details) {
@@ -35,11 +45,14 @@ public class SectionService {
             section.setCapacity(details.getCapacity());
             section.setStatus(details.getStatus());
             section.setMentorId(details.getMentorId());
-            return sectionRepo.save(section);
+            Section saved = sectionRepo.save(section);
+            cache.sections().invalidate();
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Section not found"));
     }
 
     public void deleteSection(Long id) {
         sectionRepo.deleteById(id);
+        cache.sections().invalidate();
     }
 }
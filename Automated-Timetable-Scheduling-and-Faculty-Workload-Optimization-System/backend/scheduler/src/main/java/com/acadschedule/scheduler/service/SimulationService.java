@@ -0,0 +1,340 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.RepairChange;
+import com.acadschedule.scheduler.dto.SimulationReport;
+import com.acadschedule.scheduler.dto.SimulationRequest;
+import com.acadschedule.scheduler.engine.ConflictIndex;
+import com.acadschedule.scheduler.engine.ConstraintCompiler;
+import com.acadschedule.scheduler.engine.FacultyAvailability;
+import com.acadschedule.scheduler.engine.FeasibilityCheck;
+import com.acadschedule.scheduler.engine.LeaveIndex;
+import com.acadschedule.scheduler.engine.LeaveRepairPlanner;
+import com.acadschedule.scheduler.engine.RuleSet;
+import com.acadschedule.scheduler.engine.ScheduleModel;
+import com.acadschedule.scheduler.engine.ScheduleModelBuilder;
+import com.acadschedule.scheduler.engine.SlotGrid;
+import com.acadschedule.scheduler.engine.SolverResult;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.LeaveRequest;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Dry runs of catalog, constraint and leave changes against the published
+ * timetable. The fork is copy-on-write: the cached catalog lists, rows and
+ * compiled rules are shared, and a list or rule set is only rebuilt when the
+ * request edits it. Sections the edits make infeasible are re-solved around
+ * everything else, hypothetical leaves go through the repair planner, and
+ * the result is diffed against the published version. Nothing is written.
+ */
+@Service
+public class SimulationService {
+
+    private final TimetableVersionService versionService;
+    private final SectionService sectionService;
+    private final SubjectService subjectService;
+    private final FacultyService facultyService;
+    private final RoomService roomService;
+    private final ConstraintService constraintService;
+    private final LeaveAvailabilityService leaveService;
+    private final TimetableSolver solver;
+
+    public SimulationService(TimetableVersionService versionService,
+                             SectionService sectionService,
+                             SubjectService subjectService,
+                             FacultyService facultyService,
+                             RoomService roomService,
+                             ConstraintService constraintService,
+                             LeaveAvailabilityService leaveService,
+                             TimetableSolver solver) {
+        this.versionService = versionService;
+        this.sectionService = sectionService;
+        this.subjectService = subjectService;
+        this.facultyService = facultyService;
+        this.roomService = roomService;
+        this.constraintService = constraintService;
+        this.leaveService = leaveService;
+        this.solver = solver;
+    }
+
+    public SimulationReport simulate(SimulationRequest request) {
+        long started = System.nanoTime();
+        PublishedTimetable published = versionService.getPublished();
+        List<Faculty> baseFaculty = facultyService.getAllFaculty();
+        List<Room> baseRooms = roomService.findAll();
+        RuleSet baseRules = constraintService.getRuleSet();
+
+        List<Faculty> faculty = overlay(baseFaculty, request.getFaculty(), Faculty::getId);
+        List<Room> rooms = overlay(baseRooms, request.getRooms(), Room::getId);
+        RuleSet rules = baseRules;
+        if (!isEmpty(request.getConstraints()) || !isEmpty(request.getToggleConstraints())) {
+            List<Constraint> constraints = overlay(constraintService.getCachedConstraints(), request.getConstraints(), Constraint::getId);
+            rules = ConstraintCompiler.compile(toggled(constraints, request.getToggleConstraints()));
+        }
+
+        SimulationReport report = new SimulationReport();
+        report.setBaseVersionId(published.getVersionId());
+        report.setIgnoredConstraints(rules.getIgnored());
+
+        // Decoded from the shared snapshot, so the run may edit them freely
+        List<TimetableEntry> working = published.getEntries();
+        ConflictIndex before = new ConflictIndex(0);
+        before.reset(working, TimetableConflictService.dailyCaps(baseFaculty));
+
+        if (faculty != baseFaculty || rooms != baseRooms || rules != baseRules) {
+            Set<String> affected = FeasibilityCheck.invalidSections(working, faculty, rooms, rules);
+            affected.removeAll(FeasibilityCheck.invalidSections(working, baseFaculty, baseRooms, baseRules));
+            if (!affected.isEmpty()) working = reschedule(working, affected, faculty, rooms, rules, report);
+        }
+        List<Subject> subjects = subjectService.getAllSubjects();
+        for (LeaveRequest leave : request.getLeaves() != null ? request.getLeaves() : List.<LeaveRequest>of()) {
+            repair(working, leave, request.getLeaves(), faculty, subjects, rules, report);
+        }
+
+        ConflictIndex after = new ConflictIndex(0);
+        after.reset(working, TimetableConflictService.dailyCaps(faculty));
+        Set<String> existing = new HashSet<>();
+        for (ConflictIndex.Conflict c : before.openConflicts()) existing.add(c.getId());
+        List<ConflictIndex.Conflict> open = after.openConflicts();
+        for (ConflictIndex.Conflict c : open) {
+            if (!existing.contains(c.getId())) report.getNewConflicts().add(TimetableConflictService.toReport(c));
+        }
+        report.setConflictsBefore(existing.size());
+        report.setConflictsAfter(open.size());
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+        return report;
+    }
+
+    // Re-solves the affected sections around the rest; returns the new working timetable
+    private List<TimetableEntry> reschedule(List<TimetableEntry> working, Set<String> affected, List<Faculty> faculty,
+                                            List<Room> rooms, RuleSet rules, SimulationReport report) {
+        List<TimetableEntry> kept = new ArrayList<>();
+        List<TimetableEntry> old = new ArrayList<>();
+        for (TimetableEntry e : working) {
+            (affected.contains(e.getSectionId()) ? old : kept).add(e);
+        }
+        List<Section> sections = sectionService.getAllSections().stream()
+                .filter(s -> affected.contains(String.valueOf(s.getId())))
+                .toList();
+
+        ScheduleModel model = new ScheduleModelBuilder()
+                .sections(sections)
+                .subjects(subjectService.getAllSubjects())
+                .faculty(faculty)
+                .rooms(rooms)
+                .rules(rules)
+                .occupied(kept)
+                .build();
+        SolverResult solved = solver.solve(model);
+        List<TimetableEntry> created = solved.toEntries();
+        // The conflict index needs ids; negative ones cannot clash with stored rows
+        long nextId = -1;
+        for (TimetableEntry e : created) e.setId(nextId--);
+
+        report.setRescheduledSections(new ArrayList<>(new TreeSet<>(affected)));
+        report.setUnplacedSessions(solved.getUnplacedSessions());
+        diff(old, created, report);
+
+        List<TimetableEntry> result = new ArrayList<>(kept);
+        result.addAll(created);
+        return result;
+    }
+
+    // Entries that kept their exact placement are not reported; the rest are paired up per section and subject
+    private static void diff(List<TimetableEntry> old, List<TimetableEntry> created, SimulationReport report) {
+        Map<String, Deque<TimetableEntry>> unchanged = new HashMap<>();
+        for (TimetableEntry e : old) {
+            unchanged.computeIfAbsent(placement(e), k -> new ArrayDeque<>()).add(e);
+        }
+        List<TimetableEntry> moved = new ArrayList<>();
+        for (TimetableEntry e : created) {
+            Deque<TimetableEntry> same = unchanged.get(placement(e));
+            if (same != null && !same.isEmpty()) same.poll(); else moved.add(e);
+        }
+
+        Map<String, Deque<TimetableEntry>> from = new HashMap<>();
+        for (Deque<TimetableEntry> left : unchanged.values()) {
+            for (TimetableEntry e : left) from.computeIfAbsent(course(e), k -> new ArrayDeque<>()).add(e);
+        }
+        for (TimetableEntry e : moved) {
+            Deque<TimetableEntry> candidates = from.get(course(e));
+            TimetableEntry previous = candidates != null ? candidates.poll() : null;
+            report.getChanges().add(change("RESCHEDULED", previous, e));
+            report.setSessionsMoved(report.getSessionsMoved() + 1);
+        }
+        for (Deque<TimetableEntry> left : from.values()) {
+            for (TimetableEntry e : left) {
+                report.getChanges().add(change("UNPLACED", e, null));
+                report.setSessionsMoved(report.getSessionsMoved() + 1);
+            }
+        }
+    }
+
+    // Same steps as the leave repair, applied to the working copy only
+    private void repair(List<TimetableEntry> working, LeaveRequest leave, List<LeaveRequest> hypothetical,
+                        List<Faculty> faculty, List<Subject> subjects, RuleSet rules, SimulationReport report) {
+        String absent = facultyName(leave.getFacultyId(), leave.getFacultyName(), faculty);
+        int leaveDays = LeaveRepairPlanner.leaveDays(leave.getStartDate(), leave.getEndDate());
+        if (absent == null || leaveDays == 0) return;
+        LocalDate end = leave.getEndDate() != null ? leave.getEndDate() : leave.getStartDate();
+        LeaveRepairPlanner planner = new LeaveRepairPlanner(faculty, subjects, working,
+                FacultyAvailability.EMPTY.withRules(rules));
+
+        Set<Long> unavailable = new HashSet<>();
+        for (LeaveIndex.Leave other : leaveService.getOnLeave(leave.getStartDate(), end)) {
+            Long otherId = planner.facultyId(other.facultyId(), other.facultyName());
+            if (otherId != null) unavailable.add(otherId);
+        }
+        for (LeaveRequest other : hypothetical) {
+            if (other == leave || other.getStartDate() == null) continue;
+            LocalDate otherEnd = other.getEndDate() != null ? other.getEndDate() : other.getStartDate();
+            if (other.getStartDate().isAfter(end) || otherEnd.isBefore(leave.getStartDate())) continue;
+            Long otherId = planner.facultyId(other.getFacultyId(), other.getFacultyName());
+            if (otherId != null) unavailable.add(otherId);
+        }
+        Long absentId = planner.facultyId(leave.getFacultyId(), leave.getFacultyName());
+        unavailable.remove(absentId);
+
+        for (LeaveRepairPlanner.Move move : planner.plan(absentId, absent, leaveDays, unavailable)) {
+            List<TimetableEntry> block = move.getEntries();
+            for (int k = 0; k < block.size(); k++) {
+                TimetableEntry entry = block.get(k);
+                TimetableEntry previous = copyPlacement(entry);
+                switch (move.getAction()) {
+                    case SUBSTITUTED -> {
+                        entry.setFacultyName(move.getFaculty());
+                        entry.setFacultyId(move.getFacultyId());
+                        report.setSubstituted(report.getSubstituted() + 1);
+                    }
+                    case RELOCATED -> {
+                        entry.setDay(SlotGrid.dayName(move.getDay()));
+                        entry.setTimeSlot(SlotGrid.slotLabel(move.getStart() + k));
+                        report.setRelocated(report.getRelocated() + 1);
+                    }
+                    case UNRESOLVED -> report.setUnresolved(report.getUnresolved() + 1);
+                }
+                if (move.getAction() == LeaveRepairPlanner.Action.RELOCATED) {
+                    report.setSessionsMoved(report.getSessionsMoved() + 1);
+                }
+                report.getChanges().add(change(move.getAction().name(), previous, entry));
+            }
+        }
+    }
+
+    private static String facultyName(Long facultyId, String fallback, List<Faculty> faculty) {
+        if (facultyId != null) {
+            for (Faculty f : faculty) {
+                if (facultyId.equals(f.getId())) return f.getName();
+            }
+        }
+        return fallback;
+    }
+
+    // Edits with the id of an existing row replace it; the rest are added. Without edits the cached list is returned as is
+    private static <T> List<T> overlay(List<T> base, List<T> edits, Function<T, Object> id) {
+        if (isEmpty(edits)) return base;
+        Map<Object, T> byId = new HashMap<>();
+        for (T edit : edits) {
+            if (id.apply(edit) != null) byId.put(id.apply(edit), edit);
+        }
+        List<T> result = new ArrayList<>(base.size() + edits.size());
+        Set<Object> replaced = new HashSet<>();
+        for (T row : base) {
+            T edit = byId.get(id.apply(row));
+            if (edit != null) replaced.add(id.apply(row));
+            result.add(edit != null ? edit : row);
+        }
+        for (T edit : edits) {
+            if (id.apply(edit) == null || !replaced.contains(id.apply(edit))) result.add(edit);
+        }
+        return result;
+    }
+
+    // Cached rows are shared, so a toggled constraint is a copy
+    private static List<Constraint> toggled(List<Constraint> constraints, List<String> ids) {
+        if (isEmpty(ids)) return constraints;
+        Set<String> toggle = new HashSet<>(ids);
+        List<Constraint> result = new ArrayList<>(constraints.size());
+        for (Constraint c : constraints) {
+            if (!toggle.contains(c.getId())) {
+                result.add(c);
+                continue;
+            }
+            Constraint copy = new Constraint();
+            copy.setId(c.getId());
+            copy.setName(c.getName());
+            copy.setType(c.getType());
+            copy.setDescription(c.getDescription());
+            copy.setPriority(c.getPriority());
+            copy.setParameters(c.getParameters());
+            copy.setActive(!c.isActive());
+            result.add(copy);
+        }
+        return result;
+    }
+
+    private static RepairChange change(String action, TimetableEntry from, TimetableEntry to) {
+        TimetableEntry any = from != null ? from : to;
+        RepairChange change = new RepairChange();
+        change.setEntryId(from != null && from.getId() != null && from.getId() > 0 ? from.getId() : null);
+        change.setSectionId(any.getSectionId());
+        change.setSubjectCode(any.getSubjectCode());
+        change.setAction(action);
+        if (from != null) {
+            change.setFromDay(from.getDay());
+            change.setFromTimeSlot(from.getTimeSlot());
+            change.setFromFaculty(from.getFacultyName());
+            change.setFromRoom(from.getRoomNumber());
+        }
+        if (to != null) {
+            change.setToDay(to.getDay());
+            change.setToTimeSlot(to.getTimeSlot());
+            change.setToFaculty(to.getFacultyName());
+            change.setToRoom(to.getRoomNumber());
+        }
+        return change;
+    }
+
+    private static TimetableEntry copyPlacement(TimetableEntry e) {
+        TimetableEntry copy = new TimetableEntry();
+        copy.setId(e.getId());
+        copy.setSectionId(e.getSectionId());
+        copy.setSubjectCode(e.getSubjectCode());
+        copy.setDay(e.getDay());
+        copy.setTimeSlot(e.getTimeSlot());
+        copy.setFacultyName(e.getFacultyName());
+        copy.setRoomNumber(e.getRoomNumber());
+        return copy;
+    }
+
+    private static String placement(TimetableEntry e) {
+        return String.join("|", course(e), Objects.toString(e.getDay()), Objects.toString(e.getTimeSlot()),
+                Objects.toString(e.getFacultyName()), Objects.toString(e.getRoomNumber()));
+    }
+
+    private static String course(TimetableEntry e) {
+        return e.getSectionId() + "|" + e.getSubjectCode() + "|" + e.getType();
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+}
@@ -2,23 +2,33 @@ package com.acadschedule.scheduler.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
 import com.acadschedule.scheduler.entity.Subject;
 import com.acadschedule.scheduler.repository.SubjectRepository;
 @Service
 public class SubjectService {
 
     private final SubjectRepository subjectRepository;
+    private final ReferenceDataCache cache;
 
-    public SubjectService(SubjectRepository subjectRepository) {
+    public SubjectService(SubjectRepository subjectRepository, ReferenceDataCache cache) {
         this.subjectRepository = subjectRepository;
+        this.cache = cache;
     }
 
     public Subject createSubject(Subject subject) {
-        return subjectRepository.save(subject);
+        Subject saved = subjectRepository.save(subject);
+        cache.subjects().invalidate();
+        return saved;
     }
 
     public List<Subject> getAllSubjects() {
-        return subjectRepository.findAll();
+        return cache.subjects().get(subjectRepository::findAllWithEligibleFaculty);
+    }
+
+    // Validator for the catalog; changes whenever a mutation here invalidates the cache
+    public String getETag() {
+        return cache.subjects().etag();
     }
 
     @org.springframework.transaction.annotation.Transactional
@@ -42,7 +52,9 @@ public class SubjectService {
             subject.setEligibleFaculty(subjectDetails.getEligibleFaculty());
         }
 
-        return subjectRepository.save(subject);
+        Subject saved = subjectRepository.save(subject);
+        cache.subjects().invalidate();
+        return saved;
     }
 
     // ✅ NEW: Delete Subject
@@ -50,5 +62,6 @@ public class SubjectService {
         Subject subject = subjectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Subject not found with id: " + id));
         subjectRepository.delete(subject);
+        cache.subjects().invalidate();
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.acadschedule.scheduler.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Database-side guarantee that no version puts one faculty member, room or
+ * section in two places at the same day and slot. Each guard is a partial
+ * exclusion constraint with "=" on every column, which is a unique constraint
+ * that can carry a WHERE clause and be DEFERRABLE: declared INITIALLY
+ * IMMEDIATE it is checked at the end of each statement, so a set-based
+ * UPDATE is judged by its result rather than by its intermediate rows.
+ */
+@Service
+public class TimetableClashGuard {
+
+    static final List<String> COLUMNS = List.of("faculty_id", "room_id", "section_ref_id");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimetableClashGuard(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the missing constraints. Versions that already hold a clash when a
+     * constraint is added are exempted by a version floor in its predicate;
+     * every version written from then on is checked.
+     */
+    public void install() {
+        for (String column : COLUMNS) {
+            String name = constraintName(column);
+            Integer present = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_constraint WHERE conname = ?", Integer.class, name);
+            if (present != null && present > 0) continue;
+
+            String predicate = column + " IS NOT NULL AND day_index IS NOT NULL AND slot_index IS NOT NULL";
+            Long floor = jdbcTemplate.queryForObject("SELECT max(version_id) FROM (SELECT version_id "
+                    + "FROM timetable_entries WHERE " + predicate + " "
+                    + "GROUP BY version_id, " + column + ", day_index, slot_index HAVING count(*) > 1) clashes", Long.class);
+            if (floor != null) predicate += " AND version_id > " + floor;
+            jdbcTemplate.execute("ALTER TABLE timetable_entries ADD CONSTRAINT " + name + " EXCLUDE USING btree "
+                    + "(version_id WITH =, " + column + " WITH =, day_index WITH =, slot_index WITH =) "
+                    + "WHERE (" + predicate + ") DEFERRABLE INITIALLY IMMEDIATE");
+        }
+    }
+
+    static String constraintName(String column) {
+        return "uq_timetable_entries_" + column.substring(0, column.indexOf('_')) + "_slot";
+    }
+}
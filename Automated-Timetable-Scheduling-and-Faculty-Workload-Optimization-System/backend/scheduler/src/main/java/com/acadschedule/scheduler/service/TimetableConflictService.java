@@ -0,0 +1,134 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.ConflictChange;
+import com.acadschedule.scheduler.dto.ConflictDelta;
+import com.acadschedule.scheduler.dto.ConflictReport;
+import com.acadschedule.scheduler.dto.ConflictSnapshot;
+import com.acadschedule.scheduler.engine.ConflictIndex;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.event.TimetableChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TimetableConflictService {
+
+    private final TimetableVersionService versionService;
+    private final FacultyService facultyService;
+    private final ConflictIndex index;
+
+    public TimetableConflictService(TimetableVersionService versionService,
+                                    FacultyService facultyService,
+                                    @Value("${scheduler.conflicts.change-log-size:10000}") int changeLogSize) {
+        this.versionService = versionService;
+        this.facultyService = facultyService;
+        this.index = new ConflictIndex(changeLogSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.reset(versionService.getPublished().getEntries(), dailyCaps());
+    }
+
+    // Runs once the publishing transaction has committed, so the index never shows rolled-back rows.
+    // Every version has its own row ids, so the index is rebuilt for each published version.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimetableChanged(TimetableChangedEvent event) {
+        index.reset(event.getEntries(), dailyCaps());
+    }
+
+    public ConflictSnapshot getSnapshot() {
+        ConflictSnapshot snapshot = new ConflictSnapshot();
+        // Read the sequence first: a concurrent change can only make the client re-apply, never miss one
+        snapshot.setSequence(index.currentSequence());
+        List<ConflictReport> conflicts = new ArrayList<>();
+        for (ConflictIndex.Conflict c : index.openConflicts()) {
+            conflicts.add(toReport(c));
+        }
+        snapshot.setConflicts(conflicts);
+        return snapshot;
+    }
+
+    public ConflictDelta getChangesSince(long since) {
+        ConflictDelta delta = new ConflictDelta();
+        delta.setSince(since);
+        delta.setSequence(index.currentSequence());
+
+        List<ConflictIndex.Change> changes = index.changesSince(since);
+        if (changes == null) {
+            delta.setResync(true);
+            delta.setChanges(List.of());
+            return delta;
+        }
+
+        List<ConflictChange> result = new ArrayList<>();
+        for (ConflictIndex.Change c : changes) {
+            ConflictChange change = new ConflictChange();
+            change.setSequence(c.getSequence());
+            change.setChange(c.getType().name());
+            change.setConflict(toReport(c.getConflict()));
+            result.add(change);
+            delta.setSequence(Math.max(delta.getSequence(), c.getSequence()));
+        }
+        delta.setChanges(result);
+        return delta;
+    }
+
+    private Map<String, Integer> dailyCaps() {
+        return dailyCaps(facultyService.getAllFaculty());
+    }
+
+    // Faculty name -> maxHoursPerDay, as the conflict index expects
+    static Map<String, Integer> dailyCaps(Collection<Faculty> faculty) {
+        Map<String, Integer> caps = new HashMap<>();
+        for (Faculty f : faculty) {
+            if (f.getName() != null && f.getMaxHoursPerDay() > 0) caps.put(f.getName(), f.getMaxHoursPerDay());
+        }
+        return caps;
+    }
+
+    static ConflictReport toReport(ConflictIndex.Conflict c) {
+        ConflictReport report = new ConflictReport();
+        report.setId(c.getId());
+        report.setSessionId(String.valueOf(c.getEntryIds().get(0)));
+        report.setType(c.getKind().label());
+        report.setAffectedEntities(c.getEntryIds().stream().map(String::valueOf).toList());
+
+        switch (c.getKind()) {
+            case FACULTY_OVERLAP -> {
+                report.setSeverity("error");
+                report.setDescription(c.getResource() + " is booked for " + c.getEntryIds().size()
+                        + " classes on " + c.getDay() + " at " + c.getTimeSlot());
+                report.setSuggestedResolution("Assign a substitute or move one of the classes");
+            }
+            case ROOM_OVERLAP -> {
+                report.setSeverity("error");
+                report.setDescription("Room " + c.getResource() + " is double-booked on " + c.getDay()
+                        + " at " + c.getTimeSlot());
+                report.setSuggestedResolution("Move one of the classes to a free room");
+            }
+            case SECTION_OVERLAP -> {
+                report.setSeverity("error");
+                report.setDescription("Section " + c.getResource() + " has " + c.getEntryIds().size()
+                        + " classes on " + c.getDay() + " at " + c.getTimeSlot());
+                report.setSuggestedResolution("Move one of the classes to a free slot");
+            }
+            case CONSTRAINT_VIOLATION -> {
+                report.setSeverity("warning");
+                report.setDescription(c.getResource() + " teaches " + c.getEntryIds().size()
+                        + " hours on " + c.getDay() + ", above the daily limit");
+                report.setSuggestedResolution("Move a class to a lighter day or reassign it");
+            }
+        }
+        return report;
+    }
+}
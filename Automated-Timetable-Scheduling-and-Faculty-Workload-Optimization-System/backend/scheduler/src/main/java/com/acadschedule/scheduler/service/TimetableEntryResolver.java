@@ -0,0 +1,137 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.SlotGrid;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.Subject;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.acadschedule.scheduler.engine.ScheduleModelBuilder.key;
+
+/**
+ * Fills the normalized columns of {@link TimetableEntry} (day and slot
+ * indices, section/subject/faculty/room ids). The ids are authoritative once
+ * written: new rows without them are matched by name against the cached
+ * catalogs before they are saved, rows from before the columns existed are
+ * linked once at startup, and the text columns of a version are refreshed
+ * from the rows its ids point at, so a rename never unlinks an entry.
+ */
+@Service
+public class TimetableEntryResolver {
+
+    private static final String DAYS = sqlArray(SlotGrid.DAY_NAMES);
+    private static final String SLOTS = sqlArray(SlotGrid.SLOT_LABELS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FacultyService facultyService;
+    private final RoomService roomService;
+    private final SubjectService subjectService;
+
+    public TimetableEntryResolver(JdbcTemplate jdbcTemplate,
+                                  FacultyService facultyService,
+                                  RoomService roomService,
+                                  SubjectService subjectService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.facultyService = facultyService;
+        this.roomService = roomService;
+        this.subjectService = subjectService;
+    }
+
+    // Ids already set by whoever placed the entry are kept; the rest use the solver's matching:
+    // case-insensitive names, rooms by name and then by code
+    public void resolve(Collection<TimetableEntry> entries) {
+        Map<String, Long> faculty = new HashMap<>();
+        for (Faculty f : facultyService.getAllFaculty()) faculty.putIfAbsent(key(f.getName()), f.getId());
+        Map<String, Long> rooms = new HashMap<>();
+        for (Room r : roomService.findAll()) rooms.putIfAbsent(key(r.getName()), r.getId());
+        for (Room r : roomService.findAll()) rooms.putIfAbsent(key(r.getCode()), r.getId());
+        Map<String, Long> subjects = new HashMap<>();
+        for (Subject s : subjectService.getAllSubjects()) subjects.putIfAbsent(key(s.getCode()), s.getId());
+
+        for (TimetableEntry e : entries) {
+            int day = SlotGrid.dayIndex(e.getDay());
+            int slot = SlotGrid.slotIndex(e.getTimeSlot());
+            e.setDayIndex(day >= 0 ? day : null);
+            e.setSlotIndex(slot >= 0 ? slot : null);
+            e.setSectionRefId(sectionRef(e.getSectionId()));
+            if (e.getSubjectId() == null && e.getSubjectCode() != null) e.setSubjectId(subjects.get(key(e.getSubjectCode())));
+            if (e.getFacultyId() == null && e.getFacultyName() != null) e.setFacultyId(faculty.get(key(e.getFacultyName())));
+            if (e.getRoomId() == null && e.getRoomNumber() != null) e.setRoomId(rooms.get(key(e.getRoomNumber())));
+        }
+    }
+
+    /**
+     * Migrates rows written before the normalized columns existed. Only rows
+     * still missing a value are touched; data.sql reloads the catalogs in the
+     * same order with restarted identities, so ids written earlier stay valid.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        jdbcTemplate.update("UPDATE timetable_entries SET "
+                + "day_index = array_position(" + DAYS + ", upper(trim(day))) - 1, "
+                + "slot_index = array_position(" + SLOTS + ", trim(time_slot)) - 1 "
+                + "WHERE (day_index IS NULL OR slot_index IS NULL) "
+                + "AND upper(trim(day)) = ANY(" + DAYS + ") AND trim(time_slot) = ANY(" + SLOTS + ")");
+        jdbcTemplate.update("UPDATE timetable_entries SET section_ref_id = CAST(section_id AS BIGINT) "
+                + "WHERE section_ref_id IS NULL AND section_id ~ '^[0-9]{1,18}$'");
+
+        link("subject_id", "subject_code", "subjects", "code");
+        link("faculty_id", "faculty_name", "faculty", "name");
+        link("room_id", "room_number", "rooms", "name");
+        // Rooms referred to by code, where no room has that name
+        link("room_id", "room_number", "rooms", "code");
+    }
+
+    /**
+     * Rewrites the subject, faculty and room text of one version's rows from
+     * the catalog rows their ids point at. A room given by its code keeps it.
+     * Returns the number of rows changed.
+     */
+    public int refreshNames(long versionId) {
+        int changed = jdbcTemplate.update("UPDATE timetable_entries e SET subject_code = s.code, subject_name = s.name "
+                + "FROM subjects s WHERE e.version_id = ? AND e.subject_id = s.id "
+                + "AND (e.subject_code IS DISTINCT FROM s.code OR e.subject_name IS DISTINCT FROM s.name)", versionId);
+        changed += jdbcTemplate.update("UPDATE timetable_entries e SET faculty_name = f.name "
+                + "FROM faculty f WHERE e.version_id = ? AND e.faculty_id = f.id "
+                + "AND e.faculty_name IS DISTINCT FROM f.name", versionId);
+        changed += jdbcTemplate.update("UPDATE timetable_entries e SET room_number = r.name "
+                + "FROM rooms r WHERE e.version_id = ? AND e.room_id = r.id "
+                + "AND e.room_number IS DISTINCT FROM r.name AND e.room_number IS DISTINCT FROM r.code", versionId);
+        return changed;
+    }
+
+    // Sets a still-empty idColumn to the oldest catalog row whose matchColumn equals the entry's text
+    private void link(String idColumn, String textColumn, String table, String matchColumn) {
+        jdbcTemplate.update("UPDATE timetable_entries e SET " + idColumn + " = c.id FROM (SELECT DISTINCT ON "
+                + "(lower(trim(" + matchColumn + "))) id, lower(trim(" + matchColumn + ")) AS match FROM " + table
+                + " ORDER BY lower(trim(" + matchColumn + ")), id) c "
+                + "WHERE e." + idColumn + " IS NULL AND lower(trim(e." + textColumn + ")) = c.match");
+    }
+
+    private static Long sectionRef(String sectionId) {
+        if (sectionId == null) return null;
+        try {
+            return Long.valueOf(sectionId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ARRAY['A','B'] of trusted constants
+    private static String sqlArray(String[] values) {
+        return Stream.of(values).map(v -> "'" + v + "'").collect(Collectors.joining(",", "ARRAY[", "]"));
+    }
+}
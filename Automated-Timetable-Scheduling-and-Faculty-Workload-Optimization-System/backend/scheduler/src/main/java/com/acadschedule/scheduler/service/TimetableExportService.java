@@ -0,0 +1,118 @@
+package com.acadschedule.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streams one timetable version's rows straight from a forward-only JDBC
+ * cursor to the response. Rows are written as they are fetched, so memory use
+ * depends on the fetch size, not on the table size.
+ */
+@Service
+public class TimetableExportService {
+
+    private static final String[] COLUMNS = {
+            "id", "section_id", "day", "time_slot", "subject_code", "subject_name", "faculty_name", "room_number", "type"
+    };
+    // JSON names match the TimetableEntry entity
+    private static final String[] FIELDS = {
+            "id", "sectionId", "day", "timeSlot", "subjectCode", "subjectName", "facultyName", "roomNumber", "type"
+    };
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimetableExportService(DataSource dataSource,
+                                  @Value("${scheduler.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // PostgreSQL only honours the fetch size (a server-side cursor) inside a transaction
+    @Transactional(readOnly = true)
+    public void exportNdjson(Long versionId, String sectionId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = JSON.createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        json.setRootValueSeparator(null);
+
+        stream(versionId, sectionId, rs -> {
+            json.writeStartObject();
+            json.writeNumberField(FIELDS[0], rs.getLong(1));
+            for (int i = 1; i < FIELDS.length; i++) {
+                json.writeStringField(FIELDS[i], rs.getString(i + 1));
+            }
+            json.writeEndObject();
+            json.flush();
+            writer.write('\n');
+        });
+        json.close();
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(Long versionId, String sectionId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", FIELDS));
+        writer.write('\n');
+
+        stream(versionId, sectionId, rs -> {
+            writer.write(Long.toString(rs.getLong(1)));
+            for (int i = 2; i <= COLUMNS.length; i++) {
+                writer.write(',');
+                writer.write(csv(rs.getString(i)));
+            }
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    // A null version (nothing published yet) streams no rows
+    private void stream(Long versionId, String sectionId, RowWriter rowWriter) throws IOException {
+        if (versionId == null) return;
+        String sql = "SELECT " + String.join(", ", COLUMNS) + " FROM timetable_entries WHERE version_id = ?"
+                + (sectionId != null ? " AND section_id = ?" : "") + " ORDER BY id";
+        Object[] args = sectionId != null ? new Object[] { versionId, sectionId } : new Object[] { versionId };
+        try {
+            jdbcTemplate.query(sql, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        } catch (UncheckedIOException e) {
+            // Client went away; stop reading the cursor
+            throw e.getCause();
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
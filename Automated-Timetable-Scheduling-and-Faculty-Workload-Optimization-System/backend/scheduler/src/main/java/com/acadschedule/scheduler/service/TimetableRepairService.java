@@ -0,0 +1,283 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.RepairChange;
+import com.acadschedule.scheduler.dto.RepairReport;
+import com.acadschedule.scheduler.engine.LeaveIndex;
+import com.acadschedule.scheduler.engine.LeaveRepairPlanner;
+import com.acadschedule.scheduler.engine.SlotGrid;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.LeaveRequest;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.entity.TimetableVersion;
+import com.acadschedule.scheduler.repository.FacultyRepository;
+import com.acadschedule.scheduler.repository.TimetableEntryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class TimetableRepairService {
+
+    private final TimetableVersionService versionService;
+    private final FacultyRepository facultyRepository;
+    private final FacultyService facultyService;
+    private final SubjectService subjectService;
+    private final LeaveAvailabilityService availabilityService;
+    private final FacultyCalendarService calendarService;
+    private final TimetableEntryRepository entryRepository;
+
+    public TimetableRepairService(TimetableVersionService versionService,
+                                  FacultyRepository facultyRepository,
+                                  FacultyService facultyService,
+                                  SubjectService subjectService,
+                                  LeaveAvailabilityService availabilityService,
+                                  FacultyCalendarService calendarService,
+                                  TimetableEntryRepository entryRepository) {
+        this.versionService = versionService;
+        this.facultyRepository = facultyRepository;
+        this.facultyService = facultyService;
+        this.subjectService = subjectService;
+        this.availabilityService = availabilityService;
+        this.calendarService = calendarService;
+        this.entryRepository = entryRepository;
+    }
+
+    /**
+     * Covers the sessions an approved leave takes out; the result is published
+     * as a new version holding only the changed rows on top of the current
+     * one. Runs inside the caller's transaction; a concurrent publish makes
+     * the publish here fail with a stale-version error, see
+     * {@link TimetableVersionService#writeWithRetry}.
+     */
+    @Transactional
+    public RepairReport repairForLeave(LeaveRequest leave) {
+        long started = System.nanoTime();
+        RepairReport report = new RepairReport();
+        report.setLeaveId(leave.getId());
+
+        String absentName = leave.getFacultyName();
+        if (leave.getFacultyId() != null) {
+            absentName = facultyRepository.findById(leave.getFacultyId()).map(Faculty::getName).orElse(absentName);
+        }
+        report.setFacultyName(absentName);
+
+        int leaveDays = LeaveRepairPlanner.leaveDays(leave.getStartDate(), leave.getEndDate());
+        if (absentName == null || leaveDays == 0) {
+            report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+            return report;
+        }
+
+        // Fresh objects decoded from the published snapshot, so the planner may edit them freely
+        PublishedTimetable base = versionService.getPublished();
+        List<TimetableEntry> working = base.getEntries();
+        LeaveRepairPlanner planner = new LeaveRepairPlanner(
+                facultyService.getAllFaculty(), subjectService.getAllSubjects(), working,
+                calendarService.getAvailability());
+
+        LocalDate end = leave.getEndDate() != null ? leave.getEndDate() : leave.getStartDate();
+        Set<Long> unavailable = new HashSet<>();
+        for (LeaveIndex.Leave other : availabilityService.getOnLeave(leave.getStartDate(), end)) {
+            Long otherId = planner.facultyId(other.facultyId(), other.facultyName());
+            if (!other.id().equals(leave.getId()) && otherId != null) unavailable.add(otherId);
+        }
+
+        List<TimetableEntry> changed = new ArrayList<>();
+        for (LeaveRepairPlanner.Move move : planner.plan(leave.getFacultyId(), absentName, leaveDays, unavailable)) {
+            List<TimetableEntry> block = move.getEntries();
+            for (int k = 0; k < block.size(); k++) {
+                TimetableEntry entry = block.get(k);
+                RepairChange change = new RepairChange();
+                change.setEntryId(entry.getId());
+                change.setSectionId(entry.getSectionId());
+                change.setSubjectCode(entry.getSubjectCode());
+                change.setAction(move.getAction().name());
+                change.setFromDay(entry.getDay());
+                change.setFromTimeSlot(entry.getTimeSlot());
+                change.setFromFaculty(entry.getFacultyName());
+                change.setFromRoom(entry.getRoomNumber());
+
+                if (move.getAction() != LeaveRepairPlanner.Action.UNRESOLVED) {
+                    entry.setLeaveId(leave.getId());
+                    entry.setOriginalDay(entry.getDay());
+                    entry.setOriginalTimeSlot(entry.getTimeSlot());
+                    entry.setOriginalFacultyName(entry.getFacultyName());
+                    entry.setOriginalFacultyId(entry.getFacultyId());
+                }
+                switch (move.getAction()) {
+                    case SUBSTITUTED -> {
+                        entry.setFacultyName(move.getFaculty());
+                        entry.setFacultyId(move.getFacultyId());
+                        changed.add(entry);
+                        report.setSubstituted(report.getSubstituted() + 1);
+                    }
+                    case RELOCATED -> {
+                        entry.setDay(SlotGrid.dayName(move.getDay()));
+                        entry.setTimeSlot(SlotGrid.slotLabel(move.getStart() + k));
+                        changed.add(entry);
+                        report.setRelocated(report.getRelocated() + 1);
+                    }
+                    case UNRESOLVED -> report.setUnresolved(report.getUnresolved() + 1);
+                }
+
+                change.setToDay(entry.getDay());
+                change.setToTimeSlot(entry.getTimeSlot());
+                change.setToFaculty(entry.getFacultyName());
+                change.setToRoom(entry.getRoomNumber());
+                report.getChanges().add(change);
+            }
+        }
+        if (!changed.isEmpty()) {
+            List<Long> replaced = changed.stream().map(TimetableEntry::getId).toList();
+            // A row an earlier leave already moved keeps that leave and its first placement; undoing it restores both
+            Map<Long, TimetableEntry> stored = new HashMap<>();
+            for (TimetableEntry row : entryRepository.findAllById(replaced)) stored.put(row.getId(), row);
+            for (TimetableEntry entry : changed) {
+                TimetableEntry row = stored.get(entry.getId());
+                if (row != null && row.getLeaveId() != null) copyMark(row, entry);
+            }
+            TimetableVersion version = versionService.createDraftReplacingEntries("Leave repair #" + leave.getId(),
+                    base.getVersionId(), replaced, changed);
+            versionService.publish(version.getId());
+            report.setVersionId(version.getId());
+        }
+
+        report.setAffectedEntries(report.getChanges().size());
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+        return report;
+    }
+
+    /**
+     * Undoes what repairs for this leave changed in the published version,
+     * for a leave that was rejected, deleted or is over. Rows go back to their
+     * original place where it is still free. Rows whose original faculty is
+     * away on another leave stay as they are and are handed to that leave.
+     * Rows that cannot go back stay where they are, no longer linked to a
+     * leave. Runs inside the caller's transaction like repairForLeave.
+     */
+    @Transactional
+    public RepairReport undoForLeave(Long leaveId) {
+        long started = System.nanoTime();
+        RepairReport report = new RepairReport();
+        report.setLeaveId(leaveId);
+
+        PublishedTimetable base = versionService.getPublished();
+        List<TimetableEntry> marked = base.getVersionId() != null
+                ? entryRepository.findByVersionIdAndLeaveIdOrderById(base.getVersionId(), leaveId) : List.of();
+        if (marked.isEmpty()) {
+            report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+            return report;
+        }
+
+        // The same rows as snapshot objects, carrying their marks, inside the whole timetable for the planner
+        List<TimetableEntry> working = base.getEntries();
+        Map<Long, TimetableEntry> byId = new HashMap<>();
+        for (TimetableEntry entry : working) byId.put(entry.getId(), entry);
+        LeaveRepairPlanner planner = new LeaveRepairPlanner(
+                facultyService.getAllFaculty(), subjectService.getAllSubjects(), working,
+                calendarService.getAvailability());
+        Map<Long, LeaveIndex.Leave> otherLeaves = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        for (LeaveIndex.Leave other : availabilityService.getOnLeave(today, LocalDate.of(9999, 12, 31))) {
+            Long otherId = planner.facultyId(other.facultyId(), other.facultyName());
+            if (!other.id().equals(leaveId) && otherId != null) otherLeaves.putIfAbsent(otherId, other);
+        }
+
+        List<TimetableEntry> touched = new ArrayList<>();
+        List<TimetableEntry> candidates = new ArrayList<>();
+        Map<TimetableEntry, RepairChange> changes = new HashMap<>();
+        for (TimetableEntry row : marked) {
+            TimetableEntry entry = byId.get(row.getId());
+            if (entry == null) continue;
+            copyMark(row, entry);
+            touched.add(entry);
+            changes.put(entry, change(entry));
+
+            Long original = planner.facultyId(entry.getOriginalFacultyId(), entry.getOriginalFacultyName());
+            LeaveIndex.Leave other = original != null ? otherLeaves.get(original) : null;
+            int day = SlotGrid.dayIndex(entry.getOriginalDay());
+            if (other != null && day >= 0
+                    && (LeaveRepairPlanner.leaveDays(other.startDate(), other.endDate()) & (1 << day)) != 0) {
+                entry.setLeaveId(other.id());
+            } else {
+                candidates.add(entry);
+            }
+        }
+
+        Set<TimetableEntry> restored = new HashSet<>(planner.restore(candidates));
+        for (TimetableEntry entry : touched) {
+            RepairChange change = changes.get(entry);
+            if (restored.contains(entry)) {
+                change.setAction("RESTORED");
+                report.setRestored(report.getRestored() + 1);
+            } else if (!leaveId.equals(entry.getLeaveId())) {
+                change.setAction("TRANSFERRED");
+                report.setTransferred(report.getTransferred() + 1);
+            } else {
+                change.setAction("KEPT");
+                report.setUnresolved(report.getUnresolved() + 1);
+            }
+            if (leaveId.equals(entry.getLeaveId())) clearMark(entry);
+            change.setToDay(entry.getDay());
+            change.setToTimeSlot(entry.getTimeSlot());
+            change.setToFaculty(entry.getFacultyName());
+            change.setToRoom(entry.getRoomNumber());
+            report.getChanges().add(change);
+        }
+
+        List<Long> replaced = touched.stream().map(TimetableEntry::getId).toList();
+        TimetableVersion version = versionService.createDraftReplacingEntries("Leave undo #" + leaveId,
+                base.getVersionId(), replaced, touched);
+        versionService.publish(version.getId());
+        report.setVersionId(version.getId());
+        report.setAffectedEntries(report.getChanges().size());
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000.0);
+        return report;
+    }
+
+    // Leaves that still have changes in the published version
+    public List<Long> getAdjustingLeaveIds() {
+        Long versionId = versionService.getPublished().getVersionId();
+        return versionId != null ? entryRepository.findLeaveIdsByVersionId(versionId) : List.of();
+    }
+
+    // Published rows a leave's repairs changed, as stored
+    public List<TimetableEntry> getAdjustedEntries(Long leaveId) {
+        Long versionId = versionService.getPublished().getVersionId();
+        return versionId != null ? entryRepository.findByVersionIdAndLeaveIdOrderById(versionId, leaveId) : List.of();
+    }
+
+    private static void copyMark(TimetableEntry from, TimetableEntry to) {
+        to.setLeaveId(from.getLeaveId());
+        to.setOriginalDay(from.getOriginalDay());
+        to.setOriginalTimeSlot(from.getOriginalTimeSlot());
+        to.setOriginalFacultyName(from.getOriginalFacultyName());
+        to.setOriginalFacultyId(from.getOriginalFacultyId());
+    }
+
+    private static void clearMark(TimetableEntry entry) {
+        entry.setLeaveId(null);
+        entry.setOriginalDay(null);
+        entry.setOriginalTimeSlot(null);
+        entry.setOriginalFacultyName(null);
+        entry.setOriginalFacultyId(null);
+    }
+
+    private static RepairChange change(TimetableEntry entry) {
+        RepairChange change = new RepairChange();
+        change.setEntryId(entry.getId());
+        change.setSectionId(entry.getSectionId());
+        change.setSubjectCode(entry.getSubjectCode());
+        change.setFromDay(entry.getDay());
+        change.setFromTimeSlot(entry.getTimeSlot());
+        change.setFromFaculty(entry.getFacultyName());
+        change.setFromRoom(entry.getRoomNumber());
+        return change;
+    }
+}
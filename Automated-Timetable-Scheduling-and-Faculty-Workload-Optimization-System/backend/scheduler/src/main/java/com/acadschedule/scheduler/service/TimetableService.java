@@ -0,0 +1,249 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.BulkGenerationReport;
+import com.acadschedule.scheduler.dto.GenerationReport;
+import com.acadschedule.scheduler.dto.PartitionReport;
+import com.acadschedule.scheduler.engine.ParallelTimetableGenerator;
+import com.acadschedule.scheduler.engine.RoomAllocator;
+import com.acadschedule.scheduler.engine.ScheduleModel;
+import com.acadschedule.scheduler.engine.ScheduleModelBuilder;
+import com.acadschedule.scheduler.engine.SolverResult;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.engine.WorkloadOptimizer;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.entity.TimetableVersion;
+import com.acadschedule.scheduler.repository.SectionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Service
+public class TimetableService {
+
+    private final TimetableVersionService versionService;
+    private final SectionRepository sectionRepository;
+    private final SectionService sectionService;
+    private final SubjectService subjectService;
+    private final FacultyService facultyService;
+    private final RoomService roomService;
+    private final TimetableSolver solver;
+    private final ParallelTimetableGenerator parallelGenerator;
+    private final WorkloadOptimizer optimizer;
+    private final ConstraintService constraintService;
+    private final FacultyCalendarService calendarService;
+    private final MeterRegistry meterRegistry;
+
+    public TimetableService(TimetableVersionService versionService,
+                            SectionRepository sectionRepository,
+                            SectionService sectionService,
+                            SubjectService subjectService,
+                            FacultyService facultyService,
+                            RoomService roomService,
+                            TimetableSolver solver,
+                            ParallelTimetableGenerator parallelGenerator,
+                            WorkloadOptimizer optimizer,
+                            ConstraintService constraintService,
+                            FacultyCalendarService calendarService,
+                            MeterRegistry meterRegistry) {
+        this.versionService = versionService;
+        this.sectionRepository = sectionRepository;
+        this.sectionService = sectionService;
+        this.subjectService = subjectService;
+        this.facultyService = facultyService;
+        this.roomService = roomService;
+        this.solver = solver;
+        this.parallelGenerator = parallelGenerator;
+        this.optimizer = optimizer;
+        this.constraintService = constraintService;
+        this.calendarService = calendarService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Regenerates one section around the published entries of every other
+     * section into a new draft version, published right away when asked.
+     * optimizeMillis null = configured budget.
+     * <p>
+     * If another version is published while this runs, the draft is refused
+     * as stale and only this section is solved again around the newer
+     * version; see {@link TimetableVersionService#writeWithRetry}.
+     */
+    public GenerationReport generateForSection(Long sectionId, Long optimizeMillis, boolean publish,
+                                               GenerationListener listener) {
+        Section section = sectionRepository.findById(sectionId)
+                .orElseThrow(() -> new RuntimeException("Section not found with id: " + sectionId));
+        AtomicBoolean first = new AtomicBoolean(true);
+        return versionService.writeWithRetry(() -> generateSection(section, optimizeMillis, publish,
+                first.getAndSet(false) ? listener : retrying(listener)));
+    }
+
+    private GenerationReport generateSection(Section section, Long optimizeMillis, boolean publish,
+                                             GenerationListener listener) {
+        Long sectionId = section.getId();
+        String key = String.valueOf(sectionId);
+        PublishedTimetable base = versionService.getPublished();
+
+        ScheduleModel model = timed("section", "model", () -> new ScheduleModelBuilder()
+                .sections(List.of(section))
+                .subjects(subjectService.getAllSubjects())
+                .faculty(facultyService.getAllFaculty())
+                .rooms(roomService.findAll())
+                .rules(constraintService.getRuleSet())
+                .availability(calendarService.getAvailability())
+                .occupied(base.getAllExcept(key))
+                .build());
+        listener.onStarted(1);
+        checkCancelled();
+        SolverResult solved = timed("section", "search", () -> solver.solve(model));
+        listener.onPartitionSolved(1, solved.getPlacedSessions());
+        WorkloadOptimizer.Result optimized = timed("section", "optimize",
+                () -> optimizer.optimize(solved, budget(optimizeMillis), listener));
+        SolverResult result = optimized.getResult();
+        timed("section", "rooms", () -> RoomAllocator.rebalance(result.getState()));
+        saveOrCancel(listener);
+
+        List<TimetableEntry> created = result.toEntries();
+        TimetableVersion version = timed("section", "persist", () -> {
+            TimetableVersion draft = versionService.createDraftReplacingSection("Section " + key,
+                    base.getVersionId(), key, created);
+            if (publish) versionService.publish(draft.getId());
+            return draft;
+        });
+
+        GenerationReport report = new GenerationReport();
+        report.setSectionId(sectionId);
+        report.setPlacedSessions(result.getPlacedSessions());
+        report.setUnplacedSessions(result.getUnplacedSessions());
+        report.setEntriesCreated(created.size());
+        report.setVersionId(version.getId());
+        report.setVersionNumber(version.getVersionNumber());
+        report.setPublished(publish);
+        report.setBacktracks(result.getBacktracks());
+        report.setSolveMillis(result.getElapsedNanos() / 1_000_000.0);
+        report.setSoftPenalty(result.getSoftPenalty());
+        report.setInitialScore(optimized.getInitialScore());
+        report.setOptimizedScore(optimized.getBestScore());
+        report.setOptimizerIterations(optimized.getIterations());
+        return report;
+    }
+
+    /**
+     * Regenerates every section into a new draft version; independent groups
+     * of sections are solved in parallel. The result replaces the whole
+     * published version, so when something else is published meanwhile the
+     * run starts over from the current catalogs and calendar rather than
+     * overwriting it.
+     */
+    public BulkGenerationReport generateAll(Long optimizeMillis, boolean publish, GenerationListener listener) {
+        AtomicBoolean first = new AtomicBoolean(true);
+        return versionService.writeWithRetry(() -> generateAllOnce(optimizeMillis, publish,
+                first.getAndSet(false) ? listener : retrying(listener)));
+    }
+
+    private BulkGenerationReport generateAllOnce(Long optimizeMillis, boolean publish, GenerationListener listener) {
+        long started = System.nanoTime();
+        Long base = versionService.getPublished().getVersionId();
+        List<Section> sections = sectionService.getAllSections();
+
+        ScheduleModel model = timed("all", "model", () -> new ScheduleModelBuilder()
+                .sections(sections)
+                .subjects(subjectService.getAllSubjects())
+                .faculty(facultyService.getAllFaculty())
+                .rooms(roomService.findAll())
+                .rules(constraintService.getRuleSet())
+                .availability(calendarService.getAvailability())
+                .build());
+        listener.onStarted(sections.size());
+        checkCancelled();
+        ParallelTimetableGenerator.Result result = timed("all", "search", () -> parallelGenerator.generate(model, listener));
+        checkCancelled();
+        WorkloadOptimizer.Result optimized = timed("all", "optimize",
+                () -> optimizer.optimize(result.getMerged(), budget(optimizeMillis), listener));
+        timed("all", "rooms", () -> RoomAllocator.rebalance(optimized.getResult().getState()));
+        saveOrCancel(listener);
+
+        List<TimetableEntry> created = optimized.getResult().toEntries();
+        TimetableVersion version = timed("all", "persist", () -> {
+            TimetableVersion draft = versionService.createDraft("Generate all", base, created);
+            if (publish) versionService.publish(draft.getId());
+            return draft;
+        });
+
+        List<PartitionReport> partitions = new ArrayList<>();
+        for (int p = 0; p < result.getPartitionCount(); p++) {
+            SolverResult partial = result.getPartitionResult(p);
+            PartitionReport partition = new PartitionReport();
+            partition.setSectionIds(result.getPartitionSectionIds(p));
+            partition.setSessions(result.getPartitionSessionCount(p));
+            partition.setPlacedSessions(partial.getPlacedSessions());
+            partition.setBacktracks(partial.getBacktracks());
+            partition.setSolveMillis(partial.getElapsedNanos() / 1_000_000.0);
+            partitions.add(partition);
+        }
+
+        BulkGenerationReport report = new BulkGenerationReport();
+        report.setSections(sections.size());
+        report.setPlacedSessions(result.getMerged().getPlacedSessions());
+        report.setUnplacedSessions(result.getMerged().getUnplacedSessions());
+        report.setEntriesCreated(created.size());
+        report.setVersionId(version.getId());
+        report.setVersionNumber(version.getVersionNumber());
+        report.setPublished(publish);
+        report.setRoomReassignments(result.getRoomReassignments());
+        report.setReconciledSessions(result.getReconciledSessions());
+        report.setParallelMillis(result.getParallelNanos() / 1_000_000.0);
+        report.setMergeMillis(result.getMergeNanos() / 1_000_000.0);
+        report.setWallClockMillis((System.nanoTime() - started) / 1_000_000.0);
+        report.setInitialScore(optimized.getInitialScore());
+        report.setOptimizedScore(optimized.getBestScore());
+        report.setOptimizerIterations(optimized.getIterations());
+        report.setPartitions(partitions);
+        return report;
+    }
+
+    // Progress was already reported by the first attempt; a retry only passes on optimizer progress and the save check
+    private static GenerationListener retrying(GenerationListener listener) {
+        return new GenerationListener() {
+            @Override
+            public void onProgress(long iterations, long currentScore, long bestScore) {
+                listener.onProgress(iterations, currentScore, bestScore);
+            }
+
+            @Override
+            public boolean proceedToSave() {
+                return listener.proceedToSave();
+            }
+        };
+    }
+
+    // Cancelled jobs are interrupted; throwing rolls the transaction back before anything is replaced
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException("Generation cancelled");
+    }
+
+    private static void saveOrCancel(GenerationListener listener) {
+        checkCancelled();
+        if (!listener.proceedToSave()) throw new CancellationException("Generation cancelled");
+    }
+
+    // scheduler.generation{mode, phase}: model = catalog reads and model build, search = solver,
+    // rooms = room matching pass, persist = version write
+    private <T> T timed(String mode, String phase, Supplier<T> step) {
+        return Timer.builder("scheduler.generation")
+                .tag("mode", mode)
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(step);
+    }
+
+    private long budget(Long optimizeMillis) {
+        return optimizeMillis != null ? optimizeMillis : optimizer.getDefaultBudgetMillis();
+    }
+}
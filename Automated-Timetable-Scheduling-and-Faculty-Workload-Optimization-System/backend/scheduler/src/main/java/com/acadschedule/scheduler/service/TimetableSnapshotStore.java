@@ -0,0 +1,75 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.TimetableSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One snapshot file per published version under scheduler.snapshot.dir.
+ * Versions never change, so a file is written once (temp file + atomic
+ * rename) and then memory-mapped; the mapped pages live outside the heap
+ * and are shared with the OS page cache.
+ */
+@Component
+public class TimetableSnapshotStore {
+
+    private final Path dir;
+
+    public TimetableSnapshotStore(@Value("${scheduler.snapshot.dir:${java.io.tmpdir}/acadschedule/snapshots}") String dir) {
+        this.dir = Path.of(dir);
+    }
+
+    // Mapped snapshot of a version, or null when there is no readable file for it
+    public TimetableSnapshot open(long versionId) {
+        Path file = file(versionId);
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            TimetableSnapshot snapshot = TimetableSnapshot.wrap(map(file));
+            return snapshot.versionId() == versionId ? snapshot : null;
+        } catch (IOException | IllegalArgumentException e) {
+            // Truncated or foreign file; the caller re-encodes from the database
+            return null;
+        }
+    }
+
+    public TimetableSnapshot write(long versionId, byte[] encoded) {
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "timetable-v" + versionId, ".tmp");
+            Files.write(tmp, encoded);
+            Path file = file(versionId);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return TimetableSnapshot.wrap(map(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write timetable snapshot for version " + versionId, e);
+        }
+    }
+
+    // Best effort; a mapped buffer stays readable after its file is deleted
+    public void delete(long versionId) {
+        try {
+            Files.deleteIfExists(file(versionId));
+        } catch (IOException e) {
+            // Left for the next cleanup
+        }
+    }
+
+    private Path file(long versionId) {
+        return dir.resolve("timetable-v" + versionId + ".snap");
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.engine.TimetableSnapshot;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.acadschedule.scheduler.entity.TimetableVersion;
+import com.acadschedule.scheduler.event.TimetableChangedEvent;
+import com.acadschedule.scheduler.event.TimetablePublishedEvent;
+import com.acadschedule.scheduler.repository.TimetableEntryRepository;
+import com.acadschedule.scheduler.repository.TimetableVersionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Owns timetable versions. Writers fill a new DRAFT version and publish it;
+ * publishing flips statuses in one transaction and, once that commits, swaps
+ * the in-memory {@link PublishedTimetable} that every read is served from.
+ * A draft records the published version it was planned against and can only
+ * be published while that version is still the published one; writers go
+ * through {@link #writeWithRetry} to plan again when they lose that race.
+ */
+@Service
+public class TimetableVersionService {
+
+    private final TimetableVersionRepository versionRepository;
+    private final TimetableEntryRepository entryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimetableSnapshotStore snapshotStore;
+    private final TimetableEntryResolver resolver;
+    private final TimetableClashGuard clashGuard;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final int writeRetries;
+    private final int archivedRetained;
+    private final AtomicReference<PublishedTimetable> published = new AtomicReference<>(PublishedTimetable.EMPTY);
+
+    /**
+     * Thrown by {@link #publish} when another version was published after the
+     * draft's base was read. Nothing is written; plan again from the current
+     * published version.
+     */
+    public static class StaleVersionException extends OptimisticLockingFailureException {
+
+        private final Long basedOnVersionId;
+
+        StaleVersionException(TimetableVersion draft, Long publishedVersionId) {
+            super("Timetable version " + draft.getVersionNumber() + " was planned against version id "
+                    + draft.getBasedOnVersionId() + " but version id " + publishedVersionId + " is published now");
+            this.basedOnVersionId = draft.getBasedOnVersionId();
+        }
+
+        public Long getBasedOnVersionId() { return basedOnVersionId; }
+    }
+
+    public TimetableVersionService(TimetableVersionRepository versionRepository,
+                                   TimetableEntryRepository entryRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TimetableSnapshotStore snapshotStore,
+                                   TimetableEntryResolver resolver,
+                                   TimetableClashGuard clashGuard,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${scheduler.versions.write-retries:3}") int writeRetries,
+                                   @Value("${scheduler.versions.archived-retained:20}") int archivedRetained) {
+        this.versionRepository = versionRepository;
+        this.entryRepository = entryRepository;
+        this.eventPublisher = eventPublisher;
+        this.snapshotStore = snapshotStore;
+        this.resolver = resolver;
+        this.clashGuard = clashGuard;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.writeRetries = writeRetries;
+        this.archivedRetained = archivedRetained;
+    }
+
+    // Loads the published version; rows from before versioning become version 1
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        versionRepository.createVersionNumberSequence();
+        versionRepository.syncVersionNumberSequence();
+        TimetableVersion legacy = null;
+        if (entryRepository.countByVersionIdIsNull() > 0) {
+            legacy = newDraft("Imported", null);
+            int adopted = entryRepository.adoptUnversioned(legacy.getId());
+            legacy.setEntryCount(adopted);
+        }
+        // After adoption, so clashes among rows from before versioning are exempted instead of failing startup
+        clashGuard.install();
+        Optional<TimetableVersion> current = versionRepository.findFirstByStatus(TimetableVersion.PUBLISHED);
+        if (current.isEmpty() && legacy != null) {
+            publish(legacy.getId());
+            return;
+        }
+        current.ifPresent(this::activate);
+    }
+
+    // Never blocks; the returned object does not change
+    public PublishedTimetable getPublished() {
+        return published.get();
+    }
+
+    public List<TimetableVersion> getVersions() {
+        return versionRepository.findAllByOrderByVersionNumberDesc();
+    }
+
+    public TimetableVersion getVersion(Long id) {
+        return versionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Timetable version not found with id: " + id));
+    }
+
+    // Any version's rows, for previewing drafts or looking at archived ones; at most one filter applies
+    @Transactional(readOnly = true)
+    public List<TimetableEntry> getEntries(Long versionId, String sectionId, Long facultyId, Long roomId) {
+        getVersion(versionId);
+        if (sectionId != null) return entryRepository.findByVersionIdAndSectionIdOrderById(versionId, sectionId);
+        if (facultyId != null) return entryRepository.findByFacultyIdAndVersionIdOrderByDayIndexAscSlotIndexAsc(facultyId, versionId);
+        if (roomId != null) return entryRepository.findByRoomIdAndVersionIdOrderByDayIndexAscSlotIndexAsc(roomId, versionId);
+        return entryRepository.findByVersionIdOrderById(versionId);
+    }
+
+    /**
+     * Runs attempt in a transaction of its own and runs it again, up to
+     * scheduler.versions.write-retries times, when its draft was planned
+     * against a version that is no longer published. Each attempt must read
+     * the published version afresh. Call outside any transaction.
+     */
+    public <T> T writeWithRetry(Supplier<T> attempt) {
+        for (int retries = 0; ; retries++) {
+            try {
+                return transaction.execute(status -> attempt.get());
+            } catch (StaleVersionException e) {
+                if (retries >= writeRetries) throw e;
+                awaitPublishedAfter(e.getBasedOnVersionId());
+                meterRegistry.counter("scheduler.versions.write.retries", "reason", "stale").increment();
+            }
+        }
+    }
+
+    /**
+     * New draft holding exactly the given rows, planned against version
+     * basedOn. Must run inside the caller's transaction so a failed
+     * generation leaves no half-filled version.
+     */
+    @Transactional
+    public TimetableVersion createDraft(String label, Long basedOn, List<TimetableEntry> entries) {
+        TimetableVersion draft = newDraft(label, basedOn);
+        save(draft, entries);
+        draft.setEntryCount(entries.size());
+        return draft;
+    }
+
+    // New draft = version basedOn with one section's rows replaced
+    @Transactional
+    public TimetableVersion createDraftReplacingSection(String label, Long basedOn, String sectionId,
+                                                        List<TimetableEntry> entries) {
+        TimetableVersion draft = newDraft(label, basedOn);
+        int copied = basedOn != null ? entryRepository.copyVersionExceptSection(basedOn, draft.getId(), sectionId) : 0;
+        save(draft, entries);
+        draft.setEntryCount(copied + entries.size());
+        return draft;
+    }
+
+    /**
+     * New draft = version basedOn with the rows whose ids are in replaced
+     * swapped for entries. The unchanged rows are copied inside the database,
+     * so only the edited rows go over the wire.
+     */
+    @Transactional
+    public TimetableVersion createDraftReplacingEntries(String label, Long basedOn, Collection<Long> replaced,
+                                                        List<TimetableEntry> entries) {
+        TimetableVersion draft = newDraft(label, basedOn);
+        int copied = entryRepository.copyVersionExceptEntries(basedOn, draft.getId(), replaced);
+        save(draft, entries);
+        draft.setEntryCount(copied + entries.size());
+        return draft;
+    }
+
+    /**
+     * Publishes a draft, or re-publishes an archived version as an explicit
+     * rollback. Publishes are serialized by a database lock; a draft whose
+     * base is no longer the published version is refused with
+     * {@link StaleVersionException} instead of silently undoing what was
+     * published in between. Archived versions beyond
+     * scheduler.versions.archived-retained are deleted.
+     */
+    @Transactional
+    public TimetableVersion publish(Long id) {
+        versionRepository.lockPublication();
+        TimetableVersion version = getVersion(id);
+        if (TimetableVersion.PUBLISHED.equals(version.getStatus())) return version;
+
+        List<TimetableVersion> current = versionRepository.findByStatusOrderByVersionNumberDesc(TimetableVersion.PUBLISHED);
+        Long currentId = current.isEmpty() ? null : current.get(0).getId();
+        if (TimetableVersion.DRAFT.equals(version.getStatus())
+                && !Objects.equals(version.getBasedOnVersionId(), currentId)) {
+            throw new StaleVersionException(version, currentId);
+        }
+
+        for (TimetableVersion previous : current) {
+            previous.setStatus(TimetableVersion.ARCHIVED);
+        }
+        version.setStatus(TimetableVersion.PUBLISHED);
+        version.setPublishedAt(LocalDateTime.now());
+        versionRepository.flush();
+        pruneArchived();
+        activate(version);
+        return version;
+    }
+
+    // Waits briefly for the swap that follows the commit which made basedOn stale
+    private void awaitPublishedAfter(Long basedOn) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        synchronized (published) {
+            long remaining;
+            while (Objects.equals(published.get().getVersionId(), basedOn)
+                    && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(published, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void pruneArchived() {
+        List<TimetableVersion> archived = versionRepository.findByStatusOrderByVersionNumberDesc(TimetableVersion.ARCHIVED);
+        if (archived.size() <= archivedRetained) return;
+        List<TimetableVersion> expired = archived.subList(archivedRetained, archived.size());
+        entryRepository.deleteByVersionIds(expired.stream().map(TimetableVersion::getId).toList());
+        versionRepository.deleteAll(expired);
+    }
+
+    private TimetableVersion newDraft(String label, Long basedOn) {
+        TimetableVersion draft = new TimetableVersion();
+        draft.setVersionNumber((int) versionRepository.nextVersionNumber());
+        draft.setStatus(TimetableVersion.DRAFT);
+        draft.setLabel(label);
+        draft.setBasedOnVersionId(basedOn);
+        return versionRepository.save(draft);
+    }
+
+    private void save(TimetableVersion version, List<TimetableEntry> entries) {
+        for (TimetableEntry e : entries) {
+            e.setId(null);
+            e.setVersionId(version.getId());
+        }
+        resolver.resolve(entries);
+        entryRepository.saveAll(entries);
+    }
+
+    // Placements never change once written; only the names shown for them follow the catalogs through their ids,
+    // so an existing snapshot file is reused unless a rename touched the version
+    private void activate(TimetableVersion version) {
+        boolean renamed = resolver.refreshNames(version.getId()) > 0;
+        TimetableSnapshot snapshot = renamed ? null : snapshotStore.open(version.getId());
+        if (snapshot == null) {
+            List<TimetableEntry> rows = entryRepository.findByVersionIdOrderById(version.getId());
+            snapshot = snapshotStore.write(version.getId(), TimetableSnapshot.encode(version.getId(), rows));
+        }
+        PublishedTimetable next = new PublishedTimetable(version.getId(), version.getVersionNumber(),
+                version.getPublishedAt(), snapshot);
+        eventPublisher.publishEvent(new TimetableChangedEvent(next.getEntries()));
+        swapAfterCommit(next);
+    }
+
+    // Readers switch only once the statuses are committed; a rollback leaves the old snapshot in place
+    private void swapAfterCommit(PublishedTimetable next) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            swap(next);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                swap(next);
+            }
+        });
+    }
+
+    private void swap(PublishedTimetable next) {
+        PublishedTimetable previous;
+        synchronized (published) {
+            previous = published.getAndSet(next);
+            published.notifyAll();
+        }
+        if (previous.getVersionId() != null && !previous.getVersionId().equals(next.getVersionId())) {
+            snapshotStore.delete(previous.getVersionId());
+        }
+        eventPublisher.publishEvent(new TimetablePublishedEvent(next.getVersionId()));
+    }
+}
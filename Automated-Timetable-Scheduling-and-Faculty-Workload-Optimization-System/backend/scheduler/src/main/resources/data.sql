@@ -1,5 +1,4 @@
--- Clean up existing data to prevent duplicates on restart
-TRUNCATE TABLE timetable_entries RESTART IDENTITY CASCADE;
+-- Clean up existing catalog data to prevent duplicates on restart (timetable versions are kept)
 TRUNCATE TABLE subject_eligible_faculty RESTART IDENTITY CASCADE;
 TRUNCATE TABLE subjects RESTART IDENTITY CASCADE;
 TRUNCATE TABLE sections RESTART IDENTITY CASCADE;
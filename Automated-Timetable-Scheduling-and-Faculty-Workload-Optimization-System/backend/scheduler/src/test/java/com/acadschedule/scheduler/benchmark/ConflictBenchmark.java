@@ -0,0 +1,95 @@
+package com.acadschedule.scheduler.benchmark;
+
+import com.acadschedule.scheduler.engine.ConflictIndex;
+import com.acadschedule.scheduler.engine.SampleCatalog;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clash detection on generated timetables: building the conflict index, one
+ * incremental update, and the pairwise scan the admin client used to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConflictBenchmark {
+
+    @Param({ "10", "50", "100", "250", "500" })
+    public int sections;
+
+    private List<TimetableEntry> entries;
+    private ConflictIndex index;
+    private TimetableEntry moved;
+    private String[] slots;
+    private int flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = new TimetableSolver().solve(SampleCatalog.withSections(sections).builder().build()).toEntries();
+        for (int i = 0; i < entries.size(); i++) entries.get(i).setId((long) i + 1);
+
+        index = new ConflictIndex(10_000);
+        index.reset(entries, Map.of());
+
+        moved = copy(entries.get(0));
+        slots = new String[] { entries.get(0).getTimeSlot(), entries.get(1).getTimeSlot() };
+    }
+
+    @Benchmark
+    public int rebuildIndex() {
+        ConflictIndex fresh = new ConflictIndex(10_000);
+        fresh.reset(entries, Map.of());
+        return fresh.openConflicts().size();
+    }
+
+    // Moves one entry back and forth between two slots
+    @Benchmark
+    public long incrementalUpdate() {
+        moved.setTimeSlot(slots[flip ^= 1]);
+        index.upsert(List.of(moved));
+        return index.currentSequence();
+    }
+
+    @Benchmark
+    public int pairwiseScan() {
+        int clashes = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            TimetableEntry a = entries.get(i);
+            for (int j = i + 1; j < entries.size(); j++) {
+                TimetableEntry b = entries.get(j);
+                if (!a.getDay().equals(b.getDay()) || !a.getTimeSlot().equals(b.getTimeSlot())) continue;
+                if (Objects.equals(a.getFacultyName(), b.getFacultyName())
+                        || Objects.equals(a.getRoomNumber(), b.getRoomNumber())
+                        || Objects.equals(a.getSectionId(), b.getSectionId())) {
+                    clashes++;
+                }
+            }
+        }
+        return clashes;
+    }
+
+    private static TimetableEntry copy(TimetableEntry e) {
+        TimetableEntry c = new TimetableEntry();
+        c.setId(e.getId());
+        c.setSectionId(e.getSectionId());
+        c.setDay(e.getDay());
+        c.setTimeSlot(e.getTimeSlot());
+        c.setFacultyName(e.getFacultyName());
+        c.setRoomNumber(e.getRoomNumber());
+        return c;
+    }
+}
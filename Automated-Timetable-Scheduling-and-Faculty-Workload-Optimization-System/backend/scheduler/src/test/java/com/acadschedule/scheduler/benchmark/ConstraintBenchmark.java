@@ -0,0 +1,76 @@
+package com.acadschedule.scheduler.benchmark;
+
+import com.acadschedule.scheduler.engine.ConstraintCompiler;
+import com.acadschedule.scheduler.engine.RuleSet;
+import com.acadschedule.scheduler.engine.SampleCatalog;
+import com.acadschedule.scheduler.engine.SolverResult;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.entity.Constraint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compiling constraint parameters and solving with hard and soft rules in force
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConstraintBenchmark {
+
+    @Param({ "10", "100", "500" })
+    public int sections;
+
+    private SampleCatalog catalog;
+    private List<Constraint> constraints;
+    private RuleSet rules;
+    private SolverResult solved;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = SampleCatalog.withSections(sections);
+        constraints = new ArrayList<>();
+        constraints.add(constraint("Lunch Break", "mandatory", "{\"startTime\":\"12:35\",\"endTime\":\"13:30\"}"));
+        constraints.add(constraint("Maximum Daily Hours", "mandatory", "{\"maxHours\":5}"));
+        constraints.add(constraint("Working Hours", "preferred", "{\"startTime\":\"09:00\",\"endTime\":\"17:00\"}"));
+        // One personal rule per faculty member, as a busy campus accumulates them
+        for (int i = 0; i < catalog.faculty.size(); i++) {
+            constraints.add(constraint("No late classes", "optional",
+                    "{\"faculty\":\"" + catalog.faculty.get(i).getName() + "\",\"startTime\":\"16:00\",\"endTime\":\"17:00\",\"mode\":\"block\"}"));
+        }
+        rules = ConstraintCompiler.compile(constraints);
+        solved = new TimetableSolver().solve(catalog.builder().rules(rules).build());
+    }
+
+    @Benchmark
+    public RuleSet compile() {
+        return ConstraintCompiler.compile(constraints);
+    }
+
+    @Benchmark
+    public SolverResult solveWithRules() {
+        return new TimetableSolver().solve(catalog.builder().rules(rules).build());
+    }
+
+    @Benchmark
+    public int scoreSoftRules() {
+        return solved.getSoftPenalty();
+    }
+
+    private static Constraint constraint(String name, String priority, String parameters) {
+        Constraint c = new Constraint();
+        c.setName(name);
+        c.setType("institutional");
+        c.setPriority(priority);
+        c.setParameters(parameters);
+        return c;
+    }
+}
@@ -0,0 +1,66 @@
+package com.acadschedule.scheduler.benchmark;
+
+import com.acadschedule.scheduler.engine.SampleCatalog;
+import com.acadschedule.scheduler.engine.TimetableSnapshot;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the entry lists GET /api/timetable returns, against the binary snapshot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({ "10", "100", "500" })
+    public int sections;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private List<TimetableEntry> entries;
+    private byte[] json;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        entries = new TimetableSolver().solve(SampleCatalog.withSections(sections).builder().build()).toEntries();
+        for (int i = 0; i < entries.size(); i++) entries.get(i).setId((long) i + 1);
+        json = mapper.writeValueAsBytes(entries);
+        snapshot = TimetableSnapshot.encode(1L, entries);
+    }
+
+    @Benchmark
+    public byte[] writeEntries() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(entries);
+    }
+
+    @Benchmark
+    public TimetableEntry[] readEntries() throws IOException {
+        return mapper.readValue(json, TimetableEntry[].class);
+    }
+
+    @Benchmark
+    public byte[] encodeSnapshot() {
+        return TimetableSnapshot.encode(1L, entries);
+    }
+
+    // What a reader pays to open a published version
+    @Benchmark
+    public TimetableSnapshot wrapSnapshot() {
+        return TimetableSnapshot.wrap(ByteBuffer.wrap(snapshot));
+    }
+}
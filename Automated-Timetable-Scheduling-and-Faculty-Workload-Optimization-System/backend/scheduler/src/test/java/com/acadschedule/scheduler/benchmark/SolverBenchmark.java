@@ -0,0 +1,63 @@
+package com.acadschedule.scheduler.benchmark;
+
+import com.acadschedule.scheduler.engine.ParallelTimetableGenerator;
+import com.acadschedule.scheduler.engine.SampleCatalog;
+import com.acadschedule.scheduler.engine.ScheduleModel;
+import com.acadschedule.scheduler.engine.SolverResult;
+import com.acadschedule.scheduler.engine.TimetableSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Full timetable generation over synthetic campuses shaped like data.sql
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SolverBenchmark {
+
+    @Param({ "10", "50", "100", "250", "500" })
+    public int sections;
+
+    private SampleCatalog catalog;
+    private TimetableSolver solver;
+    private ForkJoinPool pool;
+    private ParallelTimetableGenerator parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = SampleCatalog.withSections(sections);
+        solver = new TimetableSolver();
+        pool = new ForkJoinPool();
+        parallel = new ParallelTimetableGenerator(pool, solver);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ScheduleModel buildModel() {
+        return catalog.builder().build();
+    }
+
+    @Benchmark
+    public SolverResult generateSerial() {
+        return solver.solve(catalog.builder().build());
+    }
+
+    @Benchmark
+    public SolverResult generateParallel() {
+        return parallel.generate(catalog.builder().build()).getMerged();
+    }
+}
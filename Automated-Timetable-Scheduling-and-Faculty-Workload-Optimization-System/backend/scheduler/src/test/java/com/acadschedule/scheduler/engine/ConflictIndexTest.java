@@ -0,0 +1,64 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConflictIndexTest {
+
+    @Test
+    void tracksOverlapsIncrementally() {
+        ConflictIndex index = new ConflictIndex(100);
+        index.reset(List.of(
+                entry(1L, "1", "MONDAY", "08:00-08:50", "Dr. A", "101"),
+                entry(2L, "2", "MONDAY", "09:00-09:50", "Dr. A", "101")), Map.of());
+        assertTrue(index.openConflicts().isEmpty());
+
+        // Moving entry 2 onto entry 1's slot clashes both faculty and room
+        index.upsert(List.of(entry(2L, "2", "MONDAY", "08:00-08:50", "Dr. A", "101")));
+        assertEquals(2, index.openConflicts().size());
+        assertEquals(List.of(1L, 2L), index.openConflicts().get(0).getEntryIds());
+        assertEquals(2, index.changesSince(0).size());
+
+        long sequence = index.currentSequence();
+        index.removeSection("2");
+        assertTrue(index.openConflicts().isEmpty());
+        List<ConflictIndex.Change> resolved = index.changesSince(sequence);
+        assertEquals(2, resolved.size());
+        assertTrue(resolved.stream().allMatch(c -> c.getType() == ConflictIndex.ChangeType.RESOLVED));
+    }
+
+    @Test
+    void flagsDailyCapAndAsksForResyncWhenLogIsTrimmed() {
+        ConflictIndex index = new ConflictIndex(1);
+        index.reset(List.of(
+                entry(1L, "1", "TUESDAY", "08:00-08:50", "Dr. B", "101"),
+                entry(2L, "1", "TUESDAY", "09:00-09:50", "Dr. B", "101"),
+                entry(3L, "2", "TUESDAY", "10:00-10:50", "Dr. B", "102")), Map.of("Dr. B", 2));
+
+        assertEquals(1, index.openConflicts().size());
+        assertEquals(ConflictIndex.Kind.CONSTRAINT_VIOLATION, index.openConflicts().get(0).getKind());
+
+        index.removeSection("2");
+        assertTrue(index.openConflicts().isEmpty());
+        assertNull(index.changesSince(0));
+        assertEquals(1, index.changesSince(1).size());
+    }
+
+    private static TimetableEntry entry(Long id, String section, String day, String slot, String faculty, String room) {
+        TimetableEntry e = new TimetableEntry();
+        e.setId(id);
+        e.setSectionId(section);
+        e.setDay(day);
+        e.setTimeSlot(slot);
+        e.setFacultyName(faculty);
+        e.setRoomNumber(room);
+        return e;
+    }
+}
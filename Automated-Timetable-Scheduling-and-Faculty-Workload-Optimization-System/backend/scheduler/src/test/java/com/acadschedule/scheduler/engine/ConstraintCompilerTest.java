@@ -0,0 +1,72 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintCompilerTest {
+
+    @Test
+    void hardRulesNeverAppearInTheTimetable() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        String faculty = catalog.faculty.get(0).getName();
+        RuleSet rules = ConstraintCompiler.compile(List.of(
+                constraint("Lunch Break", "mandatory", "{\"startTime\":\"12:35\",\"endTime\":\"13:30\"}"),
+                constraint("Friday off", "mandatory",
+                        "{\"faculty\":\"" + faculty + "\",\"startTime\":\"08:00\",\"endTime\":\"17:00\",\"mode\":\"block\",\"days\":[\"FRIDAY\"]}"),
+                constraint("Maximum Daily Hours", "mandatory", "{\"maxHours\":4}"),
+                constraint("Elective Alignment", "preferred", "{}")));
+        assertEquals(3, rules.getCompiledCount());
+        assertEquals(List.of("Elective Alignment"), rules.getIgnored());
+
+        SolverResult result = new TimetableSolver().solve(catalog.builder().rules(rules).build());
+        List<TimetableEntry> entries = result.toEntries();
+        assertTrue(entries.stream().noneMatch(e -> e.getTimeSlot().equals("12:00-12:50")));
+        assertTrue(entries.stream().noneMatch(e -> e.getFacultyName().equals(faculty) && e.getDay().equals("FRIDAY")));
+
+        Map<String, Long> perFacultyDay = entries.stream()
+                .collect(Collectors.groupingBy(e -> e.getFacultyName() + e.getDay(), Collectors.counting()));
+        assertTrue(perFacultyDay.values().stream().allMatch(n -> n <= 4));
+        TimetableSolverTest.assertNoClashes(entries);
+    }
+
+    @Test
+    void softRulesAreAvoidedWhenThereIsRoom() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        RuleSet rules = ConstraintCompiler.compile(List.of(
+                constraint("Working Hours", "preferred", "{\"startTime\":\"09:00\",\"endTime\":\"17:00\"}")));
+
+        SolverResult result = new TimetableSolver().solve(catalog.builder().rules(rules).build());
+        assertEquals(0, result.getUnplacedSessions());
+        assertEquals(0, result.getSoftPenalty());
+        assertTrue(result.toEntries().stream().noneMatch(e -> e.getTimeSlot().equals("08:00-08:50")));
+    }
+
+    @Test
+    void unknownPrioritiesAreIgnoredNotGuessed() {
+        String window = "{\"startTime\":\"09:00\",\"endTime\":\"17:00\"}";
+        RuleSet rules = ConstraintCompiler.compile(List.of(
+                constraint("No priority", null, window),
+                constraint("Blank priority", " ", window),
+                constraint("Typo", "mandatroy", window),
+                constraint("Mixed case", "Mandatory", window)));
+        assertEquals(1, rules.getCompiledCount());
+        assertEquals(List.of("No priority", "Blank priority", "Typo"), rules.getIgnored());
+    }
+
+    private static Constraint constraint(String name, String priority, String parameters) {
+        Constraint c = new Constraint();
+        c.setName(name);
+        c.setType("institutional");
+        c.setPriority(priority);
+        c.setParameters(parameters);
+        return c;
+    }
+}
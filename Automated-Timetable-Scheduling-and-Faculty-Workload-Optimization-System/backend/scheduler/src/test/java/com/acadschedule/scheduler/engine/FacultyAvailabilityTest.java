@@ -0,0 +1,98 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FacultyAvailabilityTest {
+
+    // 2026-10-19 is a Monday
+    private static final LocalDate WEEK = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void combinesRulesLeavesAndTeachingPerDay() {
+        RuleSet rules = ConstraintCompiler.compile(List.of(
+                constraint("Dr. Rao", "mandatory", "08:00", "10:00", "MONDAY"),
+                constraint("Dr. Rao", "preferred", "15:00", "17:00", "FRIDAY")));
+        TimetableEntry taught = new TimetableEntry();
+        taught.setId(1L);
+        taught.setSectionId("1");
+        taught.setDay("TUESDAY");
+        taught.setTimeSlot(SlotGrid.slotLabel(4));
+        taught.setFacultyName("dr. rao ");
+        TimetableSnapshot snapshot = TimetableSnapshot.wrap(ByteBuffer.wrap(TimetableSnapshot.encode(1L, List.of(taught))));
+        List<LeaveIndex.Leave> leaves = List.of(
+                new LeaveIndex.Leave(1L, 1L, "Dr. Rao", WEEK.plusDays(2), WEEK.plusDays(9)),
+                new LeaveIndex.Leave(2L, 2L, "Dr. Iyer", WEEK.minusDays(3), WEEK.minusDays(1)));
+
+        FacultyAvailability availability = FacultyAvailability.EMPTY
+                .withRules(rules).withLeaves(leaves, WEEK).withAssignments(snapshot);
+
+        assertEquals(0b11, availability.blocked("Dr. Rao", 0));
+        assertEquals(SlotGrid.slotsBetween(900, 1020), availability.avoided("Dr. Rao", 4));
+        assertEquals(1L << 4, availability.assigned("Dr. Rao", 1));
+        assertEquals(0, availability.onLeave("Dr. Rao", 1));
+        assertEquals(SlotGrid.FULL_DAY, availability.onLeave("Dr. Rao", 2));
+        assertEquals(SlotGrid.FULL_DAY & ~0b11L, availability.free("Dr. Rao", 0));
+        assertEquals(SlotGrid.FULL_DAY & ~(1L << 4), availability.free("Dr. Rao", 1));
+        assertEquals(0, availability.free("Dr. Rao", 4));
+        assertEquals(SlotGrid.FULL_DAY, availability.free("Dr. Iyer", 0));
+
+        // Moving the week only swaps the leave layer
+        FacultyAvailability next = availability.withLeaves(leaves, WEEK.plusDays(7));
+        assertEquals(WEEK.plusDays(7), next.weekStart());
+        assertEquals(0b00111, leaveDays(next, "Dr. Rao"));
+        assertEquals(0b11, next.blocked("Dr. Rao", 0));
+        assertEquals(1L << 4, next.assigned("Dr. Rao", 1));
+        assertNull(FacultyAvailability.EMPTY.weekStart());
+    }
+
+    @Test
+    void repairNeverSubstitutesIntoBlockedSlots() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        String absent = entries.get(0).getFacultyName();
+
+        // Everyone else is blocked all Monday
+        List<Constraint> constraints = new ArrayList<>();
+        for (Faculty f : catalog.faculty) {
+            if (!f.getName().equals(absent)) constraints.add(constraint(f.getName(), "mandatory", "08:00", "17:00", "MONDAY"));
+        }
+        FacultyAvailability availability = FacultyAvailability.EMPTY.withRules(ConstraintCompiler.compile(constraints));
+
+        List<LeaveRepairPlanner.Move> moves =
+                new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries, availability).plan(null, absent, 1, Set.of());
+        assertNotEquals(0, moves.size());
+        for (LeaveRepairPlanner.Move move : moves) {
+            assertNotEquals(LeaveRepairPlanner.Action.SUBSTITUTED, move.getAction());
+        }
+    }
+
+    private static int leaveDays(FacultyAvailability availability, String faculty) {
+        int days = 0;
+        for (int d = 0; d < SlotGrid.DAYS; d++) {
+            if (availability.onLeave(faculty, d) != 0) days |= 1 << d;
+        }
+        return days;
+    }
+
+    private static Constraint constraint(String faculty, String priority, String from, String to, String day) {
+        Constraint c = new Constraint();
+        c.setName("Unavailable");
+        c.setPriority(priority);
+        c.setParameters("{\"faculty\":\"" + faculty + "\",\"mode\":\"block\",\"startTime\":\"" + from
+                + "\",\"endTime\":\"" + to + "\",\"days\":[\"" + day + "\"]}");
+        return c;
+    }
+}
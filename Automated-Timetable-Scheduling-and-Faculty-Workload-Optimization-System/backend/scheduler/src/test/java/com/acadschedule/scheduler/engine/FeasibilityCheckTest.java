@@ -0,0 +1,85 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeasibilityCheckTest {
+
+    @Test
+    void acceptsWhatTheSolverPlaced() {
+        SampleCatalog catalog = SampleCatalog.campus(2);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+
+        assertTrue(FeasibilityCheck.invalidSections(entries, catalog.faculty, catalog.rooms, RuleSet.EMPTY).isEmpty());
+    }
+
+    @Test
+    void flagsTheSectionsOfAnInactiveFacultyAndResolvesThemAroundTheRest() {
+        SampleCatalog catalog = SampleCatalog.campus(2);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        String leaving = entries.get(0).getFacultyName();
+        Set<String> taught = entries.stream()
+                .filter(e -> e.getFacultyName().equals(leaving))
+                .map(TimetableEntry::getSectionId)
+                .collect(Collectors.toSet());
+
+        // The fork replaces one faculty row and shares the rest
+        List<Faculty> fork = new ArrayList<>();
+        for (Faculty f : catalog.faculty) {
+            if (!f.getName().equals(leaving)) {
+                fork.add(f);
+                continue;
+            }
+            Faculty inactive = SampleCatalog.faculty(f.getId(), f.getName(), f.getDepartment(),
+                    f.getMaxHoursPerDay(), f.getMaxHoursPerWeek());
+            inactive.setActive(false);
+            fork.add(inactive);
+        }
+
+        Set<String> affected = FeasibilityCheck.invalidSections(entries, fork, catalog.rooms, RuleSet.EMPTY);
+        assertEquals(taught, affected);
+
+        List<TimetableEntry> kept = entries.stream().filter(e -> !affected.contains(e.getSectionId())).toList();
+        List<Section> sections = catalog.sections.stream()
+                .filter(s -> affected.contains(String.valueOf(s.getId())))
+                .toList();
+        List<TimetableEntry> created = new TimetableSolver().solve(new ScheduleModelBuilder()
+                .sections(sections).subjects(catalog.subjects).faculty(fork).rooms(catalog.rooms)
+                .occupied(kept).build()).toEntries();
+
+        List<TimetableEntry> result = new ArrayList<>(kept);
+        result.addAll(created);
+        assertFalse(created.isEmpty());
+        assertTrue(result.stream().noneMatch(e -> e.getFacultyName().equals(leaving)));
+        TimetableSolverTest.assertNoClashes(result);
+    }
+
+    @Test
+    void flagsSlotsABlockingConstraintTakesAway() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        TimetableEntry first = entries.get(0);
+
+        Constraint block = new Constraint();
+        block.setName("Department meeting");
+        block.setPriority("mandatory");
+        block.setParameters("{\"faculty\":\"" + first.getFacultyName() + "\",\"mode\":\"block\","
+                + "\"startTime\":\"08:00\",\"endTime\":\"17:00\",\"days\":[\"" + first.getDay() + "\"]}");
+
+        Set<String> affected = FeasibilityCheck.invalidSections(entries, catalog.faculty, catalog.rooms,
+                ConstraintCompiler.compile(List.of(block)));
+        assertTrue(affected.contains(first.getSectionId()));
+    }
+}
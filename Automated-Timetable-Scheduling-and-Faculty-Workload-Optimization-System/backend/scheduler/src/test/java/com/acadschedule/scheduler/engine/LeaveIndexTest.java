@@ -0,0 +1,73 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.LeaveRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaveIndexTest {
+
+    private static final LocalDate TERM = LocalDate.of(2025, 1, 6);
+
+    @Test
+    void answersLikeAScanOverAllLeaves() {
+        Random random = new Random(42);
+        List<LeaveRequest> leaves = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            int from = random.nextInt(180);
+            String status = random.nextInt(4) == 0 ? "Pending" : "approved";
+            leaves.add(leave(id, 1 + random.nextInt(30), from, from + random.nextInt(10), status));
+        }
+        LeaveIndex index = LeaveIndex.of(leaves);
+
+        for (int q = 0; q < 500; q++) {
+            LocalDate from = TERM.plusDays(random.nextInt(200) - 10);
+            LocalDate to = from.plusDays(random.nextInt(8));
+            List<Long> expected = leaves.stream()
+                    .filter(l -> "approved".equalsIgnoreCase(l.getStatus()))
+                    .filter(l -> !l.getStartDate().isAfter(to) && !l.getEndDate().isBefore(from))
+                    .map(LeaveRequest::getId).sorted().toList();
+            assertEquals(expected, index.overlapping(from, to).stream().map(LeaveIndex.Leave::id).sorted().toList());
+
+            long faculty = 1 + random.nextInt(30);
+            boolean away = expected.stream().anyMatch(id -> leaves.get((int) (id - 1)).getFacultyId() == faculty);
+            assertEquals(!away, index.isAvailable(faculty, from, to));
+        }
+    }
+
+    @Test
+    void followsStatusChangesAndDeletes() {
+        LeaveRequest first = leave(1L, 7, 0, 4, "Pending");
+        LeaveIndex index = LeaveIndex.of(List.of(first, leave(2L, 7, 5, 6, "Approved")));
+        assertTrue(index.isAvailable(7L, TERM.plusDays(2), TERM.plusDays(3)));
+        assertFalse(index.isAvailable(7L, TERM.plusDays(6), TERM.plusDays(9)));
+
+        first.setStatus("Approved");
+        LeaveIndex approved = index.with(first);
+        assertFalse(approved.isAvailable(7L, TERM.plusDays(2), TERM.plusDays(2)));
+        assertEquals(2, approved.overlapping(TERM, TERM.plusDays(30)).size());
+        // The old index is untouched
+        assertTrue(index.isAvailable(7L, TERM.plusDays(2), TERM.plusDays(3)));
+        assertSame(approved, approved.with(first));
+
+        first.setStatus("Rejected");
+        assertTrue(approved.with(first).isAvailable(7L, TERM, TERM.plusDays(4)));
+        assertEquals(0, approved.without(1L).without(2L).size());
+        assertTrue(approved.isAvailable(8L, TERM, TERM.plusDays(30)));
+    }
+
+    private static LeaveRequest leave(long id, long facultyId, int from, int to, String status) {
+        LeaveRequest leave = new LeaveRequest(facultyId, "F" + facultyId, "Casual",
+                TERM.plusDays(from), TERM.plusDays(to), "", status);
+        leave.setId(id);
+        return leave;
+    }
+}
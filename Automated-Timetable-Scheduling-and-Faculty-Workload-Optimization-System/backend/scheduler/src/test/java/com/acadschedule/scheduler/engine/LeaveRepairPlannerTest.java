@@ -0,0 +1,145 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaveRepairPlannerTest {
+
+    @Test
+    void coversEveryAffectedSessionWithoutIntroducingClashes() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        String absent = entries.get(0).getFacultyName();
+        int monday = 1;
+
+        long before = entries.stream()
+                .filter(e -> e.getFacultyName().equals(absent) && e.getDay().equals("MONDAY")).count();
+        assertTrue(before > 0);
+
+        List<LeaveRepairPlanner.Move> moves =
+                new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries).plan(null, absent, monday, Set.of());
+        assertEquals(before, moves.stream().mapToInt(m -> m.getEntries().size()).sum());
+
+        for (LeaveRepairPlanner.Move move : moves) {
+            assertFalse(move.getAction() == LeaveRepairPlanner.Action.UNRESOLVED);
+            assertEquals(catalog.faculty.stream().filter(f -> f.getName().equals(move.getFaculty()))
+                    .findFirst().orElseThrow().getId(), move.getFacultyId());
+            for (int k = 0; k < move.getEntries().size(); k++) {
+                TimetableEntry e = move.getEntries().get(k);
+                e.setFacultyName(move.getFaculty());
+                e.setDay(SlotGrid.dayName(move.getDay()));
+                e.setTimeSlot(SlotGrid.slotLabel(move.getStart() + k));
+            }
+        }
+
+        assertEquals(0, entries.stream()
+                .filter(e -> e.getFacultyName().equals(absent) && e.getDay().equals("MONDAY")).count());
+        TimetableSolverTest.assertNoClashes(entries);
+    }
+
+    @Test
+    void restoreMovesRepairedRowsBackToTheirOriginalPlace() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        for (int i = 0; i < entries.size(); i++) entries.get(i).setId((long) i);
+        List<String> before = entries.stream().map(LeaveRepairPlannerTest::placement).toList();
+        String absent = entries.get(0).getFacultyName();
+
+        List<TimetableEntry> changed = new ArrayList<>();
+        for (LeaveRepairPlanner.Move move : new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries)
+                .plan(entries.get(0).getFacultyId(), absent, 0b00001, Set.of())) {
+            for (int k = 0; k < move.getEntries().size(); k++) {
+                TimetableEntry e = move.getEntries().get(k);
+                e.setOriginalDay(e.getDay());
+                e.setOriginalTimeSlot(e.getTimeSlot());
+                e.setOriginalFacultyName(e.getFacultyName());
+                e.setOriginalFacultyId(e.getFacultyId());
+                e.setFacultyName(move.getFaculty());
+                e.setFacultyId(move.getFacultyId());
+                e.setDay(SlotGrid.dayName(move.getDay()));
+                e.setTimeSlot(SlotGrid.slotLabel(move.getStart() + k));
+                changed.add(e);
+            }
+        }
+        assertFalse(changed.isEmpty());
+
+        List<TimetableEntry> restored = new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries).restore(changed);
+        assertEquals(changed.size(), restored.size());
+        assertEquals(before, entries.stream().map(LeaveRepairPlannerTest::placement).toList());
+        TimetableSolverTest.assertNoClashes(entries);
+    }
+
+    @Test
+    void restoreKeepsARowWhoseOriginalSlotWasTaken() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        TimetableEntry moved = entries.get(0);
+        // Pretend a repair moved it here from a slot its section has since filled with another row
+        TimetableEntry occupant = entries.stream()
+                .filter(e -> e != moved && e.getSectionId().equals(moved.getSectionId()))
+                .findFirst().orElseThrow();
+        moved.setOriginalDay(occupant.getDay());
+        moved.setOriginalTimeSlot(occupant.getTimeSlot());
+        moved.setOriginalFacultyName(moved.getFacultyName());
+        String placed = placement(moved);
+
+        assertTrue(new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries).restore(List.of(moved)).isEmpty());
+        assertEquals(placed, placement(moved));
+    }
+
+    @Test
+    void matchesFacultyByIdAfterARename() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> entries = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        Long absentId = entries.get(0).getFacultyId();
+        String oldName = entries.get(0).getFacultyName();
+        long before = entries.stream()
+                .filter(e -> e.getFacultyId().equals(absentId) && e.getDay().equals("MONDAY")).count();
+
+        // The rows still carry the old names; everybody else is away, so nobody may substitute
+        for (Faculty f : catalog.faculty) f.setName(f.getName() + " (renamed)");
+        Set<Long> away = new HashSet<>();
+        for (Faculty f : catalog.faculty) {
+            if (!f.getId().equals(absentId)) away.add(f.getId());
+        }
+        List<LeaveRepairPlanner.Move> moves = new LeaveRepairPlanner(catalog.faculty, catalog.subjects, entries)
+                .plan(absentId, oldName + " (renamed)", 1, away);
+        assertEquals(before, moves.stream().mapToInt(m -> m.getEntries().size()).sum());
+
+        for (LeaveRepairPlanner.Move move : moves) {
+            assertNotEquals(LeaveRepairPlanner.Action.SUBSTITUTED, move.getAction());
+            if (move.getAction() != LeaveRepairPlanner.Action.RELOCATED) continue;
+            for (int k = 0; k < move.getEntries().size(); k++) {
+                TimetableEntry e = move.getEntries().get(k);
+                e.setDay(SlotGrid.dayName(move.getDay()));
+                e.setTimeSlot(SlotGrid.slotLabel(move.getStart() + k));
+            }
+        }
+        assertTrue(moves.stream().anyMatch(m -> m.getAction() == LeaveRepairPlanner.Action.RELOCATED));
+        TimetableSolverTest.assertNoClashes(entries);
+    }
+
+    @Test
+    void mapsDateRangesToWeekdays() {
+        // 2026-10-19 is a Monday
+        assertEquals(0b00011, LeaveRepairPlanner.leaveDays(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20)));
+        assertEquals(0, LeaveRepairPlanner.leaveDays(LocalDate.of(2026, 10, 24), LocalDate.of(2026, 10, 25)));
+        assertEquals(0b11111, LeaveRepairPlanner.leaveDays(LocalDate.of(2026, 10, 21), LocalDate.of(2026, 11, 30)));
+    }
+
+    private static String placement(TimetableEntry e) {
+        return e.getSectionId() + "|" + e.getDay() + "|" + e.getTimeSlot() + "|" + e.getFacultyName() + "|" + e.getRoomNumber();
+    }
+}
@@ -0,0 +1,27 @@
+package com.acadschedule.scheduler.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelTimetableGeneratorTest {
+
+    @Test
+    void solvesDepartmentsAsSeparatePartitionsAndMergesWithoutClashes() {
+        ScheduleModel model = SampleCatalog.campus(4).builder().build();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelTimetableGenerator.Result result =
+                    new ParallelTimetableGenerator(pool, new TimetableSolver()).generate(model);
+
+            // Faculty never cross departments, so each department is its own partition
+            assertEquals(4, result.getPartitionCount());
+            assertEquals(0, result.getMerged().getUnplacedSessions());
+            TimetableSolverTest.assertNoClashes(result.getMerged().toEntries());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
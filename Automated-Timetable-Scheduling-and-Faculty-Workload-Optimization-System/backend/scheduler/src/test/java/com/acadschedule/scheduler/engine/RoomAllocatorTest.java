@@ -0,0 +1,100 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Constraint;
+import com.acadschedule.scheduler.entity.RoomType;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomAllocatorTest {
+
+    @Test
+    void findsTheSameRoomAsAScanOverTheSortedList() {
+        SampleCatalog catalog = SampleCatalog.campus(2);
+        for (int i = 0; i < catalog.sections.size(); i++) catalog.sections.get(i).setCapacity(20 + 13 * i % 90);
+        ScheduleState state = new TimetableSolver().solve(catalog.builder().build()).getState();
+        ScheduleModel model = state.model();
+
+        for (int session = 0; session < model.sessionCount(); session++) {
+            for (int day = 0; day < SlotGrid.DAYS; day++) {
+                for (int start = 0; start + model.sessionLength(session) <= SlotGrid.SLOTS_PER_DAY; start++) {
+                    long mask = SlotGrid.mask(start, model.sessionLength(session));
+                    assertEquals(scan(state, session, day, mask), state.findRoom(session, day, mask));
+                }
+            }
+        }
+    }
+
+    @Test
+    void onlyUsesRoomsWithTheRequiredEquipment() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        catalog.rooms.get(0).getEquipment().add("Projector");
+        catalog.rooms.get(1).getEquipment().add("projector ");
+        Section section = catalog.sections.get(0);
+        Constraint needsProjector = new Constraint();
+        needsProjector.setName("Projector rooms");
+        needsProjector.setPriority("mandatory");
+        needsProjector.setParameters("{\"section\":\"" + section.getId() + "\",\"equipment\":[\"Projector\"]}");
+
+        SolverResult result = new TimetableSolver()
+                .solve(catalog.builder().rules(ConstraintCompiler.compile(List.of(needsProjector))).build());
+
+        List<String> allowed = List.of(catalog.rooms.get(0).getName(), catalog.rooms.get(1).getName());
+        List<TimetableEntry> own = result.toEntries().stream()
+                .filter(e -> e.getSectionId().equals(String.valueOf(section.getId())))
+                .filter(e -> !e.getType().equals("LAB"))
+                .toList();
+        assertTrue(!own.isEmpty());
+        assertTrue(own.stream().allMatch(e -> allowed.contains(e.getRoomNumber())));
+    }
+
+    @Test
+    void rebalanceSwapsRoomsSoTheBigSectionIsSeated() {
+        SampleCatalog catalog = new SampleCatalog();
+        catalog.rooms.add(SampleCatalog.room(1, "SMALL", RoomType.LECTURE, 40));
+        catalog.rooms.add(SampleCatalog.room(2, "BIG", RoomType.LECTURE, 110));
+        catalog.faculty.add(SampleCatalog.faculty(3, "F1", "CSE", 5, 20));
+        catalog.faculty.add(SampleCatalog.faculty(4, "F2", "CSE", 5, 20));
+        catalog.sections.add(SampleCatalog.section(5, "CSE-A", "CSE", 1));
+        catalog.sections.add(SampleCatalog.section(6, "CSE-B", "CSE", 1));
+        catalog.sections.get(0).setCapacity(30);
+        catalog.sections.get(1).setCapacity(100);
+        catalog.subjects.add(SampleCatalog.subject(7, "S1", "CSE", 1, 1, 0, 0));
+        ScheduleModel model = catalog.builder().build();
+
+        // Same slot: the small section sits in the big room and the big section in the small one
+        ScheduleState state = new ScheduleState(model);
+        int small = model.room(0).getName().equals("SMALL") ? 0 : 1;
+        state.place(0, 2, 3, 0, 1 - small);
+        state.place(1, 2, 3, 1, small);
+
+        assertEquals(2, RoomAllocator.rebalance(state));
+        assertEquals("SMALL", model.room(state.room(0)).getName());
+        assertEquals("BIG", model.room(state.room(1)).getName());
+        assertEquals(2, state.day(0));
+        assertEquals(3, state.start(1));
+        assertEquals(-1, state.findRoom(0, 2, SlotGrid.mask(3, 1)));
+        assertEquals(0, RoomAllocator.rebalance(state));
+    }
+
+    // The linear scan the allocator replaces
+    private static int scan(ScheduleState state, int session, int day, long mask) {
+        ScheduleModel model = state.model();
+        int section = model.sessionSection(session);
+        int need = model.sectionCapacity[section];
+        long needs = model.sectionRoomNeeds[section];
+        int fallback = -1;
+        for (int room : model.kindRooms[model.sessionKind(session)]) {
+            if ((state.roomBusy(room, day) & mask) != 0) continue;
+            if ((model.roomFeatures[room] & needs) != needs) continue;
+            if (model.roomCapacity[room] >= need) return room;
+            fallback = room;
+        }
+        return fallback;
+    }
+}
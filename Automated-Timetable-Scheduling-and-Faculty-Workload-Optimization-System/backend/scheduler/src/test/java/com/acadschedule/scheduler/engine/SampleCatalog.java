@@ -0,0 +1,114 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.RoomType;
+import com.acadschedule.scheduler.entity.Section;
+import com.acadschedule.scheduler.entity.Subject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The catalog seeded by data.sql (8 sections, 17 faculty, 11 rooms, 18 subjects),
+ * optionally repeated across extra departments for larger campuses. Public so
+ * the benchmarks can build the same shapes.
+ */
+public class SampleCatalog {
+
+    public final List<Section> sections = new ArrayList<>();
+    public final List<Subject> subjects = new ArrayList<>();
+    public final List<Faculty> faculty = new ArrayList<>();
+    public final List<Room> rooms = new ArrayList<>();
+
+    private static final Object[][] SUBJECTS = {
+            { "23CSE101", 1, 3, 1, 3 }, { "23CSE102", 1, 3, 1, 0 }, { "23MAT101", 1, 3, 1, 0 },
+            { "23EEE101", 1, 3, 0, 3 }, { "23ENG101", 1, 2, 0, 0 },
+            { "23CSE201", 2, 3, 1, 3 }, { "23CSE202", 2, 3, 1, 0 }, { "23CSE203", 2, 3, 0, 3 },
+            { "23MAT201", 2, 3, 1, 0 },
+            { "23CSE301", 3, 3, 0, 3 }, { "23CSE302", 3, 3, 0, 3 }, { "23CSE303", 3, 3, 0, 0 },
+            { "23CSE304", 3, 3, 0, 3 }, { "23CSE351", 3, 3, 0, 0 },
+            { "23CSE401", 4, 3, 0, 3 }, { "23CSE451", 4, 3, 0, 0 }, { "23CSE452", 4, 3, 0, 0 },
+    };
+
+    public static SampleCatalog campus(int departments) {
+        SampleCatalog c = new SampleCatalog();
+        long id = 1;
+        for (int d = 0; d < departments; d++) {
+            String dept = d == 0 ? "CSE" : "D" + d;
+
+            for (int i = 0; i < 6; i++) c.rooms.add(room(id++, dept + "-LH" + i, RoomType.LECTURE, 70));
+            for (int i = 0; i < 4; i++) c.rooms.add(room(id++, dept + "-LAB" + i, RoomType.LAB, 40));
+            c.rooms.add(room(id++, dept + "-SEM", RoomType.SEMINAR, 120));
+
+            for (int i = 0; i < 14; i++) c.faculty.add(faculty(id++, dept + " Prof " + i, dept, 5, 20));
+            for (int i = 0; i < 3; i++) c.faculty.add(faculty(id++, dept + " Lab " + i, dept, 6, 24));
+
+            for (int year = 1; year <= 4; year++) {
+                c.sections.add(section(id++, dept + "-A", dept, year));
+                c.sections.add(section(id++, dept + "-B", dept, year));
+            }
+
+            for (Object[] s : SUBJECTS) {
+                c.subjects.add(subject(id++, dept + s[0], dept, (int) s[1], (int) s[2], (int) s[3], (int) s[4]));
+            }
+        }
+        return c;
+    }
+
+    // Enough departments for the requested sections, trimmed to exactly that many
+    public static SampleCatalog withSections(int count) {
+        SampleCatalog c = campus((count + 7) / 8);
+        c.sections.subList(count, c.sections.size()).clear();
+        return c;
+    }
+
+    public ScheduleModelBuilder builder() {
+        return new ScheduleModelBuilder().sections(sections).subjects(subjects).faculty(faculty).rooms(rooms);
+    }
+
+    static Room room(long id, String name, RoomType type, int capacity) {
+        Room r = new Room();
+        r.setId(id);
+        r.setName(name);
+        r.setCode(name);
+        r.setType(type);
+        r.setCapacity(capacity);
+        return r;
+    }
+
+    static Faculty faculty(long id, String name, String dept, int perDay, int perWeek) {
+        Faculty f = new Faculty();
+        f.setId(id);
+        f.setName(name);
+        f.setDepartment(dept);
+        f.setActive(true);
+        f.setMaxHoursPerDay(perDay);
+        f.setMaxHoursPerWeek(perWeek);
+        return f;
+    }
+
+    static Section section(long id, String name, String dept, int year) {
+        Section s = new Section();
+        s.setId(id);
+        s.setName(name);
+        s.setDepartment(dept);
+        s.setYear(year);
+        s.setCapacity(60);
+        s.setStatus("ACTIVE");
+        return s;
+    }
+
+    static Subject subject(long id, String code, String dept, int year, int lecture, int tutorial, int lab) {
+        Subject s = new Subject();
+        s.setId(id);
+        s.setCode(code);
+        s.setName(code);
+        s.setDepartment(dept);
+        s.setYear(year);
+        s.setLectureHoursPerWeek(lecture);
+        s.setTutorialHoursPerWeek(tutorial);
+        s.setLabHoursPerWeek(lab);
+        return s;
+    }
+}
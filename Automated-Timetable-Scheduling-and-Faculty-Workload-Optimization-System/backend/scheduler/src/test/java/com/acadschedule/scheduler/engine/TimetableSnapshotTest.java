@@ -0,0 +1,81 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimetableSnapshotTest {
+
+    @Test
+    void roundTripsEveryFieldGroupedBySection() {
+        List<TimetableEntry> rows = solvedEntries();
+        TimetableSnapshot snapshot = TimetableSnapshot.wrap(ByteBuffer.wrap(TimetableSnapshot.encode(7L, rows)));
+
+        assertEquals(7L, snapshot.versionId());
+        assertEquals(rows.size(), snapshot.size());
+        for (TimetableEntry row : rows) {
+            List<TimetableEntry> section = snapshot.section(row.getSectionId());
+            TimetableEntry decoded = section.stream().filter(e -> e.getId().equals(row.getId())).findFirst().orElseThrow();
+            assertEquals(row.getDay(), decoded.getDay());
+            assertEquals(row.getTimeSlot(), decoded.getTimeSlot());
+            assertEquals(row.getSubjectCode(), decoded.getSubjectCode());
+            assertEquals(row.getSubjectName(), decoded.getSubjectName());
+            assertEquals(row.getFacultyName(), decoded.getFacultyName());
+            assertEquals(row.getRoomNumber(), decoded.getRoomNumber());
+            assertEquals(row.getType(), decoded.getType());
+            assertEquals(row.getSectionRefId(), decoded.getSectionRefId());
+            assertEquals(row.getSubjectId(), decoded.getSubjectId());
+            assertEquals(row.getFacultyId(), decoded.getFacultyId());
+            assertEquals(row.getRoomId(), decoded.getRoomId());
+            assertEquals(7L, decoded.getVersionId());
+        }
+        assertTrue(snapshot.section("no-such-section").isEmpty());
+    }
+
+    @Test
+    void keepsNullFields() {
+        TimetableEntry row = new TimetableEntry();
+        row.setId(1L);
+        row.setSectionId("1");
+        row.setDay("MONDAY");
+        TimetableSnapshot snapshot = TimetableSnapshot.wrap(ByteBuffer.wrap(TimetableSnapshot.encode(1L, List.of(row))));
+
+        assertEquals("MONDAY", snapshot.day(0));
+        assertNull(snapshot.facultyName(0));
+        assertNull(snapshot.entry(0).getRoomNumber());
+        assertNull(snapshot.facultyId(0));
+        assertNull(snapshot.entry(0).getRoomId());
+    }
+
+    @Test
+    void storesRepeatedStringsOnce() {
+        List<TimetableEntry> rows = solvedEntries();
+        byte[] encoded = TimetableSnapshot.encode(1L, rows);
+
+        // Fixed 72-byte tuples plus a dictionary that does not grow with the number of rows
+        assertTrue(encoded.length < rows.size() * 72 + 4096, "encoded " + encoded.length + " bytes");
+    }
+
+    @Test
+    void rejectsCorruptedBytes() {
+        byte[] encoded = TimetableSnapshot.encode(1L, solvedEntries());
+        encoded[encoded.length / 2] ^= 1;
+
+        assertThrows(IllegalArgumentException.class, () -> TimetableSnapshot.wrap(ByteBuffer.wrap(encoded)));
+    }
+
+    private static List<TimetableEntry> solvedEntries() {
+        List<TimetableEntry> rows = new ArrayList<>(
+                new TimetableSolver().solve(SampleCatalog.campus(3).builder().build()).toEntries());
+        for (int i = 0; i < rows.size(); i++) rows.get(i).setId(1000L + i);
+        return rows;
+    }
+}
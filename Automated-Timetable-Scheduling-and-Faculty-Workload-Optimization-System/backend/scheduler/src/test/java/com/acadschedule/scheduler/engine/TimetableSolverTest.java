@@ -0,0 +1,107 @@
+package com.acadschedule.scheduler.engine;
+
+import com.acadschedule.scheduler.entity.Faculty;
+import com.acadschedule.scheduler.entity.Room;
+import com.acadschedule.scheduler.entity.TimetableEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimetableSolverTest {
+
+    @Test
+    void placesEverySessionOfTheSeedCatalogWithoutClashes() {
+        ScheduleModel model = SampleCatalog.campus(1).builder().build();
+        SolverResult result = new TimetableSolver().solve(model);
+
+        assertEquals(0, result.getUnplacedSessions());
+        assertNoClashes(result.toEntries());
+    }
+
+    @Test
+    void respectsFacultyDailyAndWeeklyCaps() {
+        ScheduleModel model = SampleCatalog.campus(1).builder().build();
+        ScheduleState state = new TimetableSolver().solve(model).getState();
+
+        for (int f = 0; f < model.facultyCount(); f++) {
+            int week = 0;
+            for (int d = 0; d < SlotGrid.DAYS; d++) {
+                int day = Long.bitCount(state.facultyBusy(f, d));
+                assertTrue(day <= model.faculty(f).getMaxHoursPerDay());
+                week += day;
+            }
+            assertTrue(week <= model.faculty(f).getMaxHoursPerWeek());
+        }
+    }
+
+    @Test
+    void keepsOtherSectionsEntriesAsBusy() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> existing = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+
+        // Regenerate the first section only, around everybody else
+        ScheduleModel model = new ScheduleModelBuilder()
+                .sections(catalog.sections.subList(0, 1))
+                .subjects(catalog.subjects).faculty(catalog.faculty).rooms(catalog.rooms)
+                .occupied(existing)
+                .build();
+        SolverResult result = new TimetableSolver().solve(model);
+
+        String first = String.valueOf(catalog.sections.get(0).getId());
+        existing.removeIf(e -> e.getSectionId().equals(first));
+        existing.addAll(result.toEntries());
+        assertEquals(0, result.getUnplacedSessions());
+        assertNoClashes(existing);
+    }
+
+    @Test
+    void regeneratingAfterRenamesStillSeesTheOtherSectionsClasses() {
+        SampleCatalog catalog = SampleCatalog.campus(1);
+        List<TimetableEntry> existing = new TimetableSolver().solve(catalog.builder().build()).toEntries();
+        String first = String.valueOf(catalog.sections.get(0).getId());
+        existing.removeIf(e -> e.getSectionId().equals(first));
+
+        // Stored rows keep the old names until the version is refreshed; the ids still match
+        for (Faculty f : catalog.faculty) f.setName(f.getName() + " (renamed)");
+        for (Room r : catalog.rooms) r.setName(r.getName() + " (renamed)");
+        ScheduleModel model = new ScheduleModelBuilder()
+                .sections(catalog.sections.subList(0, 1))
+                .subjects(catalog.subjects).faculty(catalog.faculty).rooms(catalog.rooms)
+                .occupied(existing)
+                .build();
+
+        Map<Long, Integer> facultyIndex = new HashMap<>();
+        for (int f = 0; f < model.facultyCount(); f++) facultyIndex.put(model.faculty(f).getId(), f);
+        Map<Long, Integer> roomIndex = new HashMap<>();
+        for (int r = 0; r < model.roomCount(); r++) roomIndex.put(model.room(r).getId(), r);
+        for (TimetableEntry e : existing) {
+            int day = SlotGrid.dayIndex(e.getDay());
+            long bit = 1L << SlotGrid.slotIndex(e.getTimeSlot());
+            int f = facultyIndex.get(e.getFacultyId());
+            int r = roomIndex.get(e.getRoomId());
+            String slot = e.getDay() + " " + e.getTimeSlot();
+            assertTrue((model.fixedFacultyBusy[f * SlotGrid.DAYS + day] & bit) != 0, "faculty free at " + slot);
+            assertTrue((model.fixedRoomBusy[r * SlotGrid.DAYS + day] & bit) != 0, "room free at " + slot);
+        }
+        assertEquals(0, new TimetableSolver().solve(model).getUnplacedSessions());
+    }
+
+    static void assertNoClashes(List<TimetableEntry> entries) {
+        Set<String> faculty = new HashSet<>();
+        Set<String> rooms = new HashSet<>();
+        Set<String> sections = new HashSet<>();
+        for (TimetableEntry e : entries) {
+            String slot = e.getDay() + "|" + e.getTimeSlot() + "|";
+            assertTrue(faculty.add(slot + e.getFacultyName()), "faculty clash " + slot + e.getFacultyName());
+            assertTrue(rooms.add(slot + e.getRoomNumber()), "room clash " + slot + e.getRoomNumber());
+            assertTrue(sections.add(slot + e.getSectionId()), "section clash " + slot + e.getSectionId());
+        }
+    }
+}
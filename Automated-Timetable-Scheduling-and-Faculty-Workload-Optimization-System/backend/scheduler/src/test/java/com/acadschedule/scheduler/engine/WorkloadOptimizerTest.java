@@ -0,0 +1,51 @@
+package com.acadschedule.scheduler.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkloadOptimizerTest {
+
+    @Test
+    void neverReturnsAWorseTimetableAndKeepsItValid() {
+        ScheduleModel model = SampleCatalog.campus(2).builder().build();
+        SolverResult start = new TimetableSolver().solve(model);
+
+        WorkloadOptimizer.Result optimized = new WorkloadOptimizer(300, 7).optimize(start);
+        SolverResult result = optimized.getResult();
+
+        assertTrue(optimized.getIterations() > 0);
+        assertTrue(optimized.getBestScore() <= optimized.getInitialScore());
+        assertEquals(start.getPlacedSessions(), result.getPlacedSessions());
+        TimetableSolverTest.assertNoClashes(result.toEntries());
+    }
+
+    @Test
+    void trackedScoreMatchesAFullRescore() {
+        ScheduleModel model = SampleCatalog.campus(2).builder().build();
+        SolverResult start = new TimetableSolver().solve(model);
+
+        WorkloadOptimizer.Result optimized = new WorkloadOptimizer(200, 11).optimize(start);
+
+        assertEquals(WorkloadOptimizer.score(start), optimized.getInitialScore());
+        assertEquals(WorkloadOptimizer.score(optimized.getResult()), optimized.getBestScore());
+    }
+
+    @Test
+    void respectsFacultyCapsAfterReassigningCourses() {
+        ScheduleModel model = SampleCatalog.campus(2).builder().build();
+        ScheduleState state = new WorkloadOptimizer(200, 3)
+                .optimize(new TimetableSolver().solve(model)).getResult().getState();
+
+        for (int f = 0; f < model.facultyCount(); f++) {
+            int week = 0;
+            for (int d = 0; d < SlotGrid.DAYS; d++) {
+                int day = Long.bitCount(state.facultyBusy(f, d));
+                assertTrue(day <= model.faculty(f).getMaxHoursPerDay());
+                week += day;
+            }
+            assertTrue(week <= model.faculty(f).getMaxHoursPerWeek());
+        }
+    }
+}
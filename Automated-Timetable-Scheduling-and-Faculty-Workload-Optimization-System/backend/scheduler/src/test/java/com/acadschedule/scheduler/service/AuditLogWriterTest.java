@@ -0,0 +1,182 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.dto.AuditWriterStats;
+import com.acadschedule.scheduler.entity.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogWriterTest {
+
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void stopWriter() throws InterruptedException {
+        if (writer != null) writer.stop();
+    }
+
+    @Test
+    void flushesAFullBatchWithoutWaitingForTheInterval() {
+        writer = start(100, 3, 60_000);
+        for (int i = 0; i < 6; i++) writer.enqueue(log("row " + i));
+
+        await(() -> jdbc.rows().size() == 6);
+        assertEquals(List.of(3, 3), jdbc.batchSizes());
+    }
+
+    @Test
+    void flushesAPartialBatchOnceTheIntervalPasses() {
+        writer = start(100, 100, 200);
+        long started = System.nanoTime();
+        writer.enqueue(log("a"));
+        writer.enqueue(log("b"));
+
+        await(() -> jdbc.rows().size() == 2);
+        assertTrue(System.nanoTime() - started >= 100_000_000L, "written before the interval ran out");
+        assertEquals(List.of(2), jdbc.batchSizes());
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRow() {
+        jdbc.rejected = "bad";
+        writer = start(100, 3, 60_000);
+        writer.enqueue(log("a"));
+        writer.enqueue(log("bad"));
+        writer.enqueue(log("c"));
+
+        await(() -> writer.getStats().getFailed() == 1 && jdbc.rows().size() == 2);
+        assertEquals(List.of("a", "c"), descriptions(jdbc.rows()));
+        assertEquals(List.of(3, 1, 1, 1), jdbc.attemptSizes());
+        AuditWriterStats stats = writer.getStats();
+        assertEquals(2, stats.getWritten());
+        assertEquals(1, stats.getFailed());
+    }
+
+    @Test
+    void stopWritesWhatIsStillQueued() throws InterruptedException {
+        writer = start(100, 100, 60_000);
+        for (int i = 0; i < 5; i++) writer.enqueue(log("row " + i));
+
+        writer.stop();
+        writer = null;
+        assertEquals(5, jdbc.rows().size());
+    }
+
+    @Test
+    void stopWaitsForACallerThatIsStillQueuingARow() throws InterruptedException {
+        // The writer thread is stuck in a slow insert and the queue is full, so the caller waits for room
+        jdbc.holdFirstWrite();
+        writer = new AuditLogWriter(jdbc, 1, 1, 60_000, 5_000);
+        writer.start();
+        writer.enqueue(log("being written"));
+        await(jdbc::isHolding);
+        writer.enqueue(log("queued"));
+        Thread caller = new Thread(() -> writer.enqueue(log("waiting for room")));
+        caller.start();
+        await(() -> caller.getState() == Thread.State.TIMED_WAITING);
+
+        Thread stopper = new Thread(() -> {
+            try {
+                writer.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopper.start();
+        Thread.sleep(50);
+        jdbc.release();
+        stopper.join();
+        caller.join();
+
+        assertEquals(List.of("being written", "queued", "waiting for room"), descriptions(jdbc.rows()));
+        writer = null;
+    }
+
+    private AuditLogWriter start(int capacity, int batchSize, long flushIntervalMillis) {
+        AuditLogWriter started = new AuditLogWriter(jdbc, capacity, batchSize, flushIntervalMillis, 1);
+        started.start();
+        return started;
+    }
+
+    private static AuditLog log(String description) {
+        return new AuditLog("FACULTY", "UPDATE", description, "admin@example.edu");
+    }
+
+    private static List<String> descriptions(List<AuditLog> logs) {
+        return logs.stream().map(AuditLog::getDescription).toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    // Keeps inserted rows in memory; any batch holding the rejected description fails as a whole
+    private static final class FakeJdbc extends JdbcTemplate {
+        private final List<AuditLog> rows = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final List<Integer> attemptSizes = new ArrayList<>();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean hold;
+        private volatile boolean holding;
+        volatile String rejected;
+
+        void holdFirstWrite() { hold = true; }
+        boolean isHolding() { return holding; }
+        void release() { released.countDown(); }
+
+        synchronized List<AuditLog> rows() { return new ArrayList<>(rows); }
+        synchronized List<Integer> batchSizes() { return new ArrayList<>(batchSizes); }
+        synchronized List<Integer> attemptSizes() { return new ArrayList<>(attemptSizes); }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> setter) {
+            List<AuditLog> logs = new ArrayList<>((Collection<AuditLog>) batchArgs);
+            if (hold) {
+                hold = false;
+                holding = true;
+                awaitRelease();
+            }
+            synchronized (this) {
+                attemptSizes.add(logs.size());
+                if (rejected != null && logs.stream().anyMatch(l -> rejected.equals(l.getDescription()))) {
+                    throw new DataIntegrityViolationException("value too long");
+                }
+                rows.addAll(logs);
+                batchSizes.add(logs.size());
+            }
+            return new int[0][];
+        }
+
+        // Like a driver call, not cut short by stop() interrupting the writer thread
+        private void awaitRelease() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    released.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+}
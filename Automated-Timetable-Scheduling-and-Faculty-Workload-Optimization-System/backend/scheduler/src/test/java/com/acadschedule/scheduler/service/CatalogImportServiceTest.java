@@ -0,0 +1,236 @@
+package com.acadschedule.scheduler.service;
+
+import com.acadschedule.scheduler.cache.ReferenceDataCache;
+import com.acadschedule.scheduler.dto.ImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CatalogImportServiceTest {
+
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private final CatalogImportService service = service(jdbc);
+
+    @Test
+    void insertsNewKeysAndUpdatesExistingOnes() {
+        jdbc.seed("faculty", "employee_id", "F1", "name", "Old Name");
+
+        ImportReport report = service.importFaculty(input("[{\"employeeId\":\"F1\",\"name\":\"A. Rao\"},"
+                + "{\"employeeId\":\"F2\",\"name\":\"B. Iyer\"}]"), false);
+
+        assertTrue(report.isCommitted());
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getUpdated());
+        assertEquals("A. Rao", jdbc.row("faculty", "employee_id", "F1").get("name"));
+        assertEquals("B. Iyer", jdbc.row("faculty", "employee_id", "F2").get("name"));
+        assertEquals(2, jdbc.table("faculty").size());
+    }
+
+    @Test
+    void partialRecordsUpdateOnlyTheirFields() {
+        long id = jdbc.seed("faculty", "employee_id", "F1", "name", "A. Rao", "email", "rao@example.edu",
+                "department", "CSE", "max_hours_per_week", 18, "active", true);
+        jdbc.seed("faculty_qualifications", "faculty_id", id, "qualifications", "PhD");
+
+        ImportReport report = service.importFaculty(input("employeeId,maxHoursPerWeek\nF1,12\n"), true);
+
+        assertTrue(report.isCommitted());
+        Map<String, Object> row = jdbc.row("faculty", "employee_id", "F1");
+        assertEquals(12, row.get("max_hours_per_week"));
+        assertEquals("A. Rao", row.get("name"));
+        assertEquals("rao@example.edu", row.get("email"));
+        assertEquals("CSE", row.get("department"));
+        assertEquals(true, row.get("active"));
+        assertEquals(List.of("PhD"), jdbc.values("faculty_qualifications", "faculty_id", id, "qualifications"));
+        assertTrue(jdbc.statements.contains("UPDATE faculty SET employee_id = ?, max_hours_per_week = ? WHERE id = ?"));
+    }
+
+    @Test
+    void newFacultyIsActiveUnlessTheFileSaysOtherwise() {
+        ImportReport report = service.importFaculty(input("employeeId,name,active\nF1,A. Rao,\nF2,B. Iyer,false\n"), true);
+
+        assertTrue(report.isCommitted());
+        assertEquals(true, jdbc.row("faculty", "employee_id", "F1").get("active"));
+        assertEquals(false, jdbc.row("faculty", "employee_id", "F2").get("active"));
+    }
+
+    @Test
+    void partialRecordForANewKeyNeedsAName() {
+        jdbc.seed("faculty", "employee_id", "F1", "name", "A. Rao");
+
+        ImportReport report = service.importFaculty(input("employeeId,maxHoursPerWeek\nF1,12\nF9,10\n"), true);
+
+        assertFalse(report.isCommitted());
+        assertEquals(List.of("Line 3: name is required for a new employeeId 'F9'"), report.getErrors());
+        assertTrue(jdbc.statements.isEmpty());
+    }
+
+    @Test
+    void duplicateKeysRejectTheWholeFile() {
+        ImportReport report = service.importSubjects(input("[{\"code\":\"CS101\",\"name\":\"Programming\"},"
+                + "{\"code\":\"CS102\",\"name\":\"Data Structures\"},{\"code\":\"CS101\",\"name\":\"Again\"}]"), false);
+
+        assertFalse(report.isCommitted());
+        assertEquals(3, report.getRecords());
+        assertEquals(List.of("Record 3: duplicate code 'CS101'"), report.getErrors());
+        assertTrue(jdbc.statements.isEmpty());
+    }
+
+    @Test
+    void csvListFieldsSplitOnSemicolonsAndReplaceTheOldList() {
+        long id = jdbc.seed("rooms", "code", "R1", "name", "Lab 1");
+        jdbc.seed("room_equipment", "room_id", id, "equipment", "Chalkboard");
+
+        ImportReport report = service.importRooms(input("code,name,equipment\n"
+                + "R1,Lab 1,\"Projector; Computers;;\"\nR2,Hall,\n"), true);
+
+        assertTrue(report.isCommitted());
+        assertEquals(List.of("Projector", "Computers"), jdbc.values("room_equipment", "room_id", id, "equipment"));
+        long hall = (Long) jdbc.row("rooms", "code", "R2").get("id");
+        assertEquals(List.of(), jdbc.values("room_equipment", "room_id", hall, "equipment"));
+    }
+
+    @Test
+    void listFieldLeftOutOfTheFileKeepsTheOldList() {
+        long id = jdbc.seed("rooms", "code", "R1", "name", "Lab 1");
+        jdbc.seed("room_equipment", "room_id", id, "equipment", "Chalkboard");
+
+        service.importRooms(input("code,capacity\nR1,40\n"), true);
+
+        assertEquals(40, jdbc.row("rooms", "code", "R1").get("capacity"));
+        assertEquals(List.of("Chalkboard"), jdbc.values("room_equipment", "room_id", id, "equipment"));
+    }
+
+    private static CatalogImportService service(FakeJdbc jdbc) {
+        PlatformTransactionManager transactions = new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() { return new Object(); }
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) { }
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) { }
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) { }
+        };
+        return new CatalogImportService(jdbc, transactions, new ObjectMapper(),
+                new ReferenceDataCache(transactions, 100), mock(AuditLogService.class), 2, 1000);
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Runs the service's INSERT / UPDATE ... WHERE id / DELETE ... WHERE owner statements against in-memory tables
+    private static final class FakeJdbc extends JdbcTemplate {
+        final Map<String, TreeMap<Long, Map<String, Object>>> tables = new HashMap<>();
+        final List<String> statements = new ArrayList<>();
+        long nextId = 1;
+
+        long seed(String table, Object... columnsAndValues) {
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < columnsAndValues.length; i += 2) row.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+            long id = nextId++;
+            row.put("id", id);
+            table(table).put(id, row);
+            return id;
+        }
+
+        TreeMap<Long, Map<String, Object>> table(String name) {
+            return tables.computeIfAbsent(name, k -> new TreeMap<>());
+        }
+
+        Map<String, Object> row(String table, String column, Object value) {
+            return table(table).values().stream().filter(r -> value.equals(r.get(column))).findFirst().orElseThrow();
+        }
+
+        List<Object> values(String table, String owner, long id, String column) {
+            return table(table).values().stream().filter(r -> Long.valueOf(id).equals(r.get(owner)))
+                    .map(r -> r.get(column)).toList();
+        }
+
+        // The advisory lock
+        @Override
+        public void query(String sql, RowCallbackHandler handler, Object... args) {
+        }
+
+        // SELECT id, <key> FROM <table> ORDER BY id
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            String[] words = sql.split("[ ,]+");
+            for (Map<String, Object> row : table(words[4]).values()) {
+                ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                        (proxy, method, args) -> method.getName().equals("getLong") ? row.get("id") : row.get(words[2]));
+                try {
+                    handler.processRow(rs);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> setter) {
+            if (!batchArgs.isEmpty()) statements.add(sql);
+            for (T arg : batchArgs) {
+                Map<Integer, Object> params = new HashMap<>();
+                PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                            if (method.getName().startsWith("set")) params.put((Integer) args[0], args[1]);
+                            return null;
+                        });
+                try {
+                    setter.setValues(ps, arg);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                execute(sql, params);
+            }
+            return new int[0][];
+        }
+
+        private void execute(String sql, Map<Integer, Object> params) {
+            String table = sql.split(" ")[sql.startsWith("UPDATE") ? 1 : 2];
+            if (sql.startsWith("INSERT")) {
+                String[] columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')')).split(", ");
+                Object[] row = new Object[columns.length * 2];
+                for (int i = 0; i < columns.length; i++) {
+                    row[2 * i] = columns[i];
+                    row[2 * i + 1] = params.get(i + 1);
+                }
+                seed(table, row);
+            } else if (sql.startsWith("UPDATE")) {
+                String[] columns = sql.substring(sql.indexOf("SET ") + 4, sql.indexOf(" WHERE")).split(" = \\?,? ?");
+                Map<String, Object> row = table(table).get((Long) params.get(columns.length + 1));
+                for (int i = 0; i < columns.length; i++) row.put(columns[i], params.get(i + 1));
+            } else {
+                String owner = sql.substring(sql.indexOf("WHERE ") + 6, sql.indexOf(" = ?"));
+                table(table).values().removeIf(r -> params.get(1).equals(r.get(owner)));
+            }
+        }
+    }
+}
@@ -178,13 +178,53 @@ export const toggleConstraintStatus = async (id: string) => {
 /* ===========================
    TIMETABLE API ✅ FIXED
    =========================== */
+export interface GenerationJobStatus {
+  id: string;
+  type: "ALL" | "SECTION";
+  sectionId: number | null;
+  state: "QUEUED" | "RUNNING" | "SUCCEEDED" | "FAILED" | "CANCELLED";
+  sectionsTotal: number;
+  sectionsPlaced: number;
+  currentScore: number;
+  bestScore: number;
+  iterations: number;
+  error: string | null;
+  // eslint-disable-next-line @typescript-eslint/no-explicit-any
+  result: any;
+}
+
+// Follows a background generation job over SSE until it finishes
+const waitForJob = (job: GenerationJobStatus, onProgress?: (status: GenerationJobStatus) => void) =>
+  new Promise<GenerationJobStatus>((resolve, reject) => {
+    const events = new EventSource(`${API_BASE_URL}/api/timetable/jobs/${job.id}/events`);
+    events.addEventListener("progress", (e) => onProgress?.(JSON.parse((e as MessageEvent).data)));
+    events.addEventListener("done", (e) => {
+      events.close();
+      const status: GenerationJobStatus = JSON.parse((e as MessageEvent).data);
+      onProgress?.(status);
+      if (status.state === "SUCCEEDED") resolve(status);
+      else reject(new Error(status.error ?? `Generation ${status.state.toLowerCase()}`));
+    });
+    events.onerror = () => {
+      events.close();
+      reject(new Error("Lost connection to generation job"));
+    };
+  });
+
 // SECTION ID IS STRING (UUID)
-export const generateTimetable = async (sectionId: string) => {
-  await API.post(`/timetable/generate/${sectionId}`);
+export const generateTimetable = async (sectionId: string, onProgress?: (status: GenerationJobStatus) => void) => {
+  const res = await API.post(`/timetable/jobs/generate/${sectionId}`);
+  return waitForJob(res.data, onProgress);
+};
+
+export const generateAllTimetables = async (onProgress?: (status: GenerationJobStatus) => void) => {
+  const res = await API.post(`/timetable/jobs/generate-all`);
+  return waitForJob(res.data, onProgress);
 };
 
-export const generateAllTimetables = async () => {
-  await API.post(`/timetable/generate-all`);
+export const cancelGenerationJob = async (jobId: string) => {
+  const res = await API.delete(`/timetable/jobs/${jobId}`);
+  return res.data as GenerationJobStatus;
 };
 
 export const getTimetable = async (sectionId: string) => {
@@ -197,6 +237,17 @@ export const getAllTimetableEntries = async () => {
   return Array.isArray(res.data) ? res.data : [];
 };
 
+// Versions, newest first; generation creates a new one and publishing switches readers to it
+export const getTimetableVersions = async () => {
+  const res = await API.get("/timetable/versions");
+  return Array.isArray(res.data) ? res.data : [];
+};
+
+export const publishTimetableVersion = async (versionId: number) => {
+  const res = await API.post(`/timetable/versions/${versionId}/publish`);
+  return res.data;
+};
+
 /* ===========================
    AUDIT LOG API
    =========================== */
@@ -209,12 +260,24 @@ export interface AuditLog {
   timestamp: string;
 }
 
-export const getAuditLogs = async (): Promise<AuditLog[]> => {
-  try {
-    const res = await API.get("/audit-logs");
-    return Array.isArray(res.data) ? res.data : [];
-  } catch (e) {
-    console.error("Failed to fetch audit logs", e);
-    return [];
-  }
+export interface AuditLogPage {
+  items: AuditLog[];
+  nextCursor: number | null;
+  hasMore: boolean;
+}
+
+export interface AuditLogQuery {
+  before?: number;
+  entityType?: string;
+  actionType?: string;
+  userEmail?: string;
+  from?: string; // ISO date-time
+  to?: string;
+  limit?: number;
+}
+
+// Keyset page, newest first; pass nextCursor as `before` for the next one
+export const getAuditLogPage = async (query: AuditLogQuery = {}): Promise<AuditLogPage> => {
+  const res = await API.get("/audit-logs/page", { params: query });
+  return res.data;
 };
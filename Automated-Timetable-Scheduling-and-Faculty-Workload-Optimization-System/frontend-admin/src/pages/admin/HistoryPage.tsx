@@ -1,11 +1,13 @@
-import { useMemo, useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { AdminLayout } from '@/components/layout/AdminLayout';
 import { Button } from '@/components/ui/button';
 import { Card, CardContent } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
+import { Input } from '@/components/ui/input';
 import {
   RotateCcw,
   Search,
+  Loader2,
   Download,
   Filter,
   List,
@@ -28,12 +30,16 @@ import {
 } from "@/components/ui/popover";
 
 import { Calendar } from "@/components/ui/calendar";
-import { format } from "date-fns";
+import { addDays, format, startOfDay } from "date-fns";
 import { DateRange } from "react-day-picker";
-import { getAuditLogs, AuditLog } from "@/lib/api";
+import { getAuditLogPage, AuditLog, AuditLogQuery } from "@/lib/api";
 
 type HistoryType = 'MANUAL' | 'SYSTEM' | 'EXPORT';
 
+// Action types the backend writes (see AuditLogAspect and the catalog import)
+const ACTION_TYPES = ['CREATE', 'UPDATE', 'DELETE', 'IMPORT'] as const;
+type ActionFilter = 'ALL' | (typeof ACTION_TYPES)[number];
+
 type HistoryEntry = {
   id: string;
   user: string;
@@ -53,62 +59,78 @@ const badgeStyle: Record<HistoryType, string> = {
   EXPORT: 'bg-blue-100 text-blue-700 border-blue-200',
 };
 
+// LocalDateTime as the /audit-logs/page endpoint parses it (no zone)
+const localDateTime = (d: Date) => format(d, "yyyy-MM-dd'T'HH:mm:ss");
+
+const toHistoryEntry = (log: AuditLog): HistoryEntry => {
+  // FIX: convert postgres timestamp -> ISO format (handle spaces or missing T)
+  const isoTime = log.timestamp.includes('T') ? log.timestamp : log.timestamp.replace(' ', 'T');
+  const dateObj = new Date(isoTime);
+
+  return {
+    id: String(log.id),
+    user: log.userEmail,
+    role: log.userEmail === 'System/Admin' ? 'System Process' : 'Admin',
+    action: `${log.actionType} ${log.entityType}`,
+    description: log.description.length > 50 ? log.description.substring(0, 50) + '...' : log.description,
+    type: log.userEmail === 'System/Admin' ? 'SYSTEM' : 'MANUAL',
+    timestamp: dateObj.toLocaleTimeString([], { hour: '2-digit', minute: '2-digit' }),
+    date: dateObj.toLocaleDateString(),
+    rollback: false,
+    avatar: undefined
+  };
+};
+
 export default function HistoryPage() {
-  const [search, setSearch] = useState('');
-  const [typeFilter, setTypeFilter] = useState<'ALL' | HistoryType>('ALL');
-  const [pageSize, setPageSize] = useState(5);
-  const [page, setPage] = useState(1);
-  const [dateRange, setDateRange] = useState<DateRange | undefined>({
-    from: new Date(2024, 0, 1), // Start from Jan 2024
-    to: new Date(2027, 0, 1), // To Jan 2027
-  });
+  const [userFilter, setUserFilter] = useState('');
+  const [userEmail, setUserEmail] = useState('');
+  const [actionFilter, setActionFilter] = useState<ActionFilter>('ALL');
+  const [pageSize, setPageSize] = useState(25);
+  const [dateRange, setDateRange] = useState<DateRange | undefined>();
 
   const [logs, setLogs] = useState<HistoryEntry[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [loading, setLoading] = useState(false);
+  // Bumped whenever the filters change, so a slow response for old filters is dropped
+  const requestId = useRef(0);
 
+  // Apply the email filter once typing pauses instead of on every keystroke
   useEffect(() => {
-    getAuditLogs().then(data => {
-      const mapped: HistoryEntry[] = data.map(log => {
-        // FIX: convert postgres timestamp -> ISO format (handle spaces or missing T)
-        const isoTime = log.timestamp.includes('T') ? log.timestamp : log.timestamp.replace(' ', 'T');
-        const dateObj = new Date(isoTime);
-
-        return {
-          id: String(log.id),
-          user: log.userEmail,
-          role: log.userEmail === 'System/Admin' ? 'System Process' : 'Admin',
-          action: `${log.actionType} ${log.entityType}`,
-          description: log.description.length > 50 ? log.description.substring(0, 50) + '...' : log.description,
-          type: log.userEmail === 'System/Admin' ? 'SYSTEM' : 'MANUAL',
-          timestamp: dateObj.toLocaleTimeString([], { hour: '2-digit', minute: '2-digit' }),
-          date: dateObj.toLocaleDateString(),
-          rollback: false,
-          avatar: undefined
-        };
-      });
-      setLogs(mapped);
-    });
-  }, []);
-
-  /* ---------- FILTER LOGIC ---------- */
-  const filtered = useMemo(() => {
-    return logs.filter((row) => {
-      const matchesSearch =
-        row.action.toLowerCase().includes(search.toLowerCase()) ||
-        row.user.toLowerCase().includes(search.toLowerCase());
-
-      const matchesType =
-        typeFilter === 'ALL' || row.type === typeFilter;
-
-      return matchesSearch && matchesType;
-    });
-  }, [search, typeFilter, logs]);
-
-  /* ---------- PAGINATION ---------- */
-  const totalPages = Math.ceil(filtered.length / pageSize);
-  const paginated = filtered.slice(
-    (page - 1) * pageSize,
-    page * pageSize
-  );
+    const timer = setTimeout(() => setUserEmail(userFilter.trim()), 400);
+    return () => clearTimeout(timer);
+  }, [userFilter]);
+
+  // Filters are applied by the server; "Load more" follows nextCursor
+  const fetchPage = async (before: number | null) => {
+    const id = before === null ? ++requestId.current : requestId.current;
+    const query: AuditLogQuery = { limit: pageSize };
+    if (before !== null) query.before = before;
+    if (actionFilter !== 'ALL') query.actionType = actionFilter;
+    if (userEmail) query.userEmail = userEmail;
+    if (dateRange?.from) {
+      // A one-day pick has no "to"; the server treats "to" as exclusive, so send the next midnight
+      query.from = localDateTime(startOfDay(dateRange.from));
+      query.to = localDateTime(addDays(startOfDay(dateRange.to ?? dateRange.from), 1));
+    }
+
+    setLoading(true);
+    try {
+      const page = await getAuditLogPage(query);
+      if (id !== requestId.current) return;
+      const mapped = page.items.map(toHistoryEntry);
+      setLogs(prev => (before === null ? mapped : [...prev, ...mapped]));
+      setNextCursor(page.hasMore ? page.nextCursor : null);
+    } catch (e) {
+      console.error("Failed to fetch audit logs", e);
+    } finally {
+      if (id === requestId.current) setLoading(false);
+    }
+  };
+
+  useEffect(() => {
+    fetchPage(null);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [actionFilter, userEmail, dateRange, pageSize]);
 
   return (
     <AdminLayout
@@ -194,29 +216,32 @@ export default function HistoryPage() {
 
               {/* Action Type */}
               <Select
-                value={typeFilter}
-                onValueChange={(v) => setTypeFilter(v as 'ALL' | HistoryType)}
+                value={actionFilter}
+                onValueChange={(v) => setActionFilter(v as ActionFilter)}
               >
                 <SelectTrigger className="w-[190px] rounded-full border bg-background px-5 py-3 text-sm font-medium">
                   <SelectValue placeholder="All Action Types" />
                 </SelectTrigger>
                 <SelectContent>
                   <SelectItem value="ALL">All Action Types</SelectItem>
-                  <SelectItem value="MANUAL">Manual</SelectItem>
-                  <SelectItem value="SYSTEM">System</SelectItem>
-                  <SelectItem value="EXPORT">Export</SelectItem>
+                  {ACTION_TYPES.map((t) => (
+                    <SelectItem key={t} value={t}>
+                      {t.charAt(0) + t.slice(1).toLowerCase()}
+                    </SelectItem>
+                  ))}
                 </SelectContent>
               </Select>
 
-              {/* Users */}
-              <Select disabled>
-                <SelectTrigger className="w-[150px] rounded-full border bg-background px-5 py-3 text-sm font-medium opacity-70">
-                  <SelectValue placeholder="All Users" />
-                </SelectTrigger>
-                <SelectContent>
-                  <SelectItem value="ALL">All Users</SelectItem>
-                </SelectContent>
-              </Select>
+              {/* User (exact email, matched by the server) */}
+              <div className="relative w-[240px]">
+                <Search className="absolute left-4 top-1/2 h-4 w-4 -translate-y-1/2 text-muted-foreground" />
+                <Input
+                  placeholder="User email"
+                  value={userFilter}
+                  onChange={(e) => setUserFilter(e.target.value)}
+                  className="rounded-full pl-10"
+                />
+              </div>
 
               {/* Date Range */}
               <Popover>
@@ -226,12 +251,12 @@ export default function HistoryPage() {
                       calendar_today
                     </span>
                     <span>
-                      {dateRange?.from && dateRange?.to
+                      {dateRange?.from
                         ? `${format(dateRange.from, "MMM d, yyyy")} - ${format(
-                          dateRange.to,
+                          dateRange.to ?? dateRange.from,
                           "MMM d, yyyy"
                         )}`
-                        : "Select date range"}
+                        : "All dates"}
                     </span>
                   </button>
                 </PopoverTrigger>
@@ -243,25 +268,27 @@ export default function HistoryPage() {
                     onSelect={setDateRange}
                     numberOfMonths={2}
                   />
+                  {dateRange?.from && (
+                    <Button variant="ghost" size="sm" className="w-full" onClick={() => setDateRange(undefined)}>
+                      Clear dates
+                    </Button>
+                  )}
                 </PopoverContent>
               </Popover>
 
               {/* Show entries */}
               <Select
                 value={String(pageSize)}
-                onValueChange={(v) => {
-                  setPageSize(Number(v));
-                  setPage(1);
-                }}
+                onValueChange={(v) => setPageSize(Number(v))}
               >
                 <SelectTrigger className="w-[130px] rounded-full border bg-background px-5 py-3 text-sm font-medium">
-                  <SelectValue placeholder="Show 5" />
+                  <SelectValue placeholder="Load 25" />
                 </SelectTrigger>
                 <SelectContent>
-                  <SelectItem value="3">Show 3</SelectItem>
-                  <SelectItem value="5">Show 5</SelectItem>
-                  <SelectItem value="10">Show 10</SelectItem>
-                  <SelectItem value="25">Show 25</SelectItem>
+                  <SelectItem value="10">Load 10</SelectItem>
+                  <SelectItem value="25">Load 25</SelectItem>
+                  <SelectItem value="50">Load 50</SelectItem>
+                  <SelectItem value="100">Load 100</SelectItem>
                 </SelectContent>
               </Select>
 
@@ -295,7 +322,7 @@ export default function HistoryPage() {
               </thead>
 
               <tbody>
-                {paginated.map((row) => (
+                {logs.map((row) => (
                   <tr
                     key={row.id}
                     className="border-b border-muted/30 last:border-0 hover:bg-muted/20 transition-colors"
@@ -376,18 +403,23 @@ export default function HistoryPage() {
             {/* FOOTER */}
             <div className="flex items-center justify-between px-8 py-6 text-sm text-muted-foreground border-t border-muted/30 bg-muted/20">
               <span className="font-medium">
-                Showing {(page - 1) * pageSize + 1} to{' '}
-                {Math.min(page * pageSize, filtered.length)} of {filtered.length} entries
+                {logs.length === 0 && !loading
+                  ? 'No entries match these filters'
+                  : `Showing ${logs.length} ${nextCursor !== null ? 'most recent ' : ''}entries`}
               </span>
 
-              <div className="flex items-center gap-2">
-                <Button variant="ghost" size="sm" className="h-9 w-9 p-0 rounded-full hover:bg-muted">‹</Button>
-                <Button className="rounded-full h-9 w-9 p-0 bg-primary text-primary-foreground hover:bg-primary/90">1</Button>
-                <Button variant="ghost" className="rounded-full h-9 w-9 p-0 hover:bg-muted">2</Button>
-                <Button variant="ghost" className="rounded-full h-9 w-9 p-0 hover:bg-muted">3</Button>
-                <span className="px-2">…</span>
-                <Button variant="ghost" size="sm" className="h-9 w-9 p-0 rounded-full hover:bg-muted">›</Button>
-              </div>
+              {nextCursor !== null && (
+                <Button
+                  variant="outline"
+                  size="sm"
+                  className="rounded-full gap-2 px-4"
+                  disabled={loading}
+                  onClick={() => fetchPage(nextCursor)}
+                >
+                  {loading && <Loader2 className="h-4 w-4 animate-spin" />}
+                  Load more
+                </Button>
+              )}
             </div>
           </CardContent>
         </Card>